@@ -0,0 +1,96 @@
+package skcc.arch.app.cache;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 비동기 캐시 API
+ * <p>
+ * Redis 는 Lettuce reactive API 로 요청 스레드를 점유하지 않고 조회, 저장한다. ({@link RedisCacheService})
+ * 메모리 캐시(caffeine, offheap)는 블로킹 I/O 가 없으므로 호출 스레드에서 처리하고 완료된 future 를 반환한다. ({@link #of(CacheService)})
+ * reactive 경로에서는 {@code Mono.fromFuture(...)} 로 사용한다.
+ */
+public interface AsyncCacheService {
+
+    <T> CompletableFuture<T> getAsync(String key, Class<T> type);
+
+    CompletableFuture<Void> putAsync(String key, Object value);
+
+    CompletableFuture<Void> evictAsync(String key);
+
+    /**
+     * 다건 조회 (기본 구현은 키별 getAsync 를 동시에 요청)
+     */
+    default <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, Class<T> type) {
+        List<String> requestKeys = List.copyOf(keys);
+        List<CompletableFuture<T>> futures = requestKeys.stream().map(key -> getAsync(key, type)).toList();
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).thenApply(ignored -> {
+            Map<String, T> result = new HashMap<>();
+            for (int i = 0; i < requestKeys.size(); i++) {
+                T value = futures.get(i).join();
+                if (value != null) {
+                    result.put(requestKeys.get(i), value);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * 비동기 API 를 지원하면 그대로, 아니면 동기 호출 결과를 완료된 future 로 반환하는 어댑터
+     */
+    static AsyncCacheService of(CacheService cacheService) {
+        if (cacheService instanceof AsyncCacheService asyncCacheService) {
+            return asyncCacheService;
+        }
+        return completed(cacheService);
+    }
+
+    /**
+     * 동기 호출 결과를 완료된 future 로 반환 (예외는 실패한 future)
+     */
+    static AsyncCacheService completed(CacheService cacheService) {
+        return new AsyncCacheService() {
+            @Override
+            public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+                try {
+                    return CompletableFuture.completedFuture(cacheService.get(key, type));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public CompletableFuture<Void> putAsync(String key, Object value) {
+                try {
+                    cacheService.put(key, value);
+                    return CompletableFuture.completedFuture(null);
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public CompletableFuture<Void> evictAsync(String key) {
+                try {
+                    cacheService.evict(key);
+                    return CompletableFuture.completedFuture(null);
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+
+            @Override
+            public <T> CompletableFuture<Map<String, T>> getAllAsync(Collection<String> keys, Class<T> type) {
+                try {
+                    return CompletableFuture.completedFuture(cacheService.getAll(keys, type));
+                } catch (RuntimeException e) {
+                    return CompletableFuture.failedFuture(e);
+                }
+            }
+        };
+    }
+}
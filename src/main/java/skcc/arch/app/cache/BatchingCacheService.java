@@ -0,0 +1,209 @@
+package skcc.arch.app.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 동시 조회 일괄 처리 (redis 모드, DataLoader 방식)
+ * <p>
+ * 여러 스레드가 거의 같은 시각에 서로 다른 키를 get 하면 키마다 Redis 왕복이 발생한다.
+ * 조회 요청을 window 동안(또는 maxBatchSize 건이 될 때까지) 모아 getAll(MGET) 1회로 조회하고 각 요청의 future 를 완료한다.
+ * <ul>
+ *     <li>같은 배치의 같은 키는 한 번만 조회한다.</li>
+ *     <li>refresh-ahead 대상 그룹(loader + refreshAfterWrite)도 일괄 처리한다. 재적재 판단은 delegate 의 getAll 이 키마다 수행한다. (RedisCacheService)</li>
+ *     <li>일괄 조회는 확률적 조기 만료를 적용하지 않는다. (getAll 과 동일)</li>
+ * </ul>
+ */
+public class BatchingCacheService implements CacheService, AsyncCacheService {
+
+    public static final String BACKEND = "batch";
+
+    private final CacheService delegate;
+    private final CacheMetrics cacheMetrics;
+    private final long windowNanos;
+    private final int maxBatchSize;
+    private final ScheduledExecutorService scheduler;
+    private final Executor dispatchExecutor;
+
+    private final Object lock = new Object();
+    private Map<String, List<CompletableFuture<Object>>> pending = new LinkedHashMap<>(); // lock
+    private ScheduledFuture<?> scheduledDispatch; // lock
+
+    /**
+     * @param delegate 원격 캐시 (getAll 이 1회 왕복이고 refresh-ahead 판단을 키마다 수행하는 구현체)
+     */
+    public BatchingCacheService(CacheService delegate, CacheProperties.Batching properties, CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.cacheMetrics = cacheMetrics;
+        this.windowNanos = Math.max(1, properties.getWindow().toNanos());
+        this.maxBatchSize = Math.max(1, properties.getMaxBatchSize());
+        this.scheduler = CacheExecutors.newScheduler("cache-batch-timer");
+        this.dispatchExecutor = CacheExecutors.newBoundedExecutor("cache-batch", properties.getThreads(), properties.getQueueCapacity());
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        try {
+            return type.cast(enqueue(key).join());
+        } catch (CompletionException e) {
+            // 호출 측(MyCacheService)이 단건 조회와 같은 예외를 받도록 원인 예외 전달
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        return enqueue(key).thenApply(type::cast);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        return AsyncCacheService.of(delegate).putAsync(key, value);
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return AsyncCacheService.of(delegate).evictAsync(key);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        return delegate.putIfNewer(key, value, version);
+    }
+
+    @Override
+    public void evict(String key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        return delegate.getAll(keys, type);
+    }
+
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return delegate.peekAll(keys, type);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        delegate.putAll(entries);
+    }
+
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        delegate.putAllIfNewer(entries);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        delegate.evictAll(keys);
+    }
+
+    @Override
+    public void clearAll() {
+        delegate.clearAll();
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        delegate.clearByCacheGroup(cacheGroupName);
+    }
+
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return delegate.tryLock(key, leaseTime);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        delegate.unlock(key, token);
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        delegate.registerLoader(cacheGroupName, loader);
+    }
+
+    /**
+     * 조회 요청 등록 - 첫 요청이 window 타이머를 시작하고, maxBatchSize 에 도달하면 즉시 조회
+     */
+    private CompletableFuture<Object> enqueue(String key) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        Map<String, List<CompletableFuture<Object>>> full = null;
+        synchronized (lock) {
+            pending.computeIfAbsent(key, k -> new ArrayList<>(1)).add(future);
+            if (pending.size() >= maxBatchSize) {
+                full = takePending();
+            } else if (scheduledDispatch == null) {
+                scheduledDispatch = scheduler.schedule(this::dispatchPending, windowNanos, TimeUnit.NANOSECONDS);
+            }
+        }
+        if (full != null) {
+            dispatch(full); // 배치를 채운 호출 스레드에서 조회
+        }
+        return future;
+    }
+
+    private Map<String, List<CompletableFuture<Object>>> takePending() {
+        Map<String, List<CompletableFuture<Object>>> batch = pending;
+        pending = new LinkedHashMap<>();
+        if (scheduledDispatch != null) {
+            scheduledDispatch.cancel(false);
+            scheduledDispatch = null;
+        }
+        return batch;
+    }
+
+    /**
+     * window 경과 - 모인 요청을 조회 스레드풀에서 처리 (가득 찰 경우 타이머 스레드에서 처리)
+     */
+    private void dispatchPending() {
+        Map<String, List<CompletableFuture<Object>>> batch;
+        synchronized (lock) {
+            scheduledDispatch = null;
+            if (pending.isEmpty()) {
+                return;
+            }
+            batch = takePending();
+        }
+        try {
+            dispatchExecutor.execute(() -> dispatch(batch));
+        } catch (RejectedExecutionException e) {
+            dispatch(batch);
+        }
+    }
+
+    private void dispatch(Map<String, List<CompletableFuture<Object>>> batch) {
+        cacheMetrics.recordBatchSize(BACKEND, batch.size());
+        Map<String, Object> values;
+        try {
+            values = delegate.getAll(batch.keySet(), Object.class);
+        } catch (Exception e) {
+            batch.values().forEach(futures -> futures.forEach(future -> future.completeExceptionally(e)));
+            return;
+        }
+        batch.forEach((key, futures) -> {
+            Object value = values.get(key);
+            futures.forEach(future -> future.complete(value));
+        });
+    }
+}
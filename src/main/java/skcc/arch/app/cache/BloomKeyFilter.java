@@ -0,0 +1,73 @@
+package skcc.arch.app.cache;
+
+import com.google.common.hash.BloomFilter;
+import com.google.common.hash.Funnels;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 존재하는 키의 Bloom filter (메모리)
+ * <p>
+ * mightContain 이 false 이면 키가 확실히 없으므로 캐시, DB 조회 없이 미존재로 처리할 수 있다.
+ * 삭제는 지원하지 않으므로 주기적으로 전체 키로 다시 생성한다. (생성 전에는 모든 키를 허용)
+ */
+public class BloomKeyFilter {
+
+    private static final int MIN_EXPECTED_INSERTIONS = 1_000;
+
+    private final double falsePositiveRate;
+    private volatile BloomFilter<CharSequence> filter; // 재생성 시 교체
+    private volatile boolean rebuilding;
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet(); // 재생성 중 추가된 키
+
+    public BloomKeyFilter(double falsePositiveRate) {
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 전체 키로 다시 생성 (이후 추가될 키를 고려하여 2배 크기로 생성)
+     * 키 조회 중 추가된 키(put)도 새 filter 에 반영한다.
+     */
+    public synchronized void rebuild(Supplier<? extends Collection<String>> keySupplier) {
+        pendingKeys.clear();
+        rebuilding = true;
+        try {
+            Collection<String> keys = keySupplier.get();
+            BloomFilter<CharSequence> rebuilt = BloomFilter.create(Funnels.stringFunnel(StandardCharsets.UTF_8),
+                    Math.max(MIN_EXPECTED_INSERTIONS, keys.size() * 2L), falsePositiveRate);
+            keys.forEach(rebuilt::put);
+            pendingKeys.forEach(rebuilt::put);
+            this.filter = rebuilt;
+        } finally {
+            rebuilding = false;
+        }
+        BloomFilter<CharSequence> current = filter;
+        if (current != null) {
+            pendingKeys.forEach(current::put);
+        }
+        pendingKeys.clear();
+    }
+
+    public void put(String key) {
+        if (rebuilding) {
+            pendingKeys.add(key);
+        }
+        BloomFilter<CharSequence> current = filter;
+        if (current != null) {
+            current.put(key);
+        }
+    }
+
+    public boolean mightContain(String key) {
+        BloomFilter<CharSequence> current = filter;
+        return current == null || current.mightContain(key);
+    }
+
+    public boolean isReady() {
+        return filter != null;
+    }
+}
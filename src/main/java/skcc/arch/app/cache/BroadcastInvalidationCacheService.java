@@ -0,0 +1,245 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import skcc.arch.app.message.MessageService;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 노드간 무효화 (caffeine 모드)
+ * <p>
+ * 로컬 캐시만 사용하는 노드가 여러 개일 때 변경(put, evict, clear)을 {@link MessageService} 브로드캐스트로 알려
+ * 다른 노드의 로컬 캐시를 비운다. 조회는 로컬 캐시에서 그대로 처리한다.
+ * <ul>
+ *     <li>수신한 무효화는 batchInterval 마다 모아서 적용한다. (중복 키 제거, 그룹 삭제에 포함된 키 생략)</li>
+ *     <li>자신이 발행한 메시지는 무시한다. (형식 : nodeId|op|payload)</li>
+ *     <li>트랜잭션 중 변경은 커밋 후 발행한다. (커밋 전 무효화된 노드가 이전 값을 다시 적재하지 않도록, 롤백 시 미발행)</li>
+ *     <li>putAll, putAllIfNewer 는 각 노드가 DB 에서 같은 값을 적재하는 초기 적재에 사용하므로 발행하지 않는다.</li>
+ *     <li>메시지 유실 시에도 TTL 이후에는 DB 값으로 수렴한다.</li>
+ * </ul>
+ */
+@Slf4j
+public class BroadcastInvalidationCacheService implements CacheService {
+
+    public static final String BACKEND = "broadcast";
+    private static final String CACHE_DELIMITER = ":";
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final String KEYS_DELIMITER = "\n";
+    private static final String OP_EVICT = "EVICT";
+    private static final String OP_EVICT_ALL = "EVICT_ALL";
+    private static final String OP_CLEAR_GROUP = "CLEAR_GROUP";
+    private static final String OP_CLEAR_ALL = "CLEAR_ALL";
+
+    private final CacheService delegate;
+    private final MessageService messageService;
+    private final String topic;
+    private final CacheMetrics cacheMetrics;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Queue<String[]> received = new ConcurrentLinkedQueue<>(); // 적용 대기 중인 무효화 {op, payload}
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * @param delegate 로컬 캐시
+     */
+    public BroadcastInvalidationCacheService(CacheService delegate, MessageService messageService,
+                                             CacheProperties.Invalidation properties, CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.messageService = messageService;
+        this.topic = properties.getTopic();
+        this.cacheMetrics = cacheMetrics;
+        long intervalMillis = Math.max(1, properties.getBatchInterval().toMillis());
+        this.scheduler = CacheExecutors.newScheduler("cache-invalidation");
+        this.scheduler.scheduleWithFixedDelay(this::applyReceived, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        try {
+            messageService.subscribeToBroadcast(topic, this::onMessage);
+        } catch (Exception e) {
+            // 구독 실패 시 다른 노드의 변경은 TTL 이후 반영
+            log.error("캐시 무효화 구독 실패 [{}] : {}", topic, e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        delegate.put(key, value);
+        publish(OP_EVICT, key);
+    }
+
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        if (!delegate.putIfNewer(key, value, version)) {
+            return false;
+        }
+        publish(OP_EVICT, key);
+        return true;
+    }
+
+    @Override
+    public void evict(String key) {
+        delegate.evict(key);
+        publish(OP_EVICT, key);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        return delegate.getAll(keys, type);
+    }
+
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return delegate.peekAll(keys, type);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        delegate.putAll(entries);
+    }
+
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        delegate.putAllIfNewer(entries);
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        delegate.evictAll(keys);
+        publish(OP_EVICT_ALL, String.join(KEYS_DELIMITER, keys));
+    }
+
+    @Override
+    public void clearAll() {
+        delegate.clearAll();
+        publish(OP_CLEAR_ALL, "");
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        delegate.clearByCacheGroup(cacheGroupName);
+        publish(OP_CLEAR_GROUP, cacheGroupName);
+    }
+
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return delegate.tryLock(key, leaseTime);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        delegate.unlock(key, token);
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        delegate.registerLoader(cacheGroupName, loader);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 (적용은 batchInterval 마다)
+     */
+    void onMessage(String message) {
+        String[] tokens = message.split("\\" + MESSAGE_DELIMITER, 3);
+        if (tokens.length != 3) {
+            log.warn("잘못된 캐시 무효화 메시지 : {}", message);
+            return;
+        }
+        // 자신이 발행한 메시지는 무시
+        if (nodeId.equals(tokens[0])) {
+            return;
+        }
+        received.add(new String[]{tokens[1], tokens[2]});
+    }
+
+    /**
+     * 수신한 무효화를 모아서 적용
+     */
+    void applyReceived() {
+        if (received.isEmpty()) {
+            return;
+        }
+        boolean clearAll = false;
+        Set<String> groups = new HashSet<>();
+        Set<String> keys = new HashSet<>();
+        String[] invalidation;
+        while ((invalidation = received.poll()) != null) {
+            switch (invalidation[0]) {
+                case OP_EVICT -> keys.add(invalidation[1]);
+                case OP_EVICT_ALL -> keys.addAll(List.of(invalidation[1].split(KEYS_DELIMITER)));
+                case OP_CLEAR_GROUP -> groups.add(invalidation[1]);
+                case OP_CLEAR_ALL -> clearAll = true;
+                default -> log.warn("알 수 없는 캐시 무효화 유형 : {}", invalidation[0]);
+            }
+        }
+
+        try {
+            if (clearAll) {
+                delegate.clearAll();
+                return;
+            }
+            groups.forEach(delegate::clearByCacheGroup);
+            List<String> remaining = new ArrayList<>();
+            for (String key : keys) {
+                if (!groups.contains(groupOf(key))) {
+                    remaining.add(key);
+                }
+            }
+            if (!remaining.isEmpty()) {
+                delegate.evictAll(remaining);
+            }
+        } catch (Exception e) {
+            log.warn("캐시 무효화 적용 실패 : {}", e.getMessage());
+            cacheMetrics.recordError(BACKEND, CacheMetrics.GROUP_ALL, "apply");
+        }
+    }
+
+    /**
+     * 무효화 메시지 발행 (트랜잭션 중일 경우 커밋 후 발행)
+     */
+    private void publish(String op, String payload) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    send(op, payload);
+                }
+            });
+            return;
+        }
+        send(op, payload);
+    }
+
+    private void send(String op, String payload) {
+        try {
+            messageService.broadcastMessage(topic, nodeId + MESSAGE_DELIMITER + op + MESSAGE_DELIMITER + payload);
+        } catch (Exception e) {
+            // 발행 실패 시 다른 노드는 TTL 이후 반영
+            log.warn("캐시 무효화 메시지 발행 실패 [{}][{}] : {}", op, payload, e.getMessage());
+            cacheMetrics.recordError(BACKEND, OP_CLEAR_ALL.equals(op) ? CacheMetrics.GROUP_ALL : groupOf(payload), "publish");
+        }
+    }
+
+    private static String groupOf(String key) {
+        int idx = key.indexOf(CACHE_DELIMITER);
+        return idx < 0 ? key : key.substring(0, idx);
+    }
+}
@@ -0,0 +1,24 @@
+package skcc.arch.app.cache;
+
+/**
+ * 캐시 값 직렬화 방식 (Redis 저장용)
+ * <p>
+ * 저장된 값에는 코덱 id 가 함께 기록되므로, 캐시그룹의 코덱을 바꿔도 기존 값은 원래 코덱으로 읽는다.
+ * id 는 한 번 정하면 바꾸지 않는다.
+ */
+public interface CacheCodec {
+
+    /**
+     * 코덱 식별값 (저장 값 헤더에 기록)
+     */
+    byte id();
+
+    /**
+     * 코덱명 (my.cache.groups.{캐시그룹명}.codec)
+     */
+    String name();
+
+    byte[] encode(Object value);
+
+    Object decode(byte[] bytes);
+}
@@ -4,50 +4,250 @@ import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.CacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import skcc.arch.app.message.MessageService;
+import skcc.arch.biz.code.domain.Code;
+import skcc.arch.biz.code.domain.CodeSizeEstimator;
+
+import java.util.List;
+import java.util.concurrent.Executor;
 
 @Configuration
 @Slf4j
 public class CacheConfig {
 
+    @Bean
+    public CacheMetrics cacheMetrics(MeterRegistry meterRegistry) {
+        return new CacheMetrics(meterRegistry);
+    }
+
+    /**
+     * 캐시 초기 적재 상태 (management.endpoint.health.group.readiness 에 포함)
+     */
+    @Bean
+    public CacheWarmupHealthIndicator cacheWarmupHealthIndicator() {
+        return new CacheWarmupHealthIndicator();
+    }
+
+    /**
+     * 초기 적재 조정 - 공유 캐시(redis, tiered, sharded)는 한 노드만 적재
+     */
+    @Bean
+    public CacheWarmupCoordinator cacheWarmupCoordinator(CacheProperties cacheProperties,
+                                                         ObjectProvider<RedisConnectionFactory> connectionFactory) {
+        if ("redis".equals(cacheProperties.getType()) || "tiered".equals(cacheProperties.getType())
+                || "sharded".equals(cacheProperties.getType())) {
+            return new RedisCacheWarmupCoordinator(new StringRedisTemplate(connectionFactory.getObject()), cacheProperties);
+        }
+        return CacheWarmupCoordinator.LOCAL;
+    }
+
     @Bean
     @ConditionalOnProperty(name = "my.cache.type", havingValue = "caffeine")
-    public CacheService caffeineCacheService() {
-        log.info("캐시 구현체 : CaffeineCacheService");
-        return new CaffeineCacheService();
+    public CaffeineCacheService caffeineCacheService(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        log.info("캐시 구현체 : CaffeineCacheService (off-heap L2 : {})", cacheProperties.getOffHeap().isL2());
+        OffHeapCacheService secondLevel = cacheProperties.getOffHeap().isL2() ? newOffHeapCacheService(cacheProperties, cacheMetrics) : null;
+        return new CaffeineCacheService(cacheProperties::policyOf, cacheMetrics,
+                refreshExecutor(cacheProperties, "caffeine-cache-refresh"), secondLevel,
+                new CacheValueWeigher().register(Code.class, CodeSizeEstimator::estimate));
+    }
+
+    /**
+     * caffeine 모드 - 변경 시 다른 노드의 로컬 캐시 무효화 (MessageService 브로드캐스트)
+     */
+    @Bean
+    @Primary
+    @ConditionalOnExpression("'${my.cache.type:}' == 'caffeine' and ${my.cache.invalidation.enabled:false} and '${spring.rabbitmq.host:}' != ''")
+    public BroadcastInvalidationCacheService broadcastInvalidationCacheService(CaffeineCacheService caffeineCacheService,
+                                                                               MessageService messageService,
+                                                                               CacheProperties cacheProperties,
+                                                                               CacheMetrics cacheMetrics) {
+        log.info("캐시 노드간 무효화 : {}", cacheProperties.getInvalidation().getTopic());
+        return new BroadcastInvalidationCacheService(caffeineCacheService, messageService, cacheProperties.getInvalidation(), cacheMetrics);
+    }
+
+    /**
+     * caffeine 모드 - 종료 시 스냅샷 저장, 기동 시 복원
+     */
+    @Bean
+    @ConditionalOnExpression("'${my.cache.type:}' == 'caffeine' and ${my.cache.snapshot.enabled:false}")
+    public CacheSnapshotService cacheSnapshotService(CaffeineCacheService caffeineCacheService, CacheProperties cacheProperties) {
+        return new CacheSnapshotService(caffeineCacheService, CacheValueCodec.defaults(jsonSerializer()), cacheProperties);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "my.cache.type", havingValue = "offheap")
+    public CacheService offHeapCacheService(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        log.info("캐시 구현체 : OffHeapCacheService");
+        return newOffHeapCacheService(cacheProperties, cacheMetrics);
     }
 
     @Bean
     @ConditionalOnProperty(name = "my.cache.type", havingValue = "redis")
-    public CacheService redisCacheService(RedisConnectionFactory connectionFactory) {
-        log.info("캐시 구현체 : RedisCacheService");
-        return new RedisCacheService(getRedisTemplate(connectionFactory));
+    public CacheService redisCacheService(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        log.info("캐시 구현체 : RedisCacheService (circuit breaker : {}, hot key : {}, batching : {})",
+                cacheProperties.getCircuitBreaker().isEnabled(), cacheProperties.getHotKey().isEnabled(),
+                cacheProperties.getBatching().isEnabled());
+        CacheService redisCacheService = withCircuitBreaker(new RedisCacheService(getRedisTemplate(connectionFactory), cacheProperties,
+                cacheMetrics, refreshExecutor(cacheProperties, "redis-cache-refresh")), cacheProperties, cacheMetrics);
+        // 동시 단건 조회를 MGET 1회로 일괄 처리
+        if (cacheProperties.getBatching().isEnabled()) {
+            redisCacheService = new BatchingCacheService(redisCacheService, cacheProperties.getBatching(), cacheMetrics);
+        }
+        // 조회가 몰리는 키는 짧은 TTL 로컬 복제본에서 반환 (tiered 는 로컬 캐시가 있으므로 미사용)
+        return cacheProperties.getHotKey().isEnabled()
+                ? new HotKeyCacheService(redisCacheService, cacheProperties.getHotKey(), cacheMetrics)
+                : redisCacheService;
+    }
+
+    /**
+     * sharded 모드 - 초기 적재 조정 등 노드간 조정에 사용할 연결 (첫 번째 샤드)
+     * 모든 노드가 같은 샤드에서 락을 획득하도록 shards 의 첫 번째 항목은 노드간 동일해야 한다.
+     */
+    @Bean(destroyMethod = "destroy")
+    @ConditionalOnProperty(name = "my.cache.type", havingValue = "sharded")
+    public LettuceConnectionFactory shardCoordinationConnectionFactory(CacheProperties cacheProperties) {
+        List<CacheProperties.Sharding.Shard> shards = cacheProperties.getSharding().getShards();
+        if (shards.isEmpty()) {
+            throw new IllegalStateException("my.cache.sharding.shards 가 설정되지 않았습니다");
+        }
+        return shardConnectionFactory(shards.get(0));
+    }
+
+    /**
+     * sharded 모드 - 여러 Redis 노드에 consistent hashing 으로 키 분산 (노드별 연결은 샤드 제거, 종료 시 정리)
+     * 샤드마다 circuit breaker 를 두어 한 샤드 장애가 다른 샤드에 영향을 주지 않는다.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "my.cache.type", havingValue = "sharded")
+    public ShardedCacheService shardedCacheService(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        CacheProperties.Sharding sharding = cacheProperties.getSharding();
+        if (sharding.getShards().isEmpty()) {
+            throw new IllegalStateException("my.cache.sharding.shards 가 설정되지 않았습니다");
+        }
+        log.info("캐시 구현체 : ShardedCacheService (샤드 {}개)", sharding.getShards().size());
+        ShardedCacheService shardedCacheService = new ShardedCacheService(sharding.getVirtualNodes(),
+                CacheExecutors.newBoundedExecutor("cache-shard", sharding.getFanOutThreads(), 100));
+        for (CacheProperties.Sharding.Shard shard : sharding.getShards()) {
+            LettuceConnectionFactory connectionFactory = shardConnectionFactory(shard);
+            RedisCacheService redisCacheService = new RedisCacheService(getRedisTemplate(connectionFactory), cacheProperties,
+                    cacheMetrics, refreshExecutor(cacheProperties, "redis-cache-refresh"));
+            shardedCacheService.addShard(shard.nameOrAddress(), withCircuitBreaker(redisCacheService, cacheProperties, cacheMetrics,
+                    RedisCacheService.BACKEND + "-" + shard.nameOrAddress()), () -> {
+                redisCacheService.close();
+                connectionFactory.destroy();
+            });
+        }
+        return shardedCacheService;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "my.cache.type", havingValue = "tiered")
+    public TieredCacheService tieredCacheService(RedisConnectionFactory connectionFactory, CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        log.info("캐시 구현체 : TieredCacheService");
+        CacheProperties.Tiered tiered = cacheProperties.getTiered();
+        return new TieredCacheService(
+                new CaffeineCacheService(cacheGroupName -> cacheProperties.policyOf(cacheGroupName)
+                        .withLimits(tiered.getLocalTtl(), tiered.getLocalMaximumSize()),
+                        cacheMetrics, refreshExecutor(cacheProperties, "caffeine-cache-refresh")),
+                withCircuitBreaker(new RedisCacheService(getRedisTemplate(connectionFactory), cacheProperties, cacheMetrics,
+                        refreshExecutor(cacheProperties, "redis-cache-refresh")), cacheProperties, cacheMetrics),
+                new StringRedisTemplate(connectionFactory),
+                tiered.getChannel());
+    }
+
+    /**
+     * @Cacheable, @CacheEvict 도 CacheService (구현체, 캐시그룹 정책, 메트릭) 를 사용
+     */
+    @Bean
+    public CacheManager cacheManager(CacheService cacheService) {
+        return new CacheServiceCacheManager(cacheService);
+    }
+
+    /**
+     * tiered 모드 - 다른 노드의 캐시 무효화 메시지 구독
+     */
+    @Bean
+    @ConditionalOnProperty(name = "my.cache.type", havingValue = "tiered")
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            TieredCacheService tieredCacheService,
+                                                                            CacheProperties cacheProperties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(tieredCacheService, new ChannelTopic(cacheProperties.getTiered().getChannel()));
+        return container;
+    }
+
+    /**
+     * Redis 장애 시 빠른 실패 - circuit 이 열린 동안 크기가 제한된 로컬 캐시로 처리
+     */
+    private CacheService withCircuitBreaker(RedisCacheService redisCacheService, CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        return withCircuitBreaker(redisCacheService, cacheProperties, cacheMetrics, RedisCacheService.BACKEND);
+    }
+
+    /**
+     * @param backend circuit breaker 이름, 상태 메트릭 태그 (샤드별 구분)
+     */
+    private CacheService withCircuitBreaker(RedisCacheService redisCacheService, CacheProperties cacheProperties,
+                                            CacheMetrics cacheMetrics, String backend) {
+        CacheProperties.CircuitBreaker circuitBreaker = cacheProperties.getCircuitBreaker();
+        if (!circuitBreaker.isEnabled()) {
+            return redisCacheService;
+        }
+        CaffeineCacheService fallback = new CaffeineCacheService(cacheGroupName -> cacheProperties.policyOf(cacheGroupName)
+                .withLimits(circuitBreaker.getFallbackTtl(), circuitBreaker.getFallbackMaximumSize()),
+                cacheMetrics, refreshExecutor(cacheProperties, "caffeine-cache-refresh"));
+        return new CircuitBreakerCacheService(redisCacheService, fallback, circuitBreaker, cacheMetrics, backend);
+    }
+
+    private LettuceConnectionFactory shardConnectionFactory(CacheProperties.Sharding.Shard shard) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(shard.getHost(), shard.getPort());
+        configuration.setDatabase(shard.getDatabase());
+        if (shard.getPassword() != null) {
+            configuration.setPassword(shard.getPassword());
+        }
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(configuration,
+                LettuceClientConfiguration.builder().commandTimeout(shard.getTimeout()).build());
+        connectionFactory.afterPropertiesSet();
+        return connectionFactory;
+    }
+
+    private OffHeapCacheService newOffHeapCacheService(CacheProperties cacheProperties, CacheMetrics cacheMetrics) {
+        return new OffHeapCacheService(cacheProperties::policyOf, CacheValueCodec.defaults(jsonSerializer()), cacheMetrics);
+    }
+
+    /**
+     * refresh-ahead 재적재 스레드풀 (스레드 수, 대기열 크기 제한)
+     */
+    private Executor refreshExecutor(CacheProperties cacheProperties, String name) {
+        CacheProperties.Refresh refresh = cacheProperties.getRefresh();
+        return CacheExecutors.newBoundedExecutor(name, refresh.getThreads(), refresh.getQueueCapacity());
     }
 
     public RedisTemplate<String, Object> getRedisTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
         redisTemplate.setConnectionFactory(connectionFactory);
 
-        // ObjectMapper에 JavaTimeModule 등록
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule()); // Java 8 Date/Time 모듈
-        objectMapper.findAndRegisterModules();
-        objectMapper.activateDefaultTyping(
-                LaissezFaireSubTypeValidator.instance,
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-
         // JSON 직렬화 설정
-        GenericJackson2JsonRedisSerializer serializer = new GenericJackson2JsonRedisSerializer(objectMapper);
+        GenericJackson2JsonRedisSerializer serializer = jsonSerializer();
 
         // 키는 문자열, 값은 JSON으로 저장
         redisTemplate.setKeySerializer(new StringRedisSerializer());
@@ -59,4 +259,17 @@ public class CacheConfig {
 
         return redisTemplate;
     }
+
+    private static GenericJackson2JsonRedisSerializer jsonSerializer() {
+        // ObjectMapper에 JavaTimeModule 등록
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule()); // Java 8 Date/Time 모듈
+        objectMapper.findAndRegisterModules();
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
 }
@@ -0,0 +1,221 @@
+package skcc.arch.app.cache;
+
+import com.google.common.util.concurrent.RateLimiter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 캐시/DB 정합성 검증 (백그라운드 표본 검사)
+ * <p>
+ * interval 마다 후보 키 중 일부(sampleRate, 최대 maxSamplesPerRun)를 원본에서 표본 추출하여, 캐시된 키만 원본(DB)을 다시 읽고 내용 해시를 비교한다.
+ * <ul>
+ *     <li>다르면(drift) 캐시를 원본 값으로 교정한다. (putIfNewer, 캐시 버전이 같거나 크면 삭제 후 다음 조회 때 적재)</li>
+ *     <li>원본 조회 사이에 캐시 값이 바뀐 키는 동시 수정으로 보고 판단하지 않는다. (skipped)</li>
+ *     <li>원본 조회(후보 키 수, 표본 조회 포함)는 RateLimiter 로 초당 maxDbQueriesPerSecond 건 이하로 제한한다.</li>
+ *     <li>공유 캐시는 interval 동안 유지되는 락으로 한 노드만 검증한다. (로컬 캐시는 노드마다 검증)</li>
+ *     <li>캐시 조회는 peekAll 로 조회 통계, 사용 빈도에 반영하지 않는다.</li>
+ * </ul>
+ */
+@Slf4j
+public class CacheConsistencyVerifier<T> implements AutoCloseable {
+
+    public static final String BACKEND = "verifier";
+    private static final String CACHE_DELIMITER = ":";
+    private static final String LOCK_KEY_PREFIX = "verifier:"; // 검증 락 (캐시그룹별)
+    private static final int MAX_REPORTED_KEYS = 20;
+
+    private final CacheService cacheService;
+    private final String cacheGroupName;
+    private final Class<T> type;
+    private final Source<T> source;
+    private final CacheMetrics cacheMetrics;
+    private final double sampleRate;
+    private final int maxSamplesPerRun;
+    private final RateLimiter rateLimiter;
+    private final Duration interval;
+    private final AtomicLong oldestStaleAgeMillis = new AtomicLong(); // 직전 검증의 가장 오래된 불일치 경과 시간
+    private final ScheduledExecutorService scheduler;
+    private volatile Report lastReport;
+
+    public CacheConsistencyVerifier(CacheService cacheService, String cacheGroupName, Class<T> type, Source<T> source,
+                                    CacheProperties.Verifier properties, CacheMetrics cacheMetrics) {
+        this.cacheService = cacheService;
+        this.cacheGroupName = cacheGroupName;
+        this.type = type;
+        this.source = source;
+        this.cacheMetrics = cacheMetrics;
+        this.sampleRate = Math.min(1.0, Math.max(0.0, properties.getSampleRate()));
+        this.maxSamplesPerRun = Math.max(0, properties.getMaxSamplesPerRun());
+        this.rateLimiter = RateLimiter.create(properties.getMaxDbQueriesPerSecond());
+        cacheMetrics.registerStaleAge(BACKEND, cacheGroupName, () -> oldestStaleAgeMillis.get() / 1000.0);
+
+        long intervalMillis = Math.max(1, properties.getInterval().toMillis());
+        this.interval = Duration.ofMillis(intervalMillis);
+        this.scheduler = CacheExecutors.newScheduler("cache-verifier");
+        this.scheduler.scheduleWithFixedDelay(this::verifySafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 표본 검증 1회
+     */
+    public Report verify() {
+        rateLimiter.acquire(); // 후보 키 수 조회
+        long candidates = source.count();
+        int sampleSize = (int) Math.min(maxSamplesPerRun, Math.ceil(candidates * sampleRate));
+        List<String> sampled = List.of();
+        if (sampleSize > 0) {
+            rateLimiter.acquire(); // 표본 조회
+            sampled = source.sampleKeys(sampleSize).stream().map(this::toCacheKey).toList();
+        }
+
+        // 캐시된 키만 검증 (다건 조회, 조회 통계 미반영)
+        Map<String, T> cached = sampled.isEmpty() ? Map.of() : cacheService.peekAll(sampled, type);
+        long now = System.currentTimeMillis();
+        int checked = 0;
+        int skipped = 0;
+        int repaired = 0;
+        long oldestStaleAge = 0;
+        List<String> driftKeys = new ArrayList<>();
+        for (Map.Entry<String, T> entry : cached.entrySet()) {
+            if (Thread.currentThread().isInterrupted()) {
+                break; // 종료 중
+            }
+            rateLimiter.acquire();
+            String key = entry.getKey().substring(cacheGroupName.length() + CACHE_DELIMITER.length());
+            T loaded = source.load(key);
+            checked++;
+            long cachedHash = source.contentHash(entry.getValue());
+            if (loaded != null && cachedHash == source.contentHash(loaded)) {
+                continue;
+            }
+            // 원본 조회 중 캐시가 바뀌었으면 동시 수정 (수정한 요청이 캐시를 갱신)
+            T current = cacheService.peekAll(List.of(entry.getKey()), type).get(entry.getKey());
+            if (current == null || source.contentHash(current) != cachedHash) {
+                skipped++;
+                continue;
+            }
+            driftKeys.add(key);
+            // 캐시 값 이후 원본이 수정된 시각부터 경과 시간 (수정 시각으로 알 수 없는 불일치는 제외)
+            long changedAt = loaded == null ? 0 : source.modifiedAt(loaded);
+            if (changedAt > source.modifiedAt(entry.getValue())) {
+                oldestStaleAge = Math.max(oldestStaleAge, now - changedAt);
+            }
+            if (repair(entry.getKey(), loaded)) {
+                repaired++;
+            }
+        }
+
+        int drifted = driftKeys.size();
+        cacheMetrics.recordVerify(BACKEND, cacheGroupName, CacheMetrics.RESULT_MATCH, checked - drifted - skipped);
+        cacheMetrics.recordVerify(BACKEND, cacheGroupName, CacheMetrics.RESULT_DRIFT, drifted);
+        cacheMetrics.recordVerify(BACKEND, cacheGroupName, CacheMetrics.RESULT_SKIPPED, skipped);
+        oldestStaleAgeMillis.set(oldestStaleAge);
+        Report report = new Report(Instant.ofEpochMilli(now), candidates, checked, drifted, repaired,
+                Duration.ofMillis(oldestStaleAge), List.copyOf(driftKeys.subList(0, Math.min(drifted, MAX_REPORTED_KEYS))));
+        if (drifted > 0) {
+            log.warn("캐시 불일치 [{}] 검증 {}건 중 {}건 (교정 {}건, 최대 경과 {}) : {}",
+                    cacheGroupName, checked, drifted, repaired, report.oldestStaleAge(), report.driftKeys());
+        }
+        lastReport = report;
+        return report;
+    }
+
+    /**
+     * 직전 검증 결과 (검증 전에는 null)
+     */
+    public Report lastReport() {
+        return lastReport;
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdownNow();
+    }
+
+    private void verifySafely() {
+        try {
+            // 락은 해제하지 않고 interval 후 만료 (다른 노드는 이번 주기 검증 생략)
+            if (cacheService.tryLock(LOCK_KEY_PREFIX + cacheGroupName, interval) == null) {
+                return;
+            }
+            verify();
+        } catch (Exception e) {
+            log.warn("캐시 정합성 검증 실패 [{}] : {}", cacheGroupName, e.getMessage());
+            cacheMetrics.recordError(BACKEND, cacheGroupName, "verify");
+        }
+    }
+
+    /**
+     * 원본 값으로 교정 (원본에 없으면 삭제)
+     */
+    private boolean repair(String cacheKey, T loaded) {
+        try {
+            if (loaded == null) {
+                cacheService.evict(cacheKey);
+            } else if (!cacheService.putIfNewer(cacheKey, loaded, source.version(loaded))) {
+                // 캐시 버전이 같거나 크지만 내용이 다름 (하위 코드 이동 등) - 다음 조회 때 적재
+                cacheService.evict(cacheKey);
+            }
+            return true;
+        } catch (Exception e) {
+            log.warn("캐시 불일치 교정 실패 [{}] : {}", cacheKey, e.getMessage());
+            cacheMetrics.recordError(BACKEND, cacheGroupName, "repair");
+            return false;
+        }
+    }
+
+    private String toCacheKey(String key) {
+        return cacheGroupName + CACHE_DELIMITER + key;
+    }
+
+    /**
+     * 검증 기준 원본 (DB)
+     */
+    public interface Source<T> {
+
+        /**
+         * 캐시될 수 있는 키 수 (집계 조회)
+         */
+        long count();
+
+        /**
+         * 캐시될 수 있는 키 중 임의의 최대 limit 개 (캐시그룹 제외, 전체 키를 조회하지 않음)
+         */
+        List<String> sampleKeys(int limit);
+
+        /**
+         * 원본 값 (없을 경우 null)
+         */
+        T load(String key);
+
+        /**
+         * 내용 해시 (내용이 같으면 같은 값)
+         */
+        long contentHash(T value);
+
+        /**
+         * 버전 (putIfNewer 버전)
+         */
+        long version(T value);
+
+        /**
+         * 최종 수정 시각 (epoch ms, 불일치 경과 시간에 사용)
+         */
+        long modifiedAt(T value);
+    }
+
+    /**
+     * 표본 검증 결과 (driftKeys 는 최대 20개)
+     */
+    public record Report(Instant verifiedAt, long candidates, int checked, int drifted, int repaired,
+                         Duration oldestStaleAge, List<String> driftKeys) {
+    }
+}
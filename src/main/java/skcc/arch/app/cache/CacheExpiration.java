@@ -0,0 +1,46 @@
+package skcc.arch.app.cache;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * TTL jitter, 확률적 조기 만료 (XFetch)
+ * <ul>
+ *     <li>jitter : 같은 시각에 적재된 엔트리(초기 적재 등)가 한꺼번에 만료되지 않도록 TTL 을 [ttl * (1 - ratio), ttl] 범위에서 무작위로 줄인다.</li>
+ *     <li>조기 만료 : 남은 TTL 이 재계산 비용(delta)에 가까울수록 높은 확률로 만료 전에 미스로 처리하여,
+ *     만료 시각에 재계산이 몰리지 않고 한 요청씩 먼저 재적재하도록 분산한다.
+ *     조건 : -delta * beta * ln(random) >= 남은 TTL (beta 가 클수록 일찍 재계산)</li>
+ * </ul>
+ */
+final class CacheExpiration {
+
+    private CacheExpiration() {
+    }
+
+    /**
+     * jitter 를 적용한 TTL (ratio 0 이하일 경우 그대로)
+     */
+    static Duration jitter(Duration ttl, double ratio) {
+        if (ratio <= 0 || ttl.isZero() || ttl.isNegative()) {
+            return ttl;
+        }
+        long nanos = ttl.toNanos();
+        long reduce = (long) (nanos * Math.min(ratio, 1.0) * ThreadLocalRandom.current().nextDouble());
+        return Duration.ofNanos(Math.max(1, nanos - reduce));
+    }
+
+    /**
+     * 만료 전 재계산 여부
+     *
+     * @param remainingNanos 남은 TTL
+     * @param deltaNanos     재계산 비용 (관측된 로딩 시간, 0 이하일 경우 조기 만료하지 않음)
+     * @param beta           조기 만료 강도 (0 이하일 경우 조기 만료하지 않음)
+     */
+    static boolean shouldRecomputeEarly(long remainingNanos, long deltaNanos, double beta) {
+        if (remainingNanos <= 0 || deltaNanos <= 0 || beta <= 0) {
+            return false;
+        }
+        double random = 1.0 - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return -deltaNanos * beta * Math.log(random) >= remainingNanos;
+    }
+}
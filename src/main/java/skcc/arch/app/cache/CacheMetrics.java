@@ -0,0 +1,294 @@
+package skcc.arch.app.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 캐시 메트릭 (Micrometer)
+ * <p>
+ * 모든 메트릭은 backend(caffeine, redis), group(캐시그룹명) 태그를 가진다.
+ * tiered 모드는 로컬 캐시가 caffeine, Redis 가 redis 로 각각 집계된다.
+ */
+public class CacheMetrics {
+
+    public static final String TAG_BACKEND = "backend";
+    public static final String TAG_GROUP = "group";
+    public static final String TAG_RESULT = "result";
+    public static final String TAG_CAUSE = "cause";
+    public static final String TAG_OPERATION = "operation";
+
+    public static final String GETS = "my.cache.gets";
+    public static final String PUTS = "my.cache.puts";
+    public static final String EVICTIONS = "my.cache.evictions";
+    public static final String LOADS = "my.cache.load";
+    public static final String ERRORS = "my.cache.errors";
+    public static final String SIZE = "my.cache.size";
+    public static final String WEIGHT = "my.cache.weight";
+    public static final String REFRESH = "my.cache.refresh";
+    public static final String CIRCUIT_STATE = "my.cache.circuit.state";
+    public static final String BATCH_SIZE = "my.cache.batch.size";
+    public static final String VERIFY = "my.cache.verify";
+    public static final String VERIFY_STALE_AGE = "my.cache.verify.stale.age";
+
+    public static final String RESULT_HIT = "hit";
+    public static final String RESULT_MISS = "miss";
+    public static final String RESULT_SUCCESS = "success";
+    public static final String RESULT_FAILURE = "failure";
+    public static final String RESULT_EARLY = "early"; // 확률적 조기 만료로 재적재 유도
+    public static final String RESULT_MATCH = "match"; // 정합성 검증 - 일치
+    public static final String RESULT_DRIFT = "drift"; // 정합성 검증 - 불일치 (교정)
+    public static final String RESULT_SKIPPED = "skipped"; // 정합성 검증 - 검증 중 캐시 변경 (동시 수정)
+
+    // 제거 원인
+    public static final String CAUSE_EXPLICIT = "explicit"; // evict, evictAll
+    public static final String CAUSE_CLEARED = "cleared"; // clearAll, clearByCacheGroup (Redis 는 건수를 알 수 없어 1회로 집계)
+    public static final String CAUSE_SIZE = "size"; // 최대 크기 초과
+    public static final String CAUSE_EXPIRED = "expired"; // TTL 만료 (Caffeine)
+    public static final String CAUSE_COLLECTED = "collected"; // GC 회수 (Caffeine)
+
+    public static final String GROUP_ALL = "all"; // 캐시그룹 구분이 없는 작업 (clearAll)
+
+    private final MeterRegistry meterRegistry;
+    // 조회 경로마다 builder 로 찾지 않도록 등록한 Counter 보관
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    // 캐시그룹별 재계산 비용 (로딩 시간 지수 이동 평균, 확률적 조기 만료에 사용)
+    private final Map<String, Long> recomputeCosts = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> batchSizes = new ConcurrentHashMap<>();
+
+    public CacheMetrics() {
+        this(new SimpleMeterRegistry());
+    }
+
+    public CacheMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    public MeterRegistry getMeterRegistry() {
+        return meterRegistry;
+    }
+
+    public void recordHits(String backend, String cacheGroupName, long count) {
+        increment(GETS, "캐시 조회 횟수", backend, cacheGroupName, TAG_RESULT, RESULT_HIT, count);
+    }
+
+    public void recordMisses(String backend, String cacheGroupName, long count) {
+        increment(GETS, "캐시 조회 횟수", backend, cacheGroupName, TAG_RESULT, RESULT_MISS, count);
+    }
+
+    public void recordPuts(String backend, String cacheGroupName, long count) {
+        increment(PUTS, "캐시 저장 횟수", backend, cacheGroupName, null, null, count);
+    }
+
+    /**
+     * 캐시 제거 (cause : explicit, cleared, size, expired, collected)
+     */
+    public void recordEvictions(String backend, String cacheGroupName, String cause, long count) {
+        increment(EVICTIONS, "캐시 제거 건수", backend, cacheGroupName, TAG_CAUSE, cause, count);
+    }
+
+    /**
+     * 캐시 작업 오류 (operation : get, put, evict, ...)
+     */
+    public void recordError(String backend, String cacheGroupName, String operation) {
+        increment(ERRORS, "캐시 작업 오류 횟수", backend, cacheGroupName, TAG_OPERATION, operation, 1);
+    }
+
+    /**
+     * 캐시 미스 후 원본(DB) 로딩 시간
+     */
+    public void recordLoad(String backend, String cacheGroupName, long nanos, boolean success) {
+        Timer.builder(LOADS)
+                .description("캐시 미스 로딩 시간")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, cacheGroupName)
+                .tag(TAG_RESULT, success ? RESULT_SUCCESS : RESULT_FAILURE)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (success) {
+            recordRecomputeCost(cacheGroupName, nanos);
+        }
+    }
+
+    /**
+     * 재계산(로딩, 재적재) 시간 기록 (최근 값 1/8 반영)
+     */
+    public void recordRecomputeCost(String cacheGroupName, long nanos) {
+        recomputeCosts.merge(cacheGroupName, nanos, (previous, current) -> previous - (previous >> 3) + (current >> 3));
+    }
+
+    /**
+     * 캐시그룹 재계산 비용 (관측 전에는 0)
+     */
+    public long recomputeCostNanos(String cacheGroupName) {
+        return recomputeCosts.getOrDefault(cacheGroupName, 0L);
+    }
+
+    /**
+     * 캐시그룹 엔트리 수 (추정치)
+     */
+    public void registerSize(String backend, String cacheGroupName, Supplier<Number> size) {
+        Gauge.builder(SIZE, size)
+                .description("캐시 엔트리 수 (추정치)")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, cacheGroupName)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시그룹 메모리 점유 (byte, 추정치)
+     */
+    public void registerWeightedSize(String backend, String cacheGroupName, Supplier<Number> weightedSize) {
+        Gauge.builder(WEIGHT, weightedSize)
+                .description("캐시 메모리 점유 (byte, 추정치)")
+                .baseUnit("bytes")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, cacheGroupName)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 일괄 조회 1회의 키 수 (분포)
+     */
+    public void recordBatchSize(String backend, int keys) {
+        batchSizes.computeIfAbsent(backend, k -> DistributionSummary.builder(BATCH_SIZE)
+                .description("일괄 조회 키 수")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, GROUP_ALL)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry)).record(keys);
+    }
+
+    /**
+     * 캐시/DB 정합성 검증 결과 (match, drift, skipped)
+     */
+    public void recordVerify(String backend, String cacheGroupName, String result, long count) {
+        increment(VERIFY, "캐시 정합성 검증 건수", backend, cacheGroupName, TAG_RESULT, result, count);
+    }
+
+    /**
+     * 직전 검증에서 발견한 불일치 중 가장 오래된 경과 시간 (초, 원본 수정 시각 기준)
+     */
+    public void registerStaleAge(String backend, String cacheGroupName, Supplier<Number> staleAgeSeconds) {
+        Gauge.builder(VERIFY_STALE_AGE, staleAgeSeconds)
+                .description("캐시 불일치 최대 경과 시간 (초)")
+                .baseUnit("seconds")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, cacheGroupName)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 원격 캐시 circuit 상태 (0: closed, 1: open, 2: half-open)
+     */
+    public void registerCircuitBreakerState(String backend, Supplier<Number> state) {
+        Gauge.builder(CIRCUIT_STATE, state)
+                .description("원격 캐시 circuit 상태 (0: closed, 1: open, 2: half-open)")
+                .tag(TAG_BACKEND, backend)
+                .tag(TAG_GROUP, GROUP_ALL)
+                .strongReference(true)
+                .register(meterRegistry);
+    }
+
+    /**
+     * refresh-ahead 결과 (success, failure, rejected, early)
+     */
+    public void recordRefresh(String backend, String cacheGroupName, String result) {
+        increment(REFRESH, "캐시 백그라운드 재적재 횟수", backend, cacheGroupName, TAG_RESULT, result, 1);
+    }
+
+    private void increment(String name, String description, String backend, String cacheGroupName,
+                           String tagKey, String tagValue, long count) {
+        if (count <= 0) {
+            return;
+        }
+        String id = name + '|' + backend + '|' + cacheGroupName + '|' + tagValue;
+        counters.computeIfAbsent(id, k -> {
+            Counter.Builder builder = Counter.builder(name)
+                    .description(description)
+                    .tag(TAG_BACKEND, backend)
+                    .tag(TAG_GROUP, cacheGroupName);
+            if (tagKey != null) {
+                builder.tag(tagKey, tagValue);
+            }
+            return builder.register(meterRegistry);
+        }).increment(count);
+    }
+
+    /**
+     * 현재 메트릭을 backend, 캐시그룹별로 모은 통계 (/api/cache/stats)
+     */
+    public List<CacheStats> snapshot() {
+        Map<String, CacheStats.CacheStatsBuilder> builders = new TreeMap<>();
+        Map<String, Map<String, Long>> evictions = new TreeMap<>();
+        Map<String, Map<String, Long>> errors = new TreeMap<>();
+        Map<String, Map<String, Long>> refreshes = new TreeMap<>();
+
+        for (Meter meter : meterRegistry.getMeters()) {
+            String name = meter.getId().getName();
+            if (!name.startsWith("my.cache.") || CIRCUIT_STATE.equals(name) || BATCH_SIZE.equals(name)
+                    || VERIFY.equals(name) || VERIFY_STALE_AGE.equals(name)) {
+                continue;
+            }
+            String backend = meter.getId().getTag(TAG_BACKEND);
+            String group = meter.getId().getTag(TAG_GROUP);
+            String statsKey = backend + '|' + group;
+            CacheStats.CacheStatsBuilder builder = builders.computeIfAbsent(statsKey,
+                    k -> CacheStats.builder().backend(backend).group(group));
+
+            switch (name) {
+                case GETS -> {
+                    long count = (long) ((Counter) meter).count();
+                    if (RESULT_HIT.equals(meter.getId().getTag(TAG_RESULT))) {
+                        builder.hits(count);
+                    } else {
+                        builder.misses(count);
+                    }
+                }
+                case PUTS -> builder.puts((long) ((Counter) meter).count());
+                case EVICTIONS -> evictions.computeIfAbsent(statsKey, k -> new TreeMap<>())
+                        .merge(meter.getId().getTag(TAG_CAUSE), (long) ((Counter) meter).count(), Long::sum);
+                case ERRORS -> errors.computeIfAbsent(statsKey, k -> new TreeMap<>())
+                        .merge(meter.getId().getTag(TAG_OPERATION), (long) ((Counter) meter).count(), Long::sum);
+                case REFRESH -> refreshes.computeIfAbsent(statsKey, k -> new TreeMap<>())
+                        .merge(meter.getId().getTag(TAG_RESULT), (long) ((Counter) meter).count(), Long::sum);
+                case SIZE -> builder.size((long) ((Gauge) meter).value());
+                case WEIGHT -> builder.weightedSize((long) ((Gauge) meter).value());
+                case LOADS -> {
+                    if (RESULT_SUCCESS.equals(meter.getId().getTag(TAG_RESULT))) {
+                        builder.load(CacheStats.LoadStats.of(((Timer) meter).takeSnapshot()));
+                    } else {
+                        builder.loadFailures(((Timer) meter).count());
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+
+        List<CacheStats> result = new ArrayList<>();
+        builders.forEach((statsKey, builder) -> result.add(builder
+                .evictions(evictions.getOrDefault(statsKey, Map.of()))
+                .errors(errors.getOrDefault(statsKey, Map.of()))
+                .refreshes(refreshes.getOrDefault(statsKey, Map.of()))
+                .build()));
+        return result;
+    }
+}
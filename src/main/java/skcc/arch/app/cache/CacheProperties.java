@@ -0,0 +1,276 @@
+package skcc.arch.app.cache;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "my.cache")
+public class CacheProperties {
+
+    private String type = "caffeine"; // 캐시 구현체 (caffeine, redis, tiered, offheap, sharded)
+    private GroupPolicy defaults = new GroupPolicy(); // 그룹 정책이 없는 캐시그룹의 기본 정책
+    private Map<String, GroupPolicy> groups = new HashMap<>(); // 캐시그룹별 정책 (key: 캐시그룹명, 대소문자 무시)
+    private Redis redis = new Redis(); // redis 설정
+    private Tiered tiered = new Tiered(); // tiered 모드 설정
+    private Lock lock = new Lock(); // getOrLoad 로딩 락 설정
+    private Refresh refresh = new Refresh(); // refresh-ahead 재적재 스레드풀 설정
+    private Warmup warmup = new Warmup(); // 기동 시 초기 적재 설정
+    private BloomFilter bloomFilter = new BloomFilter(); // 존재하는 키 Bloom filter 설정
+    private OffHeap offHeap = new OffHeap(); // 힙 외부 캐시 설정
+    private Snapshot snapshot = new Snapshot(); // caffeine 모드 스냅샷 설정
+    private CircuitBreaker circuitBreaker = new CircuitBreaker(); // redis, tiered 모드 Redis 장애 시 빠른 실패 설정
+    private HotKey hotKey = new HotKey(); // redis 모드 hot key 로컬 복제 설정
+    private Invalidation invalidation = new Invalidation(); // caffeine 모드 노드간 무효화 설정 (MessageService)
+    private Batching batching = new Batching(); // redis 모드 동시 조회 일괄 처리 설정
+    private Sharding sharding = new Sharding(); // sharded 모드 Redis 노드 설정
+    private Verifier verifier = new Verifier(); // 캐시/DB 정합성 검증 설정
+
+    /**
+     * 캐시그룹 정책 조회 (없을 경우 기본 정책)
+     */
+    public GroupPolicy policyOf(String cacheGroupName) {
+        for (Map.Entry<String, GroupPolicy> entry : groups.entrySet()) {
+            if (entry.getKey().equalsIgnoreCase(cacheGroupName)) {
+                return entry.getValue();
+            }
+        }
+        return defaults;
+    }
+
+    /**
+     * 캐시그룹 정책
+     */
+    @Getter
+    @Setter
+    public static class GroupPolicy {
+        private Duration ttl = Duration.ofMinutes(10); // 만료 시간 (저장 기준)
+        private long maximumSize = 500; // 로컬 캐시 최대 엔트리 수
+        private DataSize maximumWeight; // 로컬 캐시 최대 메모리 (값 크기 추정치 합계, 설정 시 maximumSize 대신 적용 - caffeine 모드)
+        private Duration refreshAfterWrite; // 저장 후 해당 시간이 지나면 조회 시 백그라운드 재적재 (loader 등록 그룹만, 미설정 시 미사용)
+        private String codec = JsonCacheCodec.NAME; // Redis 저장 코덱 (json, smile)
+        private DataSize compressionThreshold; // 직렬화 크기가 이 값 이상이면 LZ4 압축 (미설정 시 미사용)
+        private DataSize offHeapMaximumSize = DataSize.ofMegabytes(64); // 힙 외부 캐시 메모리 예산 (직렬화 크기 합계)
+        private double ttlJitter = 0.1; // TTL 을 최대 이 비율만큼 무작위로 줄임 (동시 만료 분산, 0 일 경우 미사용)
+        private double earlyExpirationBeta = 1.0; // 확률적 조기 만료 강도 (재계산 비용 기준, 0 일 경우 미사용)
+
+        /**
+         * jitter 를 적용한 TTL (엔트리 저장 시마다 다름)
+         */
+        public Duration jitteredTtl() {
+            return CacheExpiration.jitter(ttl, ttlJitter);
+        }
+
+        /**
+         * 압축 기준 크기 (byte, 0 일 경우 압축하지 않음)
+         */
+        public long compressionThresholdBytes() {
+            return compressionThreshold == null ? 0 : compressionThreshold.toBytes();
+        }
+
+        /**
+         * TTL, 최대 엔트리 수를 상한값 이내로 제한한 정책 (2단계 캐시의 로컬 캐시용)
+         */
+        public GroupPolicy withLimits(Duration maxTtl, long maxSize) {
+            GroupPolicy policy = new GroupPolicy();
+            policy.setTtl(ttl.compareTo(maxTtl) < 0 ? ttl : maxTtl);
+            policy.setMaximumSize(Math.min(maximumSize, maxSize));
+            policy.setTtlJitter(ttlJitter);
+            policy.setEarlyExpirationBeta(0); // 로컬 캐시 미스는 원격 캐시에서 다시 읽으므로 조기 만료 불필요
+            return policy;
+        }
+    }
+
+    /**
+     * Redis 캐시 설정
+     */
+    @Getter
+    @Setter
+    public static class Redis {
+        private Duration sweepInterval = Duration.ofMinutes(5); // 이전 세대 키 정리 주기 (0 일 경우 TTL 만료에만 맡김)
+    }
+
+    /**
+     * 2단계 캐시 (로컬 Caffeine + Redis) 설정
+     */
+    @Getter
+    @Setter
+    public static class Tiered {
+        private int localMaximumSize = 500; // 로컬 캐시 캐시그룹별 최대 엔트리 수 상한
+        private Duration localTtl = Duration.ofMinutes(1); // 로컬 캐시 TTL 상한 (무효화 메시지 유실 시 최대 stale 시간)
+        private String channel = "my-cache:invalidation"; // 노드간 무효화 메시지 채널 (Redis pub/sub)
+    }
+
+    /**
+     * getOrLoad 노드간 로딩 락 설정
+     */
+    @Getter
+    @Setter
+    public static class Lock {
+        private Duration leaseTime = Duration.ofSeconds(5); // 락 임대 시간 (보유 노드 장애 시 자동 해제)
+        private Duration waitTime = Duration.ofSeconds(3); // 다른 노드의 로딩 결과를 기다리는 최대 시간
+    }
+
+    /**
+     * refresh-ahead 재적재 스레드풀 설정
+     */
+    @Getter
+    @Setter
+    public static class Refresh {
+        private int threads = 2; // 재적재 스레드 수
+        private int queueCapacity = 100; // 재적재 대기열 크기 (초과 시 이번 재적재는 건너뜀)
+    }
+
+    /**
+     * 기동 시 초기 적재 설정
+     */
+    @Getter
+    @Setter
+    public static class Warmup {
+        private int batchSize = 100; // putAll 1회 저장 건수
+        private int parallelism = 4; // 동시 저장 배치 수
+        private Duration leaseTime = Duration.ofSeconds(30); // Redis 적재 락 임대 시간 (적재 중 연장, 보유 노드 장애 시 만료)
+        private Duration waitTime = Duration.ofMinutes(2); // 다른 노드의 적재 완료를 기다리는 최대 시간
+    }
+
+    /**
+     * 힙 외부 캐시 설정 (메모리 예산은 캐시그룹 정책의 off-heap-maximum-size)
+     */
+    @Getter
+    @Setter
+    public static class OffHeap {
+        private boolean l2 = false; // caffeine 모드에서 최대 크기 초과로 제거된 값을 힙 외부 캐시에 보관
+    }
+
+    /**
+     * caffeine 모드 로컬 캐시 스냅샷 설정 (재기동 시 DB 초기 적재 대신 복원)
+     */
+    @Getter
+    @Setter
+    public static class Snapshot {
+        private boolean enabled = false;
+        private Path path = Path.of("cache-snapshot", "caffeine.snapshot"); // 스냅샷 파일 (노드 로컬 디스크)
+        private Duration interval = Duration.ofMinutes(5); // 주기적 저장 간격 (0 일 경우 종료 시에만 저장)
+        private Duration maxAge = Duration.ofMinutes(10); // 이보다 오래된 스냅샷은 복원하지 않음
+    }
+
+    /**
+     * Redis circuit breaker 설정 (실패율, 느린 호출 비율 초과 시 Redis 호출을 중단하고 로컬 fallback 사용)
+     */
+    @Getter
+    @Setter
+    public static class CircuitBreaker {
+        private boolean enabled = true;
+        private float failureRateThreshold = 50; // 실패율 기준 (%)
+        private float slowCallRateThreshold = 50; // 느린 호출 비율 기준 (%)
+        private Duration slowCallDurationThreshold = Duration.ofMillis(500); // 느린 호출 기준 시간
+        private int slidingWindowSize = 20; // 실패율 계산 대상 최근 호출 수
+        private int minimumNumberOfCalls = 10; // 실패율 계산 최소 호출 수
+        private Duration waitDurationInOpenState = Duration.ofSeconds(10); // open 유지 시간 (이후 half-open)
+        private int permittedNumberOfCallsInHalfOpenState = 3; // half-open 상태 확인 호출 수
+        private long fallbackMaximumSize = 1000; // fallback 로컬 캐시 캐시그룹별 최대 엔트리 수
+        private Duration fallbackTtl = Duration.ofSeconds(30); // fallback 로컬 캐시 TTL
+        private int maxPendingInvalidations = 10_000; // open 동안 변경 키 기록 건수 (초과 시 복구할 때 Redis 전체 삭제)
+    }
+
+    /**
+     * redis 모드 hot key 탐지, 로컬 복제 설정
+     */
+    @Getter
+    @Setter
+    public static class HotKey {
+        private boolean enabled = true;
+        private double sampleRate = 0.1; // 조회 표본 추출 비율
+        private long threshold = 100; // window 당 조회 수가 이 값 이상이면 hot key
+        private Duration window = Duration.ofSeconds(10); // 집계 주기
+        private int topK = 20; // 최대 hot key 수
+        private int sketchWidth = 4096; // Count-Min sketch 행 크기
+        private Duration replicaTtl = Duration.ofSeconds(2); // 로컬 복제본 TTL (다른 노드 변경이 반영되지 않는 최대 시간)
+    }
+
+    /**
+     * sharded 모드 설정 (여러 Redis 노드에 consistent hashing 으로 키 분산)
+     */
+    @Getter
+    @Setter
+    public static class Sharding {
+        private int virtualNodes = 160; // 샤드별 가상 노드 수
+        private int fanOutThreads = 8; // 전체 샤드 작업(clear, 다건 작업) 병렬 스레드 수
+        private List<Shard> shards = new ArrayList<>();
+
+        @Getter
+        @Setter
+        public static class Shard {
+            private String name; // 샤드명 (해시 기준이므로 변경 시 키가 재배치됨, 미설정 시 host:port)
+            private String host = "localhost";
+            private int port = 6379;
+            private String password;
+            private int database = 0;
+            private Duration timeout = Duration.ofSeconds(2); // 명령 응답 대기 시간
+
+            public String nameOrAddress() {
+                return name != null ? name : host + ":" + port;
+            }
+        }
+    }
+
+    /**
+     * redis 모드 동시 조회 일괄 처리 설정 (window 동안 모인 get 을 MGET 1회로 조회)
+     */
+    @Getter
+    @Setter
+    public static class Batching {
+        private boolean enabled = false;
+        private Duration window = Duration.ofMillis(1); // 첫 요청 후 조회 요청을 모으는 시간
+        private int maxBatchSize = 64; // 이 건수가 모이면 window 전에 조회
+        private int threads = 4; // 일괄 조회 스레드 수
+        private int queueCapacity = 1000; // 일괄 조회 대기열 크기 (초과 시 타이머 스레드에서 조회)
+    }
+
+    /**
+     * caffeine 모드 노드간 무효화 설정 (MessageService 브로드캐스트, spring.rabbitmq.host 설정 시)
+     */
+    @Getter
+    @Setter
+    public static class Invalidation {
+        private boolean enabled = false;
+        private String topic = "my-cache.invalidation"; // 무효화 메시지 토픽 (fanout 교환기)
+        private Duration batchInterval = Duration.ofMillis(50); // 수신한 무효화를 모아서 적용하는 간격
+    }
+
+    /**
+     * 캐시/DB 정합성 검증 설정 (CODE 루트 코드 표본 검사, 불일치 시 교정)
+     */
+    @Getter
+    @Setter
+    public static class Verifier {
+        private boolean enabled = false;
+        private Duration interval = Duration.ofMinutes(1); // 검증 주기
+        private double sampleRate = 0.05; // 회당 검증하는 후보 키 비율
+        private int maxSamplesPerRun = 100; // 회당 최대 검증 키 수
+        private double maxDbQueriesPerSecond = 2.0; // 검증으로 발생하는 초당 최대 DB 조회 수
+    }
+
+    /**
+     * 존재하는 키 Bloom filter 설정 (확실한 미존재 키는 캐시, DB 조회 없이 처리)
+     */
+    @Getter
+    @Setter
+    public static class BloomFilter {
+        private boolean enabled = true;
+        private double falsePositiveRate = 0.01; // 오탐률 (존재한다고 판단했으나 없는 비율)
+        private Duration rebuildInterval = Duration.ofMinutes(1); // 재생성 주기 (전파 메시지 유실 키 반영, MyCacheService @Scheduled)
+        private String topic = "my-cache.bloom"; // 새 키 노드간 전파 토픽 (fanout 교환기, spring.rabbitmq.host 필요)
+    }
+}
@@ -1,9 +1,76 @@
 package skcc.arch.app.cache;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.function.Function;
+
 public interface CacheService {
+
+    String LOCAL_LOCK_TOKEN = "local";
+    long NO_VERSION = Long.MIN_VALUE; // put 으로 저장한 값의 버전 (putIfNewer 시 항상 덮어씀)
+
     <T> T get(String key, Class<T> type);
     void put(String key, Object value);
     void evict(String key);
     void clearAll();
     void clearByCacheGroup(String cacheGroupName);
+
+    // 다건 처리 (존재하는 키만 반환)
+    <T> Map<String, T> getAll(Collection<String> keys, Class<T> type);
+    void putAll(Map<String, ?> entries);
+    void evictAll(Collection<String> keys);
+
+    /**
+     * 조회 통계(hit/miss), 사용 빈도, 재적재에 반영하지 않는 다건 조회 (정합성 검증 등 내부 조회용)
+     * 지원하지 않는 구현체는 getAll 과 같다.
+     */
+    default <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return getAll(keys, type);
+    }
+
+    /**
+     * 키 단위 임대(lease) 락 획득. 획득 시 해제용 토큰, 다른 노드가 보유 중이면 null 을 반환한다.
+     * 로컬 캐시는 노드간 공유 대상이 없으므로 항상 획득된다.
+     */
+    default String tryLock(String key, Duration leaseTime) {
+        return LOCAL_LOCK_TOKEN;
+    }
+
+    default void unlock(String key, String token) {
+    }
+
+    /**
+     * 저장된 값의 버전보다 새 버전일 때만 저장 (동시 갱신 시 느린 요청이 이전 값으로 덮어쓰지 않도록)
+     * 버전은 putIfNewer 로 저장한 값끼리만 비교하며, put 으로 저장한 값(버전 없음)은 항상 덮어쓴다.
+     * 원자적 비교를 지원하지 않는 구현체는 항상 저장한다.
+     *
+     * @param version 값의 버전 (수정일시, DB 버전 컬럼 등 증가하는 값)
+     * @return 저장 여부
+     */
+    default boolean putIfNewer(String key, Object value, long version) {
+        put(key, value);
+        return true;
+    }
+
+    /**
+     * 다건 putIfNewer (키별로 저장된 버전보다 새 버전일 때만 저장)
+     */
+    default void putAllIfNewer(Map<String, Versioned> entries) {
+        entries.forEach((key, entry) -> putIfNewer(key, entry.value(), entry.version()));
+    }
+
+    /**
+     * 캐시그룹 재적재 loader 등록 (refresh-ahead)
+     * loader 는 캐시 키를 받아 최신 값을 반환하며, null 을 반환할 경우 캐시에서 제거한다.
+     * {@link Versioned} 를 반환하면 putIfNewer 와 같이 저장된 버전보다 새 버전일 때만 저장한다.
+     */
+    default void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+    }
+
+    /**
+     * 버전이 있는 값 (putAllIfNewer, loader 반환값)
+     */
+    record Versioned(Object value, long version) {
+    }
 }
@@ -0,0 +1,133 @@
+package skcc.arch.app.cache;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Spring {@link org.springframework.cache.Cache} 어댑터 (@Cacheable, @CachePut, @CacheEvict)
+ * <p>
+ * 캐시 이름이 캐시그룹명이며, 키는 MyCacheService 와 같은 {캐시그룹명}:{key} 형식으로 저장하므로
+ * 구현체(caffeine, redis, tiered, ...), 캐시그룹 정책, 메트릭, 캐시그룹 삭제가 동일하게 적용된다.
+ * <ul>
+ *     <li>키는 {@code String.valueOf(key)} 로 변환한다. 파라미터가 여러 개인 메소드는 key 속성으로 지정한다.</li>
+ *     <li>null 은 표시값({@link #NULL_VALUE})으로 저장한다. (Redis 직렬화 호환)</li>
+ *     <li>sync=true 로딩은 같은 키의 동시 호출을 하나로 합친다. (single-flight)</li>
+ * </ul>
+ */
+public class CacheServiceCache extends AbstractValueAdaptingCache {
+
+    public static final String NULL_VALUE = "__NULL__";
+    private static final String CACHE_DELIMITER = ":";
+
+    private final String name;
+    private final CacheService cacheService;
+    private final AsyncCacheService asyncCacheService;
+    private final SingleFlight singleFlight;
+
+    public CacheServiceCache(String name, CacheService cacheService, SingleFlight singleFlight, boolean allowNullValues) {
+        super(allowNullValues);
+        this.name = name;
+        this.cacheService = cacheService;
+        this.asyncCacheService = AsyncCacheService.of(cacheService);
+        this.singleFlight = singleFlight;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public CacheService getNativeCache() {
+        return cacheService;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        return cacheService.get(toCacheKey(key), Object.class);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper cached = get(key);
+        if (cached != null) {
+            return (T) cached.get();
+        }
+        String cacheKey = toCacheKey(key);
+        return singleFlight.execute(cacheKey, () -> {
+            // 앞선 로딩이 막 끝난 경우
+            ValueWrapper loaded = get(key);
+            if (loaded != null) {
+                return (T) loaded.get();
+            }
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<?> retrieve(Object key) {
+        return asyncCacheService.getAsync(toCacheKey(key), Object.class)
+                .thenApply(value -> value == null ? null : toValueWrapper(value));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> retrieve(Object key, Supplier<CompletableFuture<T>> valueLoader) {
+        return retrieve(key).thenCompose(cached -> {
+            if (cached != null) {
+                return CompletableFuture.completedFuture((T) ((ValueWrapper) cached).get());
+            }
+            return valueLoader.get().thenCompose(value ->
+                    asyncCacheService.putAsync(toCacheKey(key), toStoreValue(value)).thenApply(ignored -> value));
+        });
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        cacheService.put(toCacheKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        cacheService.evict(toCacheKey(key));
+    }
+
+    /**
+     * 캐시그룹 삭제 (Redis 는 세대 증가)
+     */
+    @Override
+    public void clear() {
+        cacheService.clearByCacheGroup(name);
+    }
+
+    @Override
+    protected Object toStoreValue(Object userValue) {
+        if (userValue == null && isAllowNullValues()) {
+            return NULL_VALUE;
+        }
+        return super.toStoreValue(userValue);
+    }
+
+    @Override
+    protected Object fromStoreValue(Object storeValue) {
+        if (isAllowNullValues() && NULL_VALUE.equals(storeValue)) {
+            return null;
+        }
+        return super.fromStoreValue(storeValue);
+    }
+
+    private String toCacheKey(Object key) {
+        return name + CACHE_DELIMITER + key;
+    }
+}
@@ -0,0 +1,49 @@
+package skcc.arch.app.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CacheService 기반 Spring CacheManager
+ * <p>
+ * 캐시 이름은 캐시그룹명(CacheGroup enum 이름)으로 사용하며, MyCacheService 와 같은 키가 되도록 대문자로 맞춘다.
+ * (@Cacheable("code") 와 @Cacheable("CODE") 는 같은 캐시그룹)
+ */
+public class CacheServiceCacheManager implements CacheManager {
+
+    private final CacheService cacheService;
+    private final boolean allowNullValues;
+    private final SingleFlight singleFlight = new SingleFlight();
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public CacheServiceCacheManager(CacheService cacheService) {
+        this(cacheService, true);
+    }
+
+    /**
+     * @param allowNullValues null 결과 캐시 여부
+     */
+    public CacheServiceCacheManager(CacheService cacheService, boolean allowNullValues) {
+        this.cacheService = cacheService;
+        this.allowNullValues = allowNullValues;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        String cacheGroupName = name.toUpperCase(Locale.ROOT);
+        return caches.computeIfAbsent(cacheGroupName,
+                groupName -> new CacheServiceCache(groupName, cacheService, singleFlight, allowNullValues));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(Set.copyOf(caches.keySet()));
+    }
+}
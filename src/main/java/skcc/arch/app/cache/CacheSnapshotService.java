@@ -0,0 +1,240 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 로컬 캐시(Caffeine) 스냅샷 저장, 복원
+ * <p>
+ * 종료 시와 주기적으로 엔트리와 남은 TTL 을 파일로 저장하고, 기동 시(웹 서버 시작 전) 파일을 memory-map 하여 복원한다.
+ * 모든 엔트리가 복원된 캐시그룹은 DB 와 비교하여 변경이 없을 때만 초기 적재를 생략한다. ({@link #isRestored(String)}, MyCacheService)
+ * 그 외에는 초기 적재 전 먼저 채워두는 용도로만 사용한다.
+ * <p>
+ * 파일 형식 : [MAGIC][형식 버전][저장 시각][캐시그룹 수]{[캐시그룹명][엔트리 수]{[키][남은 TTL(ms)][값 길이][값]}}[CRC32]
+ * <ul>
+ *     <li>문자열은 [길이(4byte)][UTF-8], 값은 캐시그룹 정책의 codec 으로 직렬화한다.</li>
+ *     <li>형식 버전, CRC32 가 맞지 않거나 max-age 보다 오래된 스냅샷은 사용하지 않는다.</li>
+ *     <li>남은 TTL 은 저장 후 경과 시간만큼 줄여 복원하며, 만료된 엔트리는 건너뛴다.</li>
+ * </ul>
+ */
+@Slf4j
+public class CacheSnapshotService implements SmartLifecycle {
+
+    static final int MAGIC = 0x4D43534E; // "MCSN"
+    static final int FORMAT_VERSION = 1;
+    private static final int FOOTER_SIZE = Long.BYTES;
+
+    private final CaffeineCacheService cacheService;
+    private final CacheValueCodec valueCodec;
+    private final CacheProperties cacheProperties;
+    private final CacheProperties.Snapshot snapshot;
+    private final Map<String, Set<String>> restoredKeys = new ConcurrentHashMap<>(); // 모든 엔트리가 복원된 캐시그룹별 키
+    private ScheduledExecutorService scheduler;
+    private volatile boolean running;
+
+    public CacheSnapshotService(CaffeineCacheService cacheService, CacheValueCodec valueCodec, CacheProperties cacheProperties) {
+        this.cacheService = cacheService;
+        this.valueCodec = valueCodec;
+        this.cacheProperties = cacheProperties;
+        this.snapshot = cacheProperties.getSnapshot();
+    }
+
+    /**
+     * 스냅샷의 모든 엔트리가 복원된 캐시그룹 여부 (만료되어 건너뛴 엔트리가 있으면 false)
+     */
+    public boolean isRestored(String cacheGroupName) {
+        return restoredKeys.containsKey(cacheGroupName);
+    }
+
+    /**
+     * 모든 엔트리가 복원된 캐시그룹의 키 (캐시그룹 포함, 그 외 캐시그룹은 빈 값)
+     */
+    public Set<String> restoredKeys(String cacheGroupName) {
+        return restoredKeys.getOrDefault(cacheGroupName, Set.of());
+    }
+
+    @Override
+    public void start() {
+        restore();
+        Duration interval = snapshot.getInterval();
+        if (interval != null && interval.isPositive()) {
+            scheduler = CacheExecutors.newScheduler("cache-snapshot");
+            scheduler.scheduleWithFixedDelay(this::saveQuietly, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+        running = true;
+    }
+
+    @Override
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        saveQuietly(); // 정상 종료 시 마지막 상태 저장
+        running = false;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 웹 서버보다 먼저 시작(복원)하고 나중에 종료(저장)
+     */
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+
+    /**
+     * 현재 캐시를 스냅샷 파일로 저장 (임시 파일에 쓴 후 교체)
+     *
+     * @return 저장한 엔트리 수
+     */
+    public synchronized int save() throws IOException {
+        Path path = snapshot.getPath();
+        if (path.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(path.toAbsolutePath().getParent());
+        }
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        int saved = 0;
+        CRC32 crc = new CRC32();
+        try (OutputStream file = Files.newOutputStream(temp);
+             CheckedOutputStream checked = new CheckedOutputStream(new BufferedOutputStream(file), crc);
+             DataOutputStream out = new DataOutputStream(checked)) {
+            Set<String> groups = cacheService.getCacheGroupNames();
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(groups.size());
+            for (String group : groups) {
+                CacheProperties.GroupPolicy policy = cacheProperties.policyOf(group);
+                List<CaffeineCacheService.TtlEntry> entries = cacheService.entries(group);
+                writeString(out, group);
+                out.writeInt(entries.size());
+                for (CaffeineCacheService.TtlEntry entry : entries) {
+                    byte[] value = valueCodec.encode(entry.value(), policy.getCodec(), policy.compressionThresholdBytes());
+                    writeString(out, entry.key());
+                    out.writeLong(entry.remainingTtl().toMillis());
+                    out.writeInt(value.length);
+                    out.write(value);
+                }
+                saved += entries.size();
+            }
+            out.flush();
+            out.writeLong(crc.getValue()); // CRC32 (본문 기준)
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.debug("캐시 스냅샷 저장 : {} ({}건)", path, saved);
+        return saved;
+    }
+
+    /**
+     * 스냅샷 파일 복원 (파일이 없거나 사용할 수 없으면 아무것도 복원하지 않음)
+     *
+     * @return 캐시그룹별 복원 건수
+     */
+    public synchronized Map<String, Integer> restore() {
+        Path path = snapshot.getPath();
+        if (!Files.isRegularFile(path)) {
+            return Map.of();
+        }
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            Map<String, Integer> restored = restore(buffer);
+            log.info("캐시 스냅샷 복원 : {} {}", path, restored);
+            return restored;
+        } catch (IOException | RuntimeException e) {
+            // 스냅샷은 보조 수단이므로 실패 시 DB 초기 적재로 대체
+            log.warn("캐시 스냅샷 복원 실패 : {} - {}", path, e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private Map<String, Integer> restore(ByteBuffer buffer) {
+        if (buffer.limit() < FOOTER_SIZE + Integer.BYTES * 2) {
+            throw new IllegalStateException("스냅샷 크기 오류");
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(0, buffer.limit() - FOOTER_SIZE));
+        if (crc.getValue() != buffer.getLong(buffer.limit() - FOOTER_SIZE)) {
+            throw new IllegalStateException("스냅샷 CRC 불일치");
+        }
+        if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT_VERSION) {
+            throw new IllegalStateException("스냅샷 형식 버전 불일치");
+        }
+        long elapsedMillis = System.currentTimeMillis() - buffer.getLong();
+        if (elapsedMillis < 0 || elapsedMillis > snapshot.getMaxAge().toMillis()) {
+            throw new IllegalStateException("스냅샷이 오래됨 (" + elapsedMillis + "ms)");
+        }
+
+        Map<String, Integer> restored = new LinkedHashMap<>();
+        int groupCount = buffer.getInt();
+        for (int g = 0; g < groupCount; g++) {
+            String group = readString(buffer);
+            int entryCount = buffer.getInt();
+            Set<String> keys = new HashSet<>();
+            for (int e = 0; e < entryCount; e++) {
+                String key = readString(buffer);
+                long remainingMillis = buffer.getLong() - elapsedMillis;
+                byte[] value = new byte[buffer.getInt()];
+                buffer.get(value);
+                if (remainingMillis > 0) {
+                    cacheService.put(key, valueCodec.decode(value), Duration.ofMillis(remainingMillis));
+                    keys.add(key);
+                }
+            }
+            if (!keys.isEmpty()) {
+                restored.put(group, keys.size());
+            }
+            if (!keys.isEmpty() && keys.size() == entryCount) {
+                restoredKeys.put(group, Set.copyOf(keys));
+            }
+        }
+        return restored;
+    }
+
+    private void saveQuietly() {
+        try {
+            save();
+        } catch (IOException | RuntimeException e) {
+            log.warn("캐시 스냅샷 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
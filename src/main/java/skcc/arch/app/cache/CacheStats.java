@@ -0,0 +1,50 @@
+package skcc.arch.app.cache;
+
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * backend, 캐시그룹별 캐시 통계 (CacheMetrics 기준 누적값)
+ */
+@Getter
+@Builder
+public class CacheStats {
+
+    private final String backend;
+    private final String group;
+    private final long hits;
+    private final long misses;
+    private final long puts;
+    private final Long size; // 엔트리 수 추정치 (Redis 는 미제공)
+    private final Long weightedSize; // 메모리 점유 추정치 (byte, maximumWeight 정책 그룹, off-heap 캐시)
+    private final Map<String, Long> evictions; // 원인별 제거 건수
+    private final Map<String, Long> errors; // 작업별 오류 횟수
+    private final Map<String, Long> refreshes; // refresh-ahead 결과별 횟수
+    private final LoadStats load; // 로딩 시간 (성공)
+    private final long loadFailures;
+
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * 로딩 시간 (ms)
+     */
+    public record LoadStats(long count, double meanMs, double maxMs, Map<String, Double> percentilesMs) {
+
+        static LoadStats of(HistogramSnapshot snapshot) {
+            Map<String, Double> percentiles = new LinkedHashMap<>();
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                percentiles.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+            }
+            return new LoadStats(snapshot.count(), snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS), percentiles);
+        }
+    }
+}
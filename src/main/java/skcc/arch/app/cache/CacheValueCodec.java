@@ -0,0 +1,142 @@
+package skcc.arch.app.cache;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4SafeDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 캐시 값 인코딩 (코덱 선택 + LZ4 압축)
+ * <p>
+ * 저장 형식 : [0x00][코덱 id][압축 방식][원본 길이(4byte, 압축 시)][본문]
+ * <ul>
+ *     <li>기본 코덱(JSON)을 압축 없이 저장할 경우 헤더 없이 기존 형식 그대로 저장한다.</li>
+ *     <li>첫 바이트가 0x00 이 아니면 헤더 없는 기존 JSON 값으로 읽는다. (JSON 은 0x00 으로 시작하지 않음)</li>
+ *     <li>압축은 본문 크기가 압축 기준 이상이고, 압축 결과가 더 작을 때만 적용한다.</li>
+ * </ul>
+ */
+public class CacheValueCodec {
+
+    static final byte MAGIC = 0x00;
+    static final byte COMPRESSION_NONE = 0;
+    static final byte COMPRESSION_LZ4 = 1;
+    private static final int HEADER_SIZE = 3;
+    private static final int LENGTH_SIZE = Integer.BYTES;
+
+    private final CacheCodec defaultCodec;
+    private final Map<String, CacheCodec> codecsByName = new HashMap<>();
+    private final Map<Byte, CacheCodec> codecsById = new HashMap<>();
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4SafeDecompressor decompressor = LZ4Factory.fastestInstance().safeDecompressor();
+
+    /**
+     * @param defaultCodec 헤더 없는 기존 값을 읽을 코덱
+     * @param codecs       사용 가능한 코덱 목록
+     */
+    public CacheValueCodec(CacheCodec defaultCodec, List<CacheCodec> codecs) {
+        this.defaultCodec = defaultCodec;
+        register(defaultCodec);
+        codecs.forEach(this::register);
+    }
+
+    /**
+     * 기본 코덱 구성 (json, smile)
+     */
+    public static CacheValueCodec defaults(RedisSerializer<Object> jsonSerializer) {
+        return new CacheValueCodec(new JsonCacheCodec(jsonSerializer), List.of(new SmileCacheCodec()));
+    }
+
+    private void register(CacheCodec codec) {
+        if (codec.id() == MAGIC) {
+            throw new IllegalArgumentException("캐시 코덱 id 는 0 일 수 없습니다 : " + codec.name());
+        }
+        CacheCodec previous = codecsById.get(codec.id());
+        if (previous != null && previous != codec) {
+            throw new IllegalArgumentException("캐시 코덱 id 중복 : " + codec.name() + ", " + previous.name());
+        }
+        codecsById.put(codec.id(), codec);
+        codecsByName.put(codec.name().toLowerCase(), codec);
+    }
+
+    /**
+     * @param codecName            코덱명 (null 일 경우 기본 코덱)
+     * @param compressionThreshold 압축 기준 크기 (byte, 0 이하일 경우 압축하지 않음)
+     */
+    public byte[] encode(Object value, String codecName, long compressionThreshold) {
+        CacheCodec codec = codecOf(codecName);
+        byte[] payload = codec.encode(value);
+        boolean compress = compressionThreshold > 0 && payload.length >= compressionThreshold;
+
+        if (compress) {
+            byte[] compressed = new byte[HEADER_SIZE + LENGTH_SIZE + compressor.maxCompressedLength(payload.length)];
+            int compressedLength = compressor.compress(payload, 0, payload.length, compressed, HEADER_SIZE + LENGTH_SIZE);
+            if (compressedLength < payload.length) {
+                ByteBuffer.wrap(compressed)
+                        .put(MAGIC).put(codec.id()).put(COMPRESSION_LZ4)
+                        .putInt(payload.length);
+                byte[] result = new byte[HEADER_SIZE + LENGTH_SIZE + compressedLength];
+                System.arraycopy(compressed, 0, result, 0, result.length);
+                return result;
+            }
+        }
+        // 기본 코덱 + 비압축은 기존 형식 유지
+        if (codec == defaultCodec) {
+            return payload;
+        }
+        byte[] result = new byte[HEADER_SIZE + payload.length];
+        result[0] = MAGIC;
+        result[1] = codec.id();
+        result[2] = COMPRESSION_NONE;
+        System.arraycopy(payload, 0, result, HEADER_SIZE, payload.length);
+        return result;
+    }
+
+    public Object decode(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes[0] != MAGIC) {
+            return defaultCodec.decode(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("잘못된 캐시 값 헤더");
+        }
+
+        CacheCodec codec = codecsById.get(bytes[1]);
+        if (codec == null) {
+            throw new SerializationException("알 수 없는 캐시 코덱 id : " + bytes[1]);
+        }
+        return switch (bytes[2]) {
+            case COMPRESSION_NONE -> {
+                byte[] payload = new byte[bytes.length - HEADER_SIZE];
+                System.arraycopy(bytes, HEADER_SIZE, payload, 0, payload.length);
+                yield codec.decode(payload);
+            }
+            case COMPRESSION_LZ4 -> {
+                int length = ByteBuffer.wrap(bytes, HEADER_SIZE, LENGTH_SIZE).getInt();
+                byte[] payload = new byte[length];
+                decompressor.decompress(bytes, HEADER_SIZE + LENGTH_SIZE, bytes.length - HEADER_SIZE - LENGTH_SIZE,
+                        payload, 0, length);
+                yield codec.decode(payload);
+            }
+            default -> throw new SerializationException("알 수 없는 캐시 압축 방식 : " + bytes[2]);
+        };
+    }
+
+    private CacheCodec codecOf(String codecName) {
+        if (codecName == null) {
+            return defaultCodec;
+        }
+        CacheCodec codec = codecsByName.get(codecName.toLowerCase());
+        if (codec == null) {
+            throw new IllegalArgumentException("알 수 없는 캐시 코덱 : " + codecName);
+        }
+        return codec;
+    }
+}
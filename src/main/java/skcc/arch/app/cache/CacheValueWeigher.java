@@ -0,0 +1,182 @@
+package skcc.arch.app.cache;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * 캐시 값의 메모리 점유 크기 추정 (byte, 64bit JVM + compressed oops 기준)
+ * <p>
+ * Caffeine maximumWeight 의 weigher 로 사용한다. 저장마다 호출되므로 정확도보다 속도를 우선한다.
+ * <ul>
+ *     <li>자주 캐시하는 타입은 register 로 구조 기반 추정 함수를 등록한다. (예: Code 트리)</li>
+ *     <li>그 외 타입은 문자열, 배열, 컬렉션, Map 을 따라가고, 일반 객체는 필드를 reflection 으로 따라간다.
+ *     (최대 깊이 {@value #MAX_DEPTH}, 접근할 수 없는 JDK 내부 필드는 얕은 크기만 계산)</li>
+ * </ul>
+ */
+public class CacheValueWeigher {
+
+    public static final long OBJECT_HEADER = 12;
+    public static final long REFERENCE = 4;
+    public static final long ENTRY_OVERHEAD = 64; // Caffeine 노드 + ConcurrentHashMap 엔트리
+    private static final long BOXED = 16; // Long, Integer 등
+    private static final long COLLECTION_OVERHEAD = 24; // ArrayList, HashSet 등 컬렉션 객체 자체
+    private static final long MAP_ENTRY = 32; // HashMap.Node
+    private static final int MAX_DEPTH = 8;
+
+    private final Map<Class<?>, ToLongFunction<Object>> estimators = new ConcurrentHashMap<>();
+    // 클래스별 인스턴스 필드 (얕은 크기, 따라갈 참조 필드)
+    private final ClassValue<ClassLayout> layouts = new ClassValue<>() {
+        @Override
+        protected ClassLayout computeValue(Class<?> type) {
+            return ClassLayout.of(type);
+        }
+    };
+
+    /**
+     * 타입별 추정 함수 등록 (해당 클래스와 정확히 같은 타입에만 적용, 중첩된 값에도 적용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> CacheValueWeigher register(Class<T> type, ToLongFunction<? super T> estimator) {
+        estimators.put(type, value -> estimator.applyAsLong((T) value));
+        return this;
+    }
+
+    /**
+     * 캐시 엔트리 무게 (키 + 값 + 엔트리 자체, Caffeine weigher)
+     */
+    public int weigh(String key, Object value) {
+        long size = ENTRY_OVERHEAD + stringSize(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, size);
+    }
+
+    /**
+     * 값의 점유 크기 추정
+     */
+    public long estimate(Object value) {
+        return estimate(value, 0, new IdentityHashMap<>());
+    }
+
+    private long estimate(Object value, int depth, Map<Object, Boolean> visited) {
+        if (value == null || value instanceof Enum<?> || value instanceof Class<?>) {
+            return 0; // 공유 인스턴스
+        }
+        ToLongFunction<Object> estimator = estimators.get(value.getClass());
+        if (estimator != null) {
+            return estimator.applyAsLong(value);
+        }
+        if (value instanceof String string) {
+            return stringSize(string);
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return BOXED;
+        }
+        if (depth >= MAX_DEPTH || visited.put(value, Boolean.TRUE) != null) {
+            return 0;
+        }
+
+        Class<?> type = value.getClass();
+        if (type.isArray()) {
+            int length = Array.getLength(value);
+            Class<?> componentType = type.getComponentType();
+            if (componentType.isPrimitive()) {
+                return align(OBJECT_HEADER + 4 + length * primitiveSize(componentType));
+            }
+            long size = align(OBJECT_HEADER + 4 + length * REFERENCE);
+            for (Object element : (Object[]) value) {
+                size += estimate(element, depth + 1, visited);
+            }
+            return size;
+        }
+        if (value instanceof Collection<?> collection) {
+            long size = COLLECTION_OVERHEAD + arraySize(collection.size());
+            for (Object element : collection) {
+                size += estimate(element, depth + 1, visited);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> map) {
+            long size = COLLECTION_OVERHEAD + arraySize(map.size()) + map.size() * MAP_ENTRY;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                size += estimate(entry.getKey(), depth + 1, visited) + estimate(entry.getValue(), depth + 1, visited);
+            }
+            return size;
+        }
+
+        ClassLayout layout = layouts.get(type);
+        long size = layout.shallowSize();
+        for (Field field : layout.references()) {
+            try {
+                size += estimate(field.get(value), depth + 1, visited);
+            } catch (IllegalAccessException e) {
+                // 접근 불가 필드는 얕은 크기만 반영
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 문자열 크기 (String + byte[], 비 Latin-1 문자가 흔하므로 UTF-16 으로 계산)
+     */
+    public static long stringSize(String value) {
+        return value == null ? 0 : align(OBJECT_HEADER + 12) + align(OBJECT_HEADER + 4 + value.length() * 2L);
+    }
+
+    /**
+     * 참조 배열 크기 (ArrayList 내부 배열 등)
+     */
+    public static long arraySize(int length) {
+        return align(OBJECT_HEADER + 4 + length * REFERENCE);
+    }
+
+    /**
+     * 8 byte 정렬
+     */
+    public static long align(long size) {
+        return (size + 7) & ~7L;
+    }
+
+    private static long primitiveSize(Class<?> type) {
+        if (type == long.class || type == double.class) {
+            return 8;
+        }
+        if (type == int.class || type == float.class) {
+            return 4;
+        }
+        if (type == short.class || type == char.class) {
+            return 2;
+        }
+        return 1;
+    }
+
+    private record ClassLayout(long shallowSize, List<Field> references) {
+
+        static ClassLayout of(Class<?> type) {
+            long size = OBJECT_HEADER;
+            List<Field> references = new ArrayList<>();
+            for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+                for (Field field : current.getDeclaredFields()) {
+                    if (Modifier.isStatic(field.getModifiers())) {
+                        continue;
+                    }
+                    if (field.getType().isPrimitive()) {
+                        size += primitiveSize(field.getType());
+                        continue;
+                    }
+                    size += REFERENCE;
+                    if (field.trySetAccessible()) {
+                        references.add(field);
+                    }
+                }
+            }
+            return new ClassLayout(align(size), List.copyOf(references));
+        }
+    }
+}
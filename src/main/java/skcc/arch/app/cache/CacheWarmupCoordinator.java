@@ -0,0 +1,24 @@
+package skcc.arch.app.cache;
+
+import java.util.function.BooleanSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * 노드간 초기 적재 조정
+ * <p>
+ * 공유 캐시(Redis)는 한 노드만 적재하고, 나머지 노드는 적재 완료를 기다리거나 건너뛴다.
+ */
+@FunctionalInterface
+public interface CacheWarmupCoordinator {
+
+    /**
+     * 로컬 캐시 - 노드마다 적재
+     */
+    CacheWarmupCoordinator LOCAL = (cacheGroupName, loader) -> loader.applyAsInt(() -> true);
+
+    /**
+     * @param loader 적재 로직 (인자 : 적재 권한 보유 여부, 배치 저장 전 확인) - 저장 건수 반환
+     * @return 저장 건수 (다른 노드가 적재한 경우 0)
+     */
+    int warmup(String cacheGroupName, ToIntFunction<BooleanSupplier> loader);
+}
@@ -0,0 +1,57 @@
+package skcc.arch.app.cache;
+
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * 캐시 초기 적재 상태 (readiness 그룹에 포함)
+ * <p>
+ * 적재가 끝나기 전까지 OUT_OF_SERVICE 를 반환하여 트래픽을 받지 않는다.
+ * 적재에 실패하더라도 캐시는 조회 시 적재되므로 UP 으로 전환한다.
+ */
+public class CacheWarmupHealthIndicator implements HealthIndicator {
+
+    private enum State { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private volatile State state = State.PENDING;
+    private volatile int loadedCount;
+    private volatile long elapsedMillis;
+    private volatile String error;
+
+    public void started() {
+        state = State.RUNNING;
+    }
+
+    public void completed(int loadedCount, long elapsedMillis) {
+        this.loadedCount = loadedCount;
+        this.elapsedMillis = elapsedMillis;
+        this.state = State.COMPLETED;
+    }
+
+    public void failed(Exception e, long elapsedMillis) {
+        this.error = e.getMessage();
+        this.elapsedMillis = elapsedMillis;
+        this.state = State.FAILED;
+    }
+
+    public boolean isDone() {
+        return state == State.COMPLETED || state == State.FAILED;
+    }
+
+    @Override
+    public Health health() {
+        return switch (state) {
+            case PENDING, RUNNING -> Health.outOfService().withDetail("state", state).build();
+            case COMPLETED -> Health.up()
+                    .withDetail("state", state)
+                    .withDetail("loaded", loadedCount)
+                    .withDetail("elapsedMillis", elapsedMillis)
+                    .build();
+            case FAILED -> Health.up()
+                    .withDetail("state", state)
+                    .withDetail("error", String.valueOf(error))
+                    .withDetail("elapsedMillis", elapsedMillis)
+                    .build();
+        };
+    }
+}
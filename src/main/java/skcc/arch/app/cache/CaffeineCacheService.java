@@ -1,44 +1,518 @@
 package skcc.arch.app.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public class CaffeineCacheService implements CacheService {
 
-    private final Cache<String, Object> caffeineCache = Caffeine.newBuilder()
-            .expireAfterWrite(10, TimeUnit.MINUTES) // 10분 TTL
-            .maximumSize(500) // 최대 500개의 엔트리
-            .build();
+    public static final String BACKEND = "caffeine";
+    private static final String CACHE_DELIMITER = ":";
+
+    private final Function<String, CacheProperties.GroupPolicy> policyResolver;
+    private final CacheMetrics cacheMetrics;
+    private final Executor refreshExecutor;
+    private final OffHeapCacheService secondLevel; // 2차 캐시 (최대 크기 초과로 제거된 값을 보관, 미사용 시 null)
+    private final CacheValueWeigher weigher; // 값 크기 추정 (maximumWeight 정책 그룹)
+
+    // 캐시그룹별 Caffeine 인스턴스 (그룹마다 TTL, 최대 크기가 다르며 그룹 삭제는 해당 인스턴스만 비운다)
+    private final Map<String, Cache<String, Object>> caches = new ConcurrentHashMap<>();
+    // 캐시그룹별 재적재 loader
+    private final Map<String, Function<String, Object>> loaders = new ConcurrentHashMap<>();
+
+    public CaffeineCacheService() {
+        this(500, Duration.ofMinutes(10)); // 최대 500개의 엔트리, 10분 TTL
+    }
+
+    /**
+     * 모든 캐시그룹에 같은 정책 적용
+     */
+    public CaffeineCacheService(int maximumSize, Duration expireAfterWrite) {
+        this(cacheGroupName -> {
+            CacheProperties.GroupPolicy policy = new CacheProperties.GroupPolicy();
+            policy.setMaximumSize(maximumSize);
+            policy.setTtl(expireAfterWrite);
+            return policy;
+        });
+    }
+
+    /**
+     * @param policyResolver 캐시그룹명으로 정책 조회
+     */
+    public CaffeineCacheService(Function<String, CacheProperties.GroupPolicy> policyResolver) {
+        this(policyResolver, new CacheMetrics(), CacheExecutors.newBoundedExecutor("caffeine-cache-refresh", 2, 100));
+    }
+
+    /**
+     * @param policyResolver  캐시그룹명으로 정책 조회
+     * @param cacheMetrics    캐시 메트릭
+     * @param refreshExecutor refresh-ahead 재적재 스레드풀
+     */
+    public CaffeineCacheService(Function<String, CacheProperties.GroupPolicy> policyResolver,
+                                CacheMetrics cacheMetrics, Executor refreshExecutor) {
+        this(policyResolver, cacheMetrics, refreshExecutor, null);
+    }
+
+    /**
+     * 2차 캐시 사용
+     * <p>
+     * 최대 크기 초과로 제거되는 값은 2차 캐시로 옮기고, 조회 미스 시 2차 캐시에서 찾으면 다시 1차 캐시로 올린다. (같은 키는 한쪽에만 보관)
+     * 옮길 때 남은 TTL, 저장 시각, 버전을 유지한다. (캐시 간 이동으로 만료가 늦춰지지 않음)
+     *
+     * @param secondLevel 2차 캐시 (null 일 경우 미사용)
+     */
+    public CaffeineCacheService(Function<String, CacheProperties.GroupPolicy> policyResolver,
+                                CacheMetrics cacheMetrics, Executor refreshExecutor, OffHeapCacheService secondLevel) {
+        this(policyResolver, cacheMetrics, refreshExecutor, secondLevel, new CacheValueWeigher());
+    }
+
+    /**
+     * @param weigher 캐시그룹 정책에 maximumWeight 가 있을 경우 엔트리 수 대신 추정 크기(byte) 합계로 제한
+     */
+    public CaffeineCacheService(Function<String, CacheProperties.GroupPolicy> policyResolver,
+                                CacheMetrics cacheMetrics, Executor refreshExecutor, OffHeapCacheService secondLevel,
+                                CacheValueWeigher weigher) {
+        this.policyResolver = policyResolver;
+        this.cacheMetrics = cacheMetrics;
+        this.refreshExecutor = refreshExecutor;
+        this.secondLevel = secondLevel;
+        this.weigher = weigher;
+    }
 
     @Override
     @SuppressWarnings("unchecked")
     public <T> T get(String key, Class<T> type) {
-        return (T) caffeineCache.getIfPresent(key); // 캐시에서 값을 가져오고 타입 변환
+        String group = groupOf(key);
+        Cache<String, Object> cache = cacheOf(group);
+        Object value = unwrap(cache.getIfPresent(key)); // 캐시에서 값을 가져오고 타입 변환 (hit/miss 는 StatsCounter 에서 집계)
+        if (value != null && expiresEarly(cache, group, key)) {
+            return null; // 이 요청만 미스로 처리하여 먼저 재적재 (다른 요청은 기존 값 사용)
+        }
+        if (value == null && secondLevel != null) {
+            value = unwrap(promote(cache, group, key));
+        }
+        return (T) value;
     }
 
     @Override
     public void put(String key, Object value) {
-        caffeineCache.put(key, value); // 객체를 그대로 저장
+        String group = groupOf(key);
+        cacheOf(group).put(key, newValue(group, value, NO_VERSION)); // 객체를 그대로 저장 (저장 시각, 만료 시각 포함)
+        cacheMetrics.recordPuts(BACKEND, group, 1);
+        if (secondLevel != null) {
+            secondLevel.evict(key); // 이전 값 제거
+        }
+    }
+
+    /**
+     * 저장된 값의 버전보다 새 버전일 때만 저장 (asMap().compute 로 원자적 비교, 2차 캐시에 있는 값의 버전도 비교)
+     */
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        String group = groupOf(key);
+        boolean[] stored = new boolean[1];
+        cacheOf(group).asMap().compute(key, (k, existing) -> {
+            Object current = existing == null && secondLevel != null ? fromSecondLevel(secondLevel.take(k)) : existing;
+            if (current instanceof StoredValue currentValue && currentValue.version() >= version) {
+                return current; // 더 새로운 값 유지 (남은 TTL 유지)
+            }
+            stored[0] = true;
+            return newValue(group, value, version);
+        });
+        if (stored[0]) {
+            cacheMetrics.recordPuts(BACKEND, group, 1);
+            if (secondLevel != null) {
+                secondLevel.evict(key); // 이전 값 제거
+            }
+        }
+        return stored[0];
+    }
+
+    /**
+     * 남은 TTL 을 지정하여 저장 (스냅샷 복원용)
+     */
+    public void put(String key, Object value, Duration ttl) {
+        String group = groupOf(key);
+        long now = System.currentTimeMillis();
+        cacheOf(group).put(key, new StoredValue(value, NO_VERSION, now, now + ttl.toMillis()));
+        cacheMetrics.recordPuts(BACKEND, group, 1);
     }
 
     @Override
     public void evict(String key) {
-        caffeineCache.invalidate(key); // 캐시에서 삭제
+        String group = groupOf(key);
+        Cache<String, Object> cache = caches.get(group);
+        if (cache != null && cache.asMap().remove(key) != null) { // 캐시에서 삭제
+            cacheMetrics.recordEvictions(BACKEND, group, CacheMetrics.CAUSE_EXPLICIT, 1);
+        }
+        if (secondLevel != null) {
+            secondLevel.evict(key);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>();
+        groupByCacheGroup(keys).forEach((group, groupKeys) ->
+                cacheOf(group).getAllPresent(groupKeys).forEach((key, value) -> result.put(key, (T) unwrap(value))));
+        if (secondLevel != null && result.size() < keys.size()) {
+            keys.stream().filter(key -> !result.containsKey(key)).forEach(key -> {
+                String group = groupOf(key);
+                Object promoted = unwrap(promote(cacheOf(group), group, key));
+                if (promoted != null) {
+                    result.put(key, (T) promoted);
+                }
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 조회 통계, 사용 빈도(W-TinyLFU), refresh 에 반영하지 않고 조회 (2차 캐시 값은 1차로 올리지 않음)
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+        for (String key : keys) {
+            Cache<String, Object> cache = caches.get(groupOf(key));
+            Object value = cache == null ? null : unwrap(cache.policy().getIfPresentQuietly(key));
+            if (value != null) {
+                result.put(key, (T) value);
+            } else {
+                missing.add(key);
+            }
+        }
+        if (secondLevel != null && !missing.isEmpty()) {
+            result.putAll(secondLevel.peekAll(missing, type));
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        groupByCacheGroup(entries.keySet()).forEach((group, groupKeys) -> {
+            Map<String, Object> groupEntries = new HashMap<>();
+            groupKeys.forEach(key -> groupEntries.put(key, newValue(group, entries.get(key), NO_VERSION)));
+            cacheOf(group).putAll(groupEntries);
+            cacheMetrics.recordPuts(BACKEND, group, groupEntries.size());
+        });
+        if (secondLevel != null) {
+            secondLevel.evictAll(entries.keySet());
+        }
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        groupByCacheGroup(keys).forEach((group, groupKeys) -> {
+            Cache<String, Object> cache = caches.get(group);
+            if (cache != null) {
+                long removed = groupKeys.stream().filter(key -> cache.asMap().remove(key) != null).count();
+                cacheMetrics.recordEvictions(BACKEND, group, CacheMetrics.CAUSE_EXPLICIT, removed);
+            }
+        });
+        if (secondLevel != null) {
+            secondLevel.evictAll(keys);
+        }
     }
 
     @Override
     public void clearAll() {
-        caffeineCache.invalidateAll();
+        caches.keySet().forEach(this::clearByCacheGroup);
+        if (secondLevel != null) {
+            secondLevel.clearAll();
+        }
     }
 
     @Override
     public void clearByCacheGroup(String cacheGroupName) {
-        caffeineCache.getAllPresent(caffeineCache.asMap().keySet()).keySet().forEach(key -> {
-            if (key.startsWith(cacheGroupName)) {
-                caffeineCache.invalidate(key);
+        Cache<String, Object> cache = caches.get(cacheGroupName);
+        if (cache != null) {
+            long size = cache.estimatedSize();
+            cache.invalidateAll();
+            cacheMetrics.recordEvictions(BACKEND, cacheGroupName, CacheMetrics.CAUSE_CLEARED, size);
+        }
+        if (secondLevel != null) {
+            secondLevel.clearByCacheGroup(cacheGroupName);
+        }
+    }
+
+    /**
+     * 재적재 시점에 loader 를 조회하므로 이미 생성된 캐시에도 바로 반영된다. (캐시를 다시 만들지 않음)
+     */
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        loaders.put(cacheGroupName, loader);
+    }
+
+    /**
+     * 생성된 캐시그룹명 목록
+     */
+    public Set<String> getCacheGroupNames() {
+        return Set.copyOf(caches.keySet());
+    }
+
+    /**
+     * 캐시그룹이 사용 중인 메모리 (byte, 추정치 - maximumWeight 정책 그룹만, 그 외 0)
+     */
+    public long weightedSize(String cacheGroupName) {
+        Cache<String, Object> cache = caches.get(cacheGroupName);
+        if (cache == null) {
+            return 0;
+        }
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    /**
+     * 캐시그룹의 엔트리와 남은 TTL (스냅샷 저장용, 만료된 엔트리 제외)
+     */
+    public List<TtlEntry> entries(String cacheGroupName) {
+        Cache<String, Object> cache = caches.get(cacheGroupName);
+        List<TtlEntry> entries = new ArrayList<>();
+        if (cache == null) {
+            return entries;
+        }
+        long now = System.currentTimeMillis();
+        cache.asMap().forEach((key, value) -> {
+            if (value instanceof StoredValue stored && stored.expiresAt() > now) {
+                entries.add(new TtlEntry(key, stored.value(), Duration.ofMillis(stored.expiresAt() - now)));
             }
         });
+        return entries;
+    }
+
+    /**
+     * 확률적 조기 만료 (남은 TTL 이 재계산 비용에 가까울수록 높은 확률)
+     */
+    private boolean expiresEarly(Cache<String, Object> cache, String cacheGroupName, String key) {
+        double beta = policyResolver.apply(cacheGroupName).getEarlyExpirationBeta();
+        long delta = cacheMetrics.recomputeCostNanos(cacheGroupName);
+        if (beta <= 0 || delta <= 0) {
+            return false;
+        }
+        boolean early = cache.policy().expireVariably()
+                .flatMap(expiry -> expiry.getExpiresAfter(key))
+                .map(remaining -> CacheExpiration.shouldRecomputeEarly(remaining.toNanos(), delta, beta))
+                .orElse(false);
+        if (early) {
+            cacheMetrics.recordRefresh(BACKEND, cacheGroupName, CacheMetrics.RESULT_EARLY);
+        }
+        return early;
+    }
+
+    private Cache<String, Object> cacheOf(String cacheGroupName) {
+        return caches.computeIfAbsent(cacheGroupName, this::buildCache);
+    }
+
+    private Cache<String, Object> buildCache(String cacheGroupName) {
+        CacheProperties.GroupPolicy policy = policyResolver.apply(cacheGroupName);
+        Caffeine<String, Object> builder = Caffeine.newBuilder()
+                .evictionListener((String key, Object value, RemovalCause cause) -> demote(key, value, cause))
+                .expireAfter(new WriteExpiry(policy)) // 저장 기준 만료 (jitter 적용, 스냅샷 복원 시 남은 TTL 지정)
+                .recordStats(() -> new CaffeineStatsCounter(cacheMetrics, BACKEND, cacheGroupName));
+        if (policy.getMaximumWeight() != null) {
+            // 값 크기가 제각각인 그룹(코드 트리 등)은 엔트리 수 대신 추정 메모리로 제한
+            builder = builder
+                    .maximumWeight(policy.getMaximumWeight().toBytes())
+                    .weigher((String key, Object value) -> weigher.weigh(key, unwrap(value)));
+        } else {
+            builder = builder.maximumSize(policy.getMaximumSize());
+        }
+        registerGauges(cacheGroupName, policy);
+
+        if (policy.getRefreshAfterWrite() == null) {
+            return builder.build();
+        }
+        // refresh-ahead : refreshAfterWrite 경과 후 조회 시 기존 값을 반환하고, 백그라운드에서 한 번만 재적재
+        // loader 는 재적재 시점에 조회한다. (캐시 생성 후 등록된 loader 도 사용, 미등록 시 기존 값 유지)
+        return builder
+                .refreshAfterWrite(policy.getRefreshAfterWrite())
+                .executor(refreshExecutor)
+                .build(new CacheLoader<String, Object>() {
+                    @Override
+                    public Object load(String key) {
+                        Function<String, Object> loader = loaders.get(cacheGroupName);
+                        if (loader == null) {
+                            return null;
+                        }
+                        Object loaded = CaffeineCacheService.this.reload(cacheGroupName, loader, key);
+                        return loaded instanceof Versioned versioned
+                                ? newValue(cacheGroupName, versioned.value(), versioned.version())
+                                : newValue(cacheGroupName, loaded, NO_VERSION);
+                    }
+
+                    @Override
+                    public Object reload(String key, Object oldValue) {
+                        Function<String, Object> loader = loaders.get(cacheGroupName);
+                        return loader == null ? oldValue : load(key);
+                    }
+                });
+    }
+
+    /**
+     * 캐시그룹 게이지 등록 (캐시그룹 생성 시 한 번)
+     */
+    private void registerGauges(String cacheGroupName, CacheProperties.GroupPolicy policy) {
+        if (policy.getMaximumWeight() != null) {
+            cacheMetrics.registerWeightedSize(BACKEND, cacheGroupName, () -> weightedSize(cacheGroupName));
+        }
+        cacheMetrics.registerSize(BACKEND, cacheGroupName, () -> {
+            Cache<String, Object> cache = caches.get(cacheGroupName);
+            return cache == null ? 0 : cache.estimatedSize();
+        });
+    }
+
+    /**
+     * 최대 크기 초과로 제거되는 값은 2차 캐시로 이동 (만료, 명시적 삭제는 이동하지 않음, 남은 TTL 유지)
+     */
+    private void demote(String key, Object value, RemovalCause cause) {
+        if (secondLevel == null || cause != RemovalCause.SIZE || key == null || !(value instanceof StoredValue stored)) {
+            return;
+        }
+        long remaining = stored.expiresAt() - System.currentTimeMillis();
+        if (remaining > 0) {
+            secondLevel.putDemoted(key, new OffHeapCacheService.Demoted(stored.value(), stored.version(),
+                    stored.writtenAt(), Duration.ofMillis(remaining)));
+        }
+    }
+
+    /**
+     * 2차 캐시의 값을 1차 캐시로 올림
+     * asMap().compute 안에서 2차 캐시에서 꺼내므로 같은 키의 저장, 삭제와 섞이지 않는다. (그 사이 저장된 값이 있으면 그 값 유지)
+     * 2차 캐시로 옮길 때의 남은 TTL, 저장 시각, 버전을 유지하고, 저장 후 refreshAfterWrite 가 지났으면 바로 재적재한다.
+     *
+     * @return 1차 캐시의 값 (없을 경우 null)
+     */
+    private Object promote(Cache<String, Object> cache, String cacheGroupName, String key) {
+        StoredValue[] promoted = new StoredValue[1];
+        Object current = cache.asMap().compute(key, (k, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            promoted[0] = fromSecondLevel(secondLevel.take(k));
+            return promoted[0];
+        });
+        if (promoted[0] != null) {
+            refreshIfDue(cache, cacheGroupName, key, promoted[0]);
+        }
+        return current;
+    }
+
+    private static StoredValue fromSecondLevel(OffHeapCacheService.Demoted demoted) {
+        if (demoted == null) {
+            return null;
+        }
+        return new StoredValue(demoted.value(), demoted.version(), demoted.writtenAt(),
+                System.currentTimeMillis() + demoted.remainingTtl().toMillis());
+    }
+
+    /**
+     * 원래 저장 시각 기준으로 refreshAfterWrite 가 지난 값은 재적재 (1차 캐시로 올리면 Caffeine 의 저장 시각이 바뀌므로)
+     */
+    private void refreshIfDue(Cache<String, Object> cache, String cacheGroupName, String key, StoredValue stored) {
+        Duration refreshAfterWrite = policyResolver.apply(cacheGroupName).getRefreshAfterWrite();
+        if (refreshAfterWrite != null && cache instanceof LoadingCache<String, Object> loadingCache
+                && System.currentTimeMillis() - stored.writtenAt() >= refreshAfterWrite.toMillis()) {
+            loadingCache.refresh(key);
+        }
+    }
+
+    /**
+     * 새로 저장하는 값 (저장 시각, jitter 적용한 만료 시각)
+     */
+    private StoredValue newValue(String cacheGroupName, Object value, long version) {
+        if (value == null) {
+            return null;
+        }
+        long now = System.currentTimeMillis();
+        return new StoredValue(value, version, now, now + policyResolver.apply(cacheGroupName).jitteredTtl().toMillis());
+    }
+
+    private static Object unwrap(Object value) {
+        return value instanceof StoredValue stored ? stored.value() : value;
+    }
+
+    private Object reload(String cacheGroupName, Function<String, Object> loader, String key) {
+        long start = System.nanoTime();
+        try {
+            Object value = loader.apply(key);
+            cacheMetrics.recordRecomputeCost(cacheGroupName, System.nanoTime() - start);
+            cacheMetrics.recordRefresh(BACKEND, cacheGroupName, CacheMetrics.RESULT_SUCCESS);
+            return value; // null 일 경우 캐시에서 제거됨
+        } catch (RuntimeException e) {
+            // 실패 시 기존 값 유지
+            cacheMetrics.recordRefresh(BACKEND, cacheGroupName, CacheMetrics.RESULT_FAILURE);
+            throw e;
+        }
+    }
+
+    private static Map<String, List<String>> groupByCacheGroup(Collection<String> keys) {
+        return keys.stream().collect(Collectors.groupingBy(CaffeineCacheService::groupOf));
+    }
+
+    private static String groupOf(String key) {
+        int idx = key.indexOf(CACHE_DELIMITER);
+        return idx < 0 ? key : key.substring(0, idx);
+    }
+
+    /**
+     * 1차 캐시에 저장한 값 (조회 시 값만 반환)
+     *
+     * @param version   putIfNewer 버전 (put 으로 저장한 값은 NO_VERSION)
+     * @param writtenAt 저장 시각 (epoch ms, 2차 캐시를 거쳐도 유지)
+     * @param expiresAt 만료 시각 (epoch ms, 2차 캐시를 거쳐도 유지)
+     */
+    private record StoredValue(Object value, long version, long writtenAt, long expiresAt) {
+
+        long remainingNanos() {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, expiresAt - System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * 캐시 엔트리와 남은 TTL
+     */
+    public record TtlEntry(String key, Object value, Duration remainingTtl) {
+    }
+
+    /**
+     * 값의 만료 시각에 만료 (expireAfterWrite 와 동일하나 엔트리별 TTL 지정 가능)
+     * 만료 시각은 저장 시 jitter 를 적용해 정하므로 같은 시각에 저장된 엔트리가 함께 만료되지 않으며,
+     * 2차 캐시에서 올린 값, 스냅샷에서 복원한 값은 남은 TTL 을 그대로 사용한다.
+     */
+    private record WriteExpiry(CacheProperties.GroupPolicy policy) implements Expiry<String, Object> {
+
+        @Override
+        public long expireAfterCreate(String key, Object value, long currentTime) {
+            return value instanceof StoredValue stored ? stored.remainingNanos() : policy.jitteredTtl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Object value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Object value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
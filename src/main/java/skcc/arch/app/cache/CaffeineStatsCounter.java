@@ -0,0 +1,57 @@
+package skcc.arch.app.cache;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.StatsCounter;
+
+/**
+ * Caffeine 통계를 캐시그룹별 Micrometer 메트릭으로 기록
+ */
+class CaffeineStatsCounter implements StatsCounter {
+
+    private final CacheMetrics cacheMetrics;
+    private final String backend;
+    private final String cacheGroupName;
+
+    CaffeineStatsCounter(CacheMetrics cacheMetrics, String backend, String cacheGroupName) {
+        this.cacheMetrics = cacheMetrics;
+        this.backend = backend;
+        this.cacheGroupName = cacheGroupName;
+    }
+
+    @Override
+    public void recordHits(int count) {
+        cacheMetrics.recordHits(backend, cacheGroupName, count);
+    }
+
+    @Override
+    public void recordMisses(int count) {
+        cacheMetrics.recordMisses(backend, cacheGroupName, count);
+    }
+
+    @Override
+    public void recordLoadSuccess(long loadTime) {
+        // 재적재 결과는 my.cache.refresh 로 집계
+    }
+
+    @Override
+    public void recordLoadFailure(long loadTime) {
+        // 재적재 결과는 my.cache.refresh 로 집계
+    }
+
+    @Override
+    public void recordEviction(int weight, RemovalCause cause) {
+        String evictionCause = switch (cause) {
+            case SIZE -> CacheMetrics.CAUSE_SIZE;
+            case EXPIRED -> CacheMetrics.CAUSE_EXPIRED;
+            case COLLECTED -> CacheMetrics.CAUSE_COLLECTED;
+            default -> cause.name().toLowerCase();
+        };
+        cacheMetrics.recordEvictions(backend, cacheGroupName, evictionCause, 1);
+    }
+
+    @Override
+    public CacheStats snapshot() {
+        return CacheStats.empty(); // 통계는 Micrometer 에서 조회
+    }
+}
@@ -0,0 +1,286 @@
+package skcc.arch.app.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 원격 캐시(Redis) 장애 시 빠른 실패 (circuit breaker)
+ * <p>
+ * 실패율 또는 느린 호출 비율이 기준을 넘으면 circuit 을 열고, 열린 동안에는 원격 캐시를 호출하지 않고
+ * 크기가 제한된 로컬 캐시(fallback)로 처리한다. (fallback miss 는 호출 측에서 DB 조회)
+ * 대기 시간이 지나면 일부 호출(half-open)로 복구 여부를 확인한다.
+ * <ul>
+ *     <li>원격 호출이 실패한 경우에도 예외 대신 fallback 으로 처리한다.</li>
+ *     <li>fallback 으로 처리한 변경(put, evict, clear)은 기록해 두었다가 circuit 이 닫히면 원격 캐시에서 삭제하여 이전 값이 조회되지 않도록 한다.
+ *     (기록 건수 초과 시 원격 캐시 전체 삭제)</li>
+ *     <li>circuit 이 닫히면 fallback 을 비운다.</li>
+ * </ul>
+ */
+@Slf4j
+public class CircuitBreakerCacheService implements CacheService, AsyncCacheService {
+
+    private final CacheService delegate;
+    private final CacheService fallback;
+    private final CircuitBreaker circuitBreaker;
+    private final int maxPendingInvalidations;
+    private final Executor recoveryExecutor;
+
+    // fallback 으로 처리한 변경 (circuit 이 닫히면 원격 캐시에 반영)
+    private final Set<String> pendingKeys = ConcurrentHashMap.newKeySet();
+    private final Set<String> pendingGroups = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean pendingClearAll = new AtomicBoolean();
+
+    /**
+     * @param delegate 원격 캐시
+     * @param fallback circuit 이 열린 동안 사용할 로컬 캐시 (크기, TTL 제한)
+     */
+    public CircuitBreakerCacheService(CacheService delegate, CacheService fallback,
+                                      CacheProperties.CircuitBreaker properties, CacheMetrics cacheMetrics, String backend) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.maxPendingInvalidations = properties.getMaxPendingInvalidations();
+        this.recoveryExecutor = CacheExecutors.newScheduler("cache-circuit-recovery");
+        this.circuitBreaker = CircuitBreaker.of(backend + "-cache", CircuitBreakerConfig.custom()
+                .failureRateThreshold(properties.getFailureRateThreshold())
+                .slowCallRateThreshold(properties.getSlowCallRateThreshold())
+                .slowCallDurationThreshold(properties.getSlowCallDurationThreshold())
+                .slidingWindowSize(properties.getSlidingWindowSize())
+                .minimumNumberOfCalls(properties.getMinimumNumberOfCalls())
+                .waitDurationInOpenState(properties.getWaitDurationInOpenState())
+                .permittedNumberOfCallsInHalfOpenState(properties.getPermittedNumberOfCallsInHalfOpenState())
+                .build());
+        this.circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            log.warn("캐시 circuit 상태 변경 [{}] : {}", backend, event.getStateTransition());
+            if (event.getStateTransition().getToState() == CircuitBreaker.State.CLOSED) {
+                recoveryExecutor.execute(this::recover);
+            }
+        });
+        cacheMetrics.registerCircuitBreakerState(backend, () -> switch (circuitBreaker.getState()) {
+            case CLOSED -> 0;
+            case OPEN, FORCED_OPEN -> 1;
+            case HALF_OPEN -> 2;
+            default -> 3;
+        });
+    }
+
+    public CircuitBreaker.State getState() {
+        return circuitBreaker.getState();
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        return call(() -> delegate.get(key, type), () -> fallback.get(key, type));
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        run(() -> delegate.put(key, value), () -> {
+            fallback.put(key, value);
+            addPendingKey(key);
+        });
+    }
+
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        return call(() -> delegate.putIfNewer(key, value, version), () -> {
+            addPendingKey(key);
+            return fallback.putIfNewer(key, value, version);
+        });
+    }
+
+    @Override
+    public void evict(String key) {
+        run(() -> delegate.evict(key), () -> {
+            fallback.evict(key);
+            addPendingKey(key);
+        });
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        return call(() -> delegate.getAll(keys, type), () -> fallback.getAll(keys, type));
+    }
+
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return call(() -> delegate.peekAll(keys, type), () -> fallback.peekAll(keys, type));
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        run(() -> delegate.putAll(entries), () -> {
+            fallback.putAll(entries);
+            entries.keySet().forEach(this::addPendingKey);
+        });
+    }
+
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        run(() -> delegate.putAllIfNewer(entries), () -> {
+            fallback.putAllIfNewer(entries);
+            entries.keySet().forEach(this::addPendingKey);
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        run(() -> delegate.evictAll(keys), () -> {
+            fallback.evictAll(keys);
+            keys.forEach(this::addPendingKey);
+        });
+    }
+
+    @Override
+    public void clearAll() {
+        fallback.clearAll();
+        run(delegate::clearAll, () -> pendingClearAll.set(true));
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        fallback.clearByCacheGroup(cacheGroupName);
+        run(() -> delegate.clearByCacheGroup(cacheGroupName), () -> pendingGroups.add(cacheGroupName));
+    }
+
+    /**
+     * circuit 이 열린 동안에는 노드간 락 없이 로딩
+     */
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return call(() -> delegate.tryLock(key, leaseTime), () -> LOCAL_LOCK_TOKEN);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        if (!LOCAL_LOCK_TOKEN.equals(token)) {
+            run(() -> delegate.unlock(key, token), () -> {
+                // 원격 락은 임대 시간 후 자동 해제
+            });
+        }
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        delegate.registerLoader(cacheGroupName, loader);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        return callAsync(() -> AsyncCacheService.of(delegate).getAsync(key, type), () -> fallback.get(key, type));
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        return callAsync(() -> AsyncCacheService.of(delegate).putAsync(key, value), () -> {
+            fallback.put(key, value);
+            addPendingKey(key);
+            return null;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return callAsync(() -> AsyncCacheService.of(delegate).evictAsync(key), () -> {
+            fallback.evict(key);
+            addPendingKey(key);
+            return null;
+        });
+    }
+
+    private <T> T call(Supplier<T> remote, Supplier<T> local) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return local.get();
+        }
+        long start = System.nanoTime();
+        try {
+            T result = remote.get();
+            circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (RuntimeException e) {
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            log.warn("원격 캐시 호출 실패, 로컬 캐시로 처리 : {}", e.getMessage());
+            return local.get();
+        }
+    }
+
+    private void run(Runnable remote, Runnable local) {
+        call(() -> {
+            remote.run();
+            return null;
+        }, () -> {
+            local.run();
+            return null;
+        });
+    }
+
+    private <T> CompletableFuture<T> callAsync(Supplier<CompletableFuture<T>> remote, Supplier<T> local) {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            return CompletableFuture.completedFuture(local.get());
+        }
+        long start = System.nanoTime();
+        CompletableFuture<T> future;
+        try {
+            future = remote.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.handle((result, e) -> {
+            if (e == null) {
+                circuitBreaker.onSuccess(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return result;
+            }
+            circuitBreaker.onError(System.nanoTime() - start, TimeUnit.NANOSECONDS, e);
+            log.warn("원격 캐시 비동기 호출 실패, 로컬 캐시로 처리 : {}", e.getMessage());
+            return local.get();
+        });
+    }
+
+    private void addPendingKey(String key) {
+        if (pendingKeys.size() < maxPendingInvalidations) {
+            pendingKeys.add(key);
+        } else {
+            pendingClearAll.set(true); // 기록 건수 초과 - 복구 시 전체 삭제
+        }
+    }
+
+    /**
+     * circuit 이 닫힌 후 fallback 으로 처리한 변경을 원격 캐시에 반영하고 fallback 을 비운다
+     */
+    private void recover() {
+        try {
+            if (pendingClearAll.getAndSet(false)) {
+                delegate.clearAll();
+                pendingKeys.clear();
+                pendingGroups.clear();
+            } else {
+                Set<String> groups = Set.copyOf(pendingGroups);
+                groups.forEach(delegate::clearByCacheGroup);
+                pendingGroups.removeAll(groups);
+                Set<String> keys = Set.copyOf(pendingKeys);
+                if (!keys.isEmpty()) {
+                    delegate.evictAll(keys);
+                    pendingKeys.removeAll(keys);
+                }
+            }
+            fallback.clearAll();
+            log.info("캐시 circuit 복구 완료");
+        } catch (RuntimeException e) {
+            // 복구 중 다시 실패하면 다음 복구 시 재시도 (전체 삭제)
+            pendingClearAll.set(true);
+            log.warn("캐시 circuit 복구 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package skcc.arch.app.cache;
+
+import com.google.common.hash.HashFunction;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * consistent hashing (가상 노드)
+ * <p>
+ * 노드마다 가상 노드 virtualNodes 개를 링에 배치하고, 키는 해시값 이후 처음 만나는 가상 노드의 노드에 할당한다.
+ * 노드 추가, 제거 시 해당 노드 몫의 키(약 1/N)만 다른 노드로 옮겨진다.
+ * 변경은 드물고 조회는 많으므로 변경 시 링을 복사하여 교체한다. (조회는 락 없음)
+ */
+public class ConsistentHashRing<T> {
+
+    private static final HashFunction HASH = Hashing.murmur3_128();
+
+    private final int virtualNodes;
+    private volatile State<T> state = new State<>(new TreeMap<>(), Map.of());
+
+    public ConsistentHashRing(int virtualNodes) {
+        if (virtualNodes <= 0) {
+            throw new IllegalArgumentException("가상 노드 수는 1 이상이어야 합니다 : " + virtualNodes);
+        }
+        this.virtualNodes = virtualNodes;
+    }
+
+    public synchronized void add(String name, T node) {
+        if (state.nodes().containsKey(name)) {
+            throw new IllegalArgumentException("이미 등록된 노드 : " + name);
+        }
+        NavigableMap<Long, String> ring = new TreeMap<>(state.ring());
+        for (int i = 0; i < virtualNodes; i++) {
+            ring.putIfAbsent(hash(name + "#" + i), name);
+        }
+        Map<String, T> nodes = new LinkedHashMap<>(state.nodes());
+        nodes.put(name, node);
+        this.state = new State<>(ring, Collections.unmodifiableMap(nodes));
+    }
+
+    /**
+     * @return 제거한 노드 (없을 경우 null)
+     */
+    public synchronized T remove(String name) {
+        if (!state.nodes().containsKey(name)) {
+            return null;
+        }
+        NavigableMap<Long, String> ring = new TreeMap<>(state.ring());
+        ring.values().removeIf(name::equals);
+        Map<String, T> nodes = new LinkedHashMap<>(state.nodes());
+        T removed = nodes.remove(name);
+        this.state = new State<>(ring, Collections.unmodifiableMap(nodes));
+        return removed;
+    }
+
+    /**
+     * 키를 담당하는 노드명
+     */
+    public String nodeNameOf(String key) {
+        return state.nodeNameOf(key);
+    }
+
+    public T nodeOf(String key) {
+        State<T> current = state; // 링과 노드 목록을 같은 시점으로 조회
+        return current.nodes().get(current.nodeNameOf(key));
+    }
+
+    /**
+     * 키를 담당하는 노드명과 노드 (같은 시점 기준)
+     */
+    public Map.Entry<String, T> entryOf(String key) {
+        State<T> current = state;
+        String name = current.nodeNameOf(key);
+        return Map.entry(name, current.nodes().get(name));
+    }
+
+    /**
+     * 등록된 노드 (등록 순서)
+     */
+    public Map<String, T> nodes() {
+        return state.nodes();
+    }
+
+    private static long hash(String value) {
+        return HASH.hashString(value, StandardCharsets.UTF_8).asLong();
+    }
+
+    /**
+     * 링(가상 노드 해시 -> 노드명)과 노드 목록 (함께 교체)
+     */
+    private record State<T>(NavigableMap<Long, String> ring, Map<String, T> nodes) {
+
+        String nodeNameOf(String key) {
+            if (ring.isEmpty()) {
+                throw new IllegalStateException("등록된 노드가 없습니다");
+            }
+            Map.Entry<Long, String> entry = ring.ceilingEntry(hash(key));
+            return (entry != null ? entry : ring.firstEntry()).getValue();
+        }
+    }
+}
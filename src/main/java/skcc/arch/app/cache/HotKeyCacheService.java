@@ -0,0 +1,221 @@
+package skcc.arch.app.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * hot key 로컬 복제 (redis 모드)
+ * <p>
+ * 조회 빈도가 높은 키({@link HotKeyDetector})는 짧은 TTL 의 로컬 복제본에서 반환하여 특정 Redis 키(샤드)로 조회가 몰리지 않게 한다.
+ * 이 노드의 변경(put, evict, clear)은 복제본에서 즉시 제거하고 조회 중 변경이 끼어든 값은 복제하지 않으며,
+ * 다른 노드의 변경은 최대 복제본 TTL 동안 반영되지 않는다.
+ */
+public class HotKeyCacheService implements CacheService, AsyncCacheService {
+
+    public static final String BACKEND = "hotkey";
+    private static final String CACHE_DELIMITER = ":";
+
+    private final CacheService delegate;
+    private final HotKeyDetector detector;
+    private final CacheMetrics cacheMetrics;
+    private final Cache<String, Object> replica;
+    private final ScheduledExecutorService scheduler;
+    // 변경(put, evict, clear)마다 증가. 원격 조회 중 변경이 끼어들면 이전 값으로 복제하지 않기 위해 사용
+    private final AtomicLong writeSeq = new AtomicLong();
+
+    /**
+     * @param delegate 원격 캐시
+     */
+    public HotKeyCacheService(CacheService delegate, CacheProperties.HotKey properties, CacheMetrics cacheMetrics) {
+        this.delegate = delegate;
+        this.detector = new HotKeyDetector(properties.getSketchWidth(), properties.getSampleRate(),
+                properties.getThreshold(), properties.getTopK());
+        this.cacheMetrics = cacheMetrics;
+        this.replica = Caffeine.newBuilder()
+                .expireAfterWrite(properties.getReplicaTtl())
+                .maximumSize(properties.getTopK() * 2L)
+                .build();
+        long windowMillis = properties.getWindow().toMillis();
+        this.scheduler = CacheExecutors.newScheduler("cache-hot-key");
+        this.scheduler.scheduleAtFixedRate(detector::rotate, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 직전 window 의 hot key
+     */
+    public List<HotKeyDetector.HotKey> hotKeys() {
+        return detector.hotKeys();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Class<T> type) {
+        Object local = replicaOf(key);
+        if (local != null) {
+            return (T) local;
+        }
+        long seq = writeSeq.get();
+        T value = delegate.get(key, type);
+        replicate(key, value, seq);
+        return value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        Object local = replicaOf(key);
+        if (local != null) {
+            return CompletableFuture.completedFuture((T) local);
+        }
+        long seq = writeSeq.get();
+        return AsyncCacheService.of(delegate).getAsync(key, type).thenApply(value -> {
+            replicate(key, value, seq);
+            return value;
+        });
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        delegate.put(key, value);
+        invalidate(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        invalidate(key);
+        return AsyncCacheService.of(delegate).putAsync(key, value)
+                .whenComplete((ignored, e) -> invalidate(key));
+    }
+
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        boolean stored = delegate.putIfNewer(key, value, version);
+        invalidate(key);
+        return stored;
+    }
+
+    @Override
+    public void evict(String key) {
+        delegate.evict(key);
+        invalidate(key);
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return AsyncCacheService.of(delegate).evictAsync(key)
+                .whenComplete((ignored, e) -> invalidate(key));
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        keys.forEach(detector::record);
+        return delegate.getAll(keys, type);
+    }
+
+    /**
+     * hot key 집계, 복제본 없이 원격 캐시 조회
+     */
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return delegate.peekAll(keys, type);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        delegate.putAll(entries);
+        writeSeq.incrementAndGet();
+        replica.invalidateAll(entries.keySet());
+    }
+
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        delegate.putAllIfNewer(entries);
+        writeSeq.incrementAndGet();
+        replica.invalidateAll(entries.keySet());
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        delegate.evictAll(keys);
+        writeSeq.incrementAndGet();
+        replica.invalidateAll(keys);
+    }
+
+    @Override
+    public void clearAll() {
+        delegate.clearAll();
+        writeSeq.incrementAndGet();
+        replica.invalidateAll();
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        delegate.clearByCacheGroup(cacheGroupName);
+        String prefix = cacheGroupName + CACHE_DELIMITER;
+        writeSeq.incrementAndGet();
+        replica.asMap().keySet().removeIf(key -> key.startsWith(prefix)); // 복제본은 topK 수준으로 작음
+    }
+
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return delegate.tryLock(key, leaseTime);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        delegate.unlock(key, token);
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        delegate.registerLoader(cacheGroupName, loader);
+    }
+
+    private Object replicaOf(String key) {
+        detector.record(key);
+        if (!detector.isHot(key)) {
+            return null;
+        }
+        Object value = replica.getIfPresent(key);
+        if (value != null) {
+            cacheMetrics.recordHits(BACKEND, groupOf(key), 1);
+        }
+        return value;
+    }
+
+    /**
+     * 조회 시작(seq) 이후 변경이 없을 때만 복제 (변경 전 값이 복제본 TTL 동안 남지 않도록)
+     */
+    private void replicate(String key, Object value, long seq) {
+        if (value != null && detector.isHot(key) && seq == writeSeq.get()) {
+            replica.put(key, value);
+            // 복제 직후 변경이 들어온 경우 방금 복제한 값 제거
+            if (seq != writeSeq.get()) {
+                replica.invalidate(key);
+            }
+        }
+    }
+
+    /**
+     * 원격 캐시 변경 후 복제본 제거
+     */
+    private void invalidate(String key) {
+        writeSeq.incrementAndGet();
+        replica.invalidate(key);
+    }
+
+    private static String groupOf(String key) {
+        int idx = key.indexOf(CACHE_DELIMITER);
+        return idx < 0 ? key : key.substring(0, idx);
+    }
+}
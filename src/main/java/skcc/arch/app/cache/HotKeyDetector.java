@@ -0,0 +1,120 @@
+package skcc.arch.app.cache;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 조회 빈도가 높은 키(hot key) 탐지
+ * <p>
+ * 조회 키를 sample-rate 비율로 표본 추출하여 Count-Min sketch 에 기록하고, 추정 조회 수가 기준 이상인 키를 hot key 로 판단한다.
+ * <ul>
+ *     <li>sketch 는 고정 크기(depth x width)이므로 키 개수와 무관하게 메모리 사용량이 일정하다. (추정치는 실제보다 크거나 같음)</li>
+ *     <li>window 마다 {@link #rotate()} 를 호출하면 상위 키를 확정하고 카운터를 초기화한다. (기준, 추정 조회 수, 비율은 window 단위)</li>
+ * </ul>
+ */
+public class HotKeyDetector {
+
+    private static final int DEPTH = 4;
+
+    private final int width;
+    private final int mask;
+    private final AtomicLongArray counters;
+    private final double sampleRate;
+    private final long threshold; // 표본 기준 조회 수
+    private final int topK;
+    private final int maxCandidates;
+    private final LongAdder sampled = new LongAdder();
+
+    // 이번 window 에 기준을 넘은 키 (추정 조회 수)
+    private final Map<String, Long> candidates = new ConcurrentHashMap<>();
+    // 직전 window 에 확정된 hot key
+    private volatile Map<String, HotKey> hotKeys = Map.of();
+
+    /**
+     * @param width      sketch 행 크기 (2의 제곱수로 올림)
+     * @param sampleRate 표본 추출 비율 (0 ~ 1)
+     * @param threshold  window 당 hot key 기준 조회 수 (실제 조회 수 기준)
+     * @param topK       유지할 최대 hot key 수
+     */
+    public HotKeyDetector(int width, double sampleRate, long threshold, int topK) {
+        this.width = Integer.highestOneBit(Math.max(16, width - 1) << 1);
+        this.mask = this.width - 1;
+        this.counters = new AtomicLongArray(DEPTH * this.width);
+        this.sampleRate = sampleRate;
+        this.threshold = Math.max(1, Math.round(threshold * sampleRate));
+        this.topK = topK;
+        this.maxCandidates = topK * 8;
+    }
+
+    /**
+     * 조회 기록 (표본 추출)
+     */
+    public void record(String key) {
+        if (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+        sampled.increment();
+        int hash1 = spread(key.hashCode());
+        int hash2 = spread(hash1 ^ 0x9E3779B9) | 1;
+        long estimate = Long.MAX_VALUE;
+        for (int i = 0; i < DEPTH; i++) {
+            int index = i * width + ((hash1 + i * hash2) & mask);
+            estimate = Math.min(estimate, counters.incrementAndGet(index));
+        }
+        if (estimate >= threshold && (candidates.size() < maxCandidates || candidates.containsKey(key))) {
+            candidates.put(key, estimate);
+        }
+    }
+
+    public boolean isHot(String key) {
+        return hotKeys.containsKey(key) || candidates.containsKey(key);
+    }
+
+    /**
+     * 직전 window 의 hot key (조회 수 내림차순)
+     */
+    public List<HotKey> hotKeys() {
+        return hotKeys.values().stream()
+                .sorted(Comparator.comparingLong(HotKey::estimatedCount).reversed())
+                .toList();
+    }
+
+    /**
+     * window 종료 - 상위 topK 를 hot key 로 확정하고 카운터 초기화
+     */
+    public synchronized void rotate() {
+        long total = Math.max(1, sampled.sumThenReset());
+        Map<String, HotKey> rotated = new ConcurrentHashMap<>();
+        candidates.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(topK)
+                .forEach(entry -> rotated.put(entry.getKey(), new HotKey(entry.getKey(),
+                        Math.round(entry.getValue() / sampleRate), (double) entry.getValue() / total)));
+        hotKeys = rotated;
+        candidates.clear();
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    private static int spread(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    /**
+     * @param estimatedCount window 동안 추정 조회 수 (표본 비율 보정)
+     * @param share          window 동안 전체 조회 중 비율 (0 ~ 1)
+     */
+    public record HotKey(String key, long estimatedCount, double share) {
+    }
+}
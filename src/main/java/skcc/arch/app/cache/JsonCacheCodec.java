@@ -0,0 +1,38 @@
+package skcc.arch.app.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * JSON 코덱 (RedisTemplate 의 값 직렬화 사용, 기존 저장 형식과 동일)
+ */
+public class JsonCacheCodec implements CacheCodec {
+
+    public static final String NAME = "json";
+    private static final byte ID = 1;
+
+    private final RedisSerializer<Object> serializer;
+
+    public JsonCacheCodec(RedisSerializer<Object> serializer) {
+        this.serializer = serializer;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        return serializer.serialize(value);
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        return serializer.deserialize(bytes);
+    }
+}
@@ -0,0 +1,278 @@
+package skcc.arch.app.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 힙 외부(direct memory) 캐시
+ * <p>
+ * 값을 직렬화하여 direct ByteBuffer 에 저장하므로 큰 코드 트리가 힙(old 영역)에 쌓이지 않는다.
+ * <ul>
+ *     <li>캐시그룹별 메모리 예산(off-heap-maximum-size) 안에서 W-TinyLFU(Caffeine) 로 입장, 제거를 결정한다.</li>
+ *     <li>역직렬화는 조회 시점에 수행한다. (조회 시마다 새 객체를 반환하므로 반환 값을 수정해도 캐시에 영향 없음)</li>
+ *     <li>단독(my.cache.type=offheap) 또는 CaffeineCacheService 의 2차 캐시(my.cache.off-heap.l2=true)로 사용한다.
+ *     2차 캐시로 옮겨온 값은 1차 캐시에서의 남은 TTL, 저장 시각, 버전을 유지한다.</li>
+ * </ul>
+ * direct memory 는 ByteBuffer 가 GC 될 때 반환되므로 -XX:MaxDirectMemorySize 를 예산 합계보다 크게 설정해야 한다.
+ */
+@Slf4j
+public class OffHeapCacheService implements CacheService {
+
+    public static final String BACKEND = "offheap";
+    private static final String CACHE_DELIMITER = ":";
+
+    private final Function<String, CacheProperties.GroupPolicy> policyResolver;
+    private final CacheValueCodec valueCodec;
+    private final CacheMetrics cacheMetrics;
+
+    // 캐시그룹별 Caffeine 인스턴스 (값은 직렬화된 direct ByteBuffer, 가중치는 byte 크기)
+    private final Map<String, Cache<String, Stored>> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param policyResolver 캐시그룹명으로 정책 조회
+     * @param valueCodec     값 직렬화 (캐시그룹 정책의 codec, compression-threshold 적용)
+     * @param cacheMetrics   캐시 메트릭
+     */
+    public OffHeapCacheService(Function<String, CacheProperties.GroupPolicy> policyResolver,
+                               CacheValueCodec valueCodec, CacheMetrics cacheMetrics) {
+        this.policyResolver = policyResolver;
+        this.valueCodec = valueCodec;
+        this.cacheMetrics = cacheMetrics;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(String key, Class<T> type) {
+        Stored stored = cacheOf(groupOf(key)).getIfPresent(key); // hit/miss 는 StatsCounter 에서 집계
+        return stored == null ? null : (T) decode(stored.buffer());
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        String group = groupOf(key);
+        ByteBuffer buffer = encode(group, value);
+        if (buffer == null) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        cacheOf(group).put(key, new Stored(buffer, NO_VERSION, now, now + policyResolver.apply(group).getTtl().toMillis()));
+        cacheMetrics.recordPuts(BACKEND, group, 1);
+    }
+
+    /**
+     * 1차 캐시에서 옮겨온 값 저장 (남은 TTL, 저장 시각, 버전 유지)
+     */
+    public void putDemoted(String key, Demoted demoted) {
+        String group = groupOf(key);
+        ByteBuffer buffer = encode(group, demoted.value());
+        if (buffer == null) {
+            return;
+        }
+        cacheOf(group).put(key, new Stored(buffer, demoted.version(), demoted.writtenAt(),
+                System.currentTimeMillis() + demoted.remainingTtl().toMillis()));
+        cacheMetrics.recordPuts(BACKEND, group, 1);
+    }
+
+    /**
+     * 값을 꺼내면서 삭제 (1차 캐시로 올릴 때, 없거나 만료된 경우 null)
+     */
+    public Demoted take(String key) {
+        String group = groupOf(key);
+        Stored[] taken = new Stored[1];
+        cacheOf(group).asMap().computeIfPresent(key, (k, stored) -> {
+            taken[0] = stored;
+            return null;
+        });
+        long remaining = taken[0] == null ? 0 : taken[0].expiresAt() - System.currentTimeMillis();
+        if (remaining <= 0) {
+            cacheMetrics.recordMisses(BACKEND, group, 1);
+            return null;
+        }
+        cacheMetrics.recordHits(BACKEND, group, 1);
+        return new Demoted(decode(taken[0].buffer()), taken[0].version(), taken[0].writtenAt(), Duration.ofMillis(remaining));
+    }
+
+    @Override
+    public void evict(String key) {
+        String group = groupOf(key);
+        Cache<String, Stored> cache = caches.get(group);
+        if (cache != null && cache.asMap().remove(key) != null) {
+            cacheMetrics.recordEvictions(BACKEND, group, CacheMetrics.CAUSE_EXPLICIT, 1);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>();
+        groupByCacheGroup(keys).forEach((group, groupKeys) ->
+                cacheOf(group).getAllPresent(groupKeys).forEach((key, stored) -> result.put(key, (T) decode(stored.buffer()))));
+        return result;
+    }
+
+    /**
+     * 조회 통계, 사용 빈도에 반영하지 않고 조회
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>();
+        for (String key : keys) {
+            Cache<String, Stored> cache = caches.get(groupOf(key));
+            Stored stored = cache == null ? null : cache.policy().getIfPresentQuietly(key);
+            if (stored != null) {
+                result.put(key, (T) decode(stored.buffer()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        groupByCacheGroup(entries.keySet()).forEach((group, groupKeys) -> {
+            Map<String, Stored> groupEntries = new HashMap<>();
+            long now = System.currentTimeMillis();
+            long expiresAt = now + policyResolver.apply(group).getTtl().toMillis();
+            groupKeys.forEach(key -> {
+                ByteBuffer buffer = encode(group, entries.get(key));
+                if (buffer != null) {
+                    groupEntries.put(key, new Stored(buffer, NO_VERSION, now, expiresAt));
+                }
+            });
+            cacheOf(group).putAll(groupEntries);
+            cacheMetrics.recordPuts(BACKEND, group, groupEntries.size());
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        groupByCacheGroup(keys).forEach((group, groupKeys) -> {
+            Cache<String, Stored> cache = caches.get(group);
+            if (cache != null) {
+                long removed = groupKeys.stream().filter(key -> cache.asMap().remove(key) != null).count();
+                cacheMetrics.recordEvictions(BACKEND, group, CacheMetrics.CAUSE_EXPLICIT, removed);
+            }
+        });
+    }
+
+    @Override
+    public void clearAll() {
+        caches.keySet().forEach(this::clearByCacheGroup);
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        Cache<String, Stored> cache = caches.get(cacheGroupName);
+        if (cache != null) {
+            long size = cache.estimatedSize();
+            cache.invalidateAll();
+            cacheMetrics.recordEvictions(BACKEND, cacheGroupName, CacheMetrics.CAUSE_CLEARED, size);
+        }
+    }
+
+    /**
+     * 캐시그룹이 사용 중인 메모리 (byte, 추정치)
+     */
+    public long weightedSize(String cacheGroupName) {
+        Cache<String, Stored> cache = caches.get(cacheGroupName);
+        if (cache == null) {
+            return 0;
+        }
+        return cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L);
+    }
+
+    private ByteBuffer encode(String cacheGroupName, Object value) {
+        if (value == null) {
+            return null;
+        }
+        CacheProperties.GroupPolicy policy = policyResolver.apply(cacheGroupName);
+        byte[] bytes = valueCodec.encode(value, policy.getCodec(), policy.compressionThresholdBytes());
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+        return buffer.asReadOnlyBuffer();
+    }
+
+    private Object decode(ByteBuffer buffer) {
+        ByteBuffer view = buffer.duplicate(); // 조회 스레드마다 독립된 position
+        byte[] bytes = new byte[view.remaining()];
+        view.get(bytes);
+        return valueCodec.decode(bytes);
+    }
+
+    private Cache<String, Stored> cacheOf(String cacheGroupName) {
+        return caches.computeIfAbsent(cacheGroupName, this::buildCache);
+    }
+
+    private Cache<String, Stored> buildCache(String cacheGroupName) {
+        CacheProperties.GroupPolicy policy = policyResolver.apply(cacheGroupName);
+        long budget = policy.getOffHeapMaximumSize().toBytes();
+        log.info("off-heap 캐시 생성 : {} (예산 {} bytes)", cacheGroupName, budget);
+        cacheMetrics.registerSize(BACKEND, cacheGroupName, () -> {
+            Cache<String, Stored> cache = caches.get(cacheGroupName);
+            return cache == null ? 0 : cache.estimatedSize();
+        });
+        cacheMetrics.registerWeightedSize(BACKEND, cacheGroupName, () -> weightedSize(cacheGroupName));
+        return Caffeine.newBuilder()
+                .expireAfter(new StoredExpiry()) // 저장 시 정한 만료 시각 (1차 캐시에서 옮겨온 값은 남은 TTL)
+                .maximumWeight(budget)
+                .weigher((String key, Stored stored) -> stored.buffer().capacity())
+                .executor(Runnable::run) // 예산 초과 제거가 지연되지 않도록 저장 스레드에서 정리
+                .recordStats(() -> new CaffeineStatsCounter(cacheMetrics, BACKEND, cacheGroupName))
+                .build();
+    }
+
+    private static Map<String, List<String>> groupByCacheGroup(Collection<String> keys) {
+        return keys.stream().collect(Collectors.groupingBy(OffHeapCacheService::groupOf));
+    }
+
+    private static String groupOf(String key) {
+        int idx = key.indexOf(CACHE_DELIMITER);
+        return idx < 0 ? key : key.substring(0, idx);
+    }
+
+    /**
+     * 1차 캐시와 주고받는 값 (값, 버전, 저장 시각, 남은 TTL)
+     */
+    public record Demoted(Object value, long version, long writtenAt, Duration remainingTtl) {
+    }
+
+    /**
+     * 저장된 값 (직렬화된 값, 버전, 저장 시각, 만료 시각 epoch ms)
+     */
+    private record Stored(ByteBuffer buffer, long version, long writtenAt, long expiresAt) {
+    }
+
+    /**
+     * 값의 만료 시각에 만료
+     */
+    private static class StoredExpiry implements Expiry<String, Stored> {
+
+        @Override
+        public long expireAfterCreate(String key, Stored stored, long currentTime) {
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, stored.expiresAt() - System.currentTimeMillis()));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Stored stored, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, stored, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Stored stored, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,54 +1,772 @@
 package skcc.arch.app.cache;
 
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.core.types.Expiration;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import reactor.core.publisher.Mono;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-public class RedisCacheService implements CacheService {
+/**
+ * Redis 캐시
+ * <p>
+ * 실제 저장 키는 캐시그룹의 세대(generation)를 포함한다. (CODE:A -> CODE:v{전체세대}.{그룹세대}:A)
+ * clearAll, clearByCacheGroup 은 세대 카운터만 증가시키므로 키 개수와 무관하게 상수 시간에 끝나며,
+ * 이전 세대의 키는 TTL 로 만료되거나 백그라운드 SCAN/UNLINK 정리 작업으로 회수된다.
+ * 값은 캐시그룹 정책의 코덱(json, smile)과 압축 기준으로 인코딩한다. ({@link CacheValueCodec})
+ * 비동기 API({@link AsyncCacheService})는 Lettuce reactive 연결로 같은 Lua 스크립트를 실행한다.
+ * <p>
+ * 저장 키는 세대 키를 읽은 스크립트 안에서 만들어지므로(KEYS 로 미리 전달할 수 없음) 단일 Redis(standalone, Sentinel)만 지원한다.
+ * Redis Cluster 연결이면 생성 시 예외를 던진다. 여러 노드로 나누려면 sharded 모드({@link ShardedCacheService})를 사용한다.
+ */
+@Slf4j
+public class RedisCacheService implements CacheService, AsyncCacheService {
 
+    public static final String BACKEND = "redis";
     public static final String CACHE_DELIMITER = ":";
     public static final String PATTERN_ALL = "*";
+    public static final String GENERATION_KEY = "my-cache:gen"; // 전체 세대
+    public static final String GROUP_GENERATION_KEY_PREFIX = GENERATION_KEY + CACHE_DELIMITER; // 그룹 세대
+    public static final String LOCK_KEY_PREFIX = "my-cache:lock:"; // 로딩 락
+    private static final String REFRESH_LOCK_PREFIX = "refresh:"; // 재적재 락 (LOCK_KEY_PREFIX 하위)
+    private static final String VERSION_PREFIX = "v";
+    private static final String VERSION_KEY_SUFFIX = "#version"; // putIfNewer 값 버전 키 (값과 같은 세대, TTL)
+    private static final String WRITTEN_KEY_SUFFIX = "#written"; // 저장 시각 키 (refresh-ahead 그룹, Redis 서버 시각 ms, 값과 같은 TTL)
+    private static final int SWEEP_BATCH_SIZE = 500;
+
+    // KEYS[1]: 전체 세대 키, KEYS[2]: 그룹 세대 키, ARGV[1]: 그룹명, ARGV[2]: 그룹 내 키
+    // 저장 키를 ARGV 로 만들므로 Redis Cluster 에서는 슬롯이 맞지 않음 (standalone 전용)
+    private static final String NAMESPACED_KEY_LUA =
+            "local key = ARGV[1] .. ':v' .. (redis.call('GET', KEYS[1]) or '0') .. '.' .. (redis.call('GET', KEYS[2]) or '0') .. ':' .. ARGV[2] ";
+    // 스크립트 안에서 TIME 조회 후 쓰기 허용 (Redis 5, 6 - 7 부터는 기본 동작)
+    private static final String EFFECTS_REPLICATION_LUA = "redis.replicate_commands() ";
+    private static final RedisScript<byte[]> GET_SCRIPT =
+            new DefaultRedisScript<>(NAMESPACED_KEY_LUA + "return redis.call('GET', key)", byte[].class);
+    // 값, 남은 TTL(ms), 저장 후 경과 시간(ms, 저장 시각 키가 없으면 -1) 조회 (refresh-ahead, 조기 만료 대상 그룹)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_WITH_TTL_SCRIPT = new DefaultRedisScript<>(NAMESPACED_KEY_LUA
+            + "local written = redis.call('GET', key .. '" + WRITTEN_KEY_SUFFIX + "') "
+            + "local age = -1 "
+            + "if written then local t = redis.call('TIME') "
+            + "age = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) - tonumber(written) end "
+            + "return {redis.call('GET', key), redis.call('PTTL', key), age}", List.class);
+    // 다건 조회 + 저장 후 경과 시간 (refresh-ahead 그룹이 포함된 다건 조회, 세대는 미리 조회)
+    // KEYS: 저장 키, ARGV[i]: KEYS[i] 의 경과 시간 조회 여부 ('1') - 값 n 개, 경과 시간(ms, 저장 시각 키가 없으면 -1) n 개 반환
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> GET_ALL_WITH_AGE_SCRIPT = new DefaultRedisScript<>(
+            "local t = redis.call('TIME') "
+            + "local now = tonumber(t[1]) * 1000 + math.floor(tonumber(t[2]) / 1000) "
+            + "local n = #KEYS local result = {} "
+            + "for i = 1, n do "
+            + "result[i] = redis.call('GET', KEYS[i]) "
+            + "local age = -1 "
+            + "if ARGV[i] == '1' then local written = redis.call('GET', KEYS[i] .. '" + WRITTEN_KEY_SUFFIX + "') "
+            + "if written then age = now - tonumber(written) end end "
+            + "result[n + i] = age end "
+            + "return result", List.class);
+    // ARGV[5]: 저장 시각 키 저장 여부 ('1') - 버전 없는 값이므로 버전 키 삭제 (이후 putIfNewer 는 항상 저장)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>(EFFECTS_REPLICATION_LUA + NAMESPACED_KEY_LUA
+            + "redis.call('SET', key, ARGV[3], 'EX', ARGV[4]) "
+            + "redis.call('UNLINK', key .. '" + VERSION_KEY_SUFFIX + "') "
+            + writtenAtLua("key", "ARGV[4]", "ARGV[5]") + "return 1", Long.class);
+    // ARGV[5]: 버전 - 버전 키({키}#version)의 값보다 클 때만 값, 버전 저장 (ARGV[7] 이 '1' 이면 같은 버전도 저장 - 재적재)
+    // ARGV[6]: 저장 시각 키 저장 여부 ('1')
+    private static final RedisScript<Long> PUT_IF_NEWER_SCRIPT = new DefaultRedisScript<>(EFFECTS_REPLICATION_LUA + NAMESPACED_KEY_LUA
+            + "local versionKey = key .. '" + VERSION_KEY_SUFFIX + "' "
+            + "local current = redis.call('GET', versionKey) "
+            + "local version = tonumber(ARGV[5]) "
+            + "if current and (tonumber(current) > version or (tonumber(current) == version and ARGV[7] ~= '1')) then return 0 end "
+            + "redis.call('SET', key, ARGV[3], 'EX', ARGV[4]) "
+            + "redis.call('SET', versionKey, ARGV[5], 'EX', ARGV[4]) "
+            + writtenAtLua("key", "ARGV[4]", "ARGV[6]") + "return 1", Long.class);
+    // 다건 저장 (세대는 미리 조회) - KEYS[1]: 저장 키, ARGV[1]: 값, ARGV[2]: TTL, ARGV[3]: 저장 시각 키 저장 여부 (버전 키 삭제)
+    private static final String PUT_STORED_LUA = EFFECTS_REPLICATION_LUA
+            + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+            + "redis.call('UNLINK', KEYS[1] .. '" + VERSION_KEY_SUFFIX + "') "
+            + writtenAtLua("KEYS[1]", "ARGV[2]", "ARGV[3]") + "return 1";
+    // 다건 putIfNewer - KEYS[1]: 저장 키, KEYS[2]: 버전 키, ARGV[1]: 값, ARGV[2]: TTL, ARGV[3]: 버전, ARGV[4]: 저장 시각 키 저장 여부
+    private static final String PUT_IF_NEWER_STORED_LUA = EFFECTS_REPLICATION_LUA
+            + "local current = redis.call('GET', KEYS[2]) "
+            + "if current and tonumber(current) >= tonumber(ARGV[3]) then return 0 end "
+            + "redis.call('SET', KEYS[1], ARGV[1], 'EX', ARGV[2]) "
+            + "redis.call('SET', KEYS[2], ARGV[3], 'EX', ARGV[2]) "
+            + writtenAtLua("KEYS[1]", "ARGV[2]", "ARGV[4]") + "return 1";
+    // 값, 버전 키, 저장 시각 키 삭제 (값 삭제 건수 반환)
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(NAMESPACED_KEY_LUA
+            + "local removed = redis.call('UNLINK', key) "
+            + "redis.call('UNLINK', key .. '" + VERSION_KEY_SUFFIX + "', key .. '" + WRITTEN_KEY_SUFFIX + "') return removed", Long.class);
+    // 본인이 획득한 락만 해제 (토큰 비교 후 삭제)
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+    private static final RedisSerializer<Long> LONG_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheProperties cacheProperties;
+    private final CacheMetrics cacheMetrics;
+    private final Executor refreshExecutor;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReactiveRedisTemplate<byte[], byte[]> reactiveTemplate; // 비동기 API (reactive 미지원 연결일 경우 null)
+    private final CacheValueCodec valueCodec;
+    private final Set<String> knownGroups = ConcurrentHashMap.newKeySet(); // 정리 대상 캐시그룹
+    private final Map<String, Function<String, Object>> loaders = new ConcurrentHashMap<>(); // 캐시그룹별 재적재 loader
+    private final Set<String> refreshingKeys = ConcurrentHashMap.newKeySet(); // 재적재 중인 키 (JVM 내 중복 방지)
+    private final ScheduledExecutorService sweeper;
 
     public RedisCacheService(RedisTemplate<String, Object> redisTemplate) {
+        this(redisTemplate, new CacheProperties(), new CacheMetrics(),
+                CacheExecutors.newBoundedExecutor("redis-cache-refresh", 2, 100));
+    }
+
+    /**
+     * @param cacheProperties 캐시그룹 정책 및 Redis 설정
+     * @param cacheMetrics    캐시 메트릭
+     * @param refreshExecutor refresh-ahead 재적재 스레드풀
+     */
+    @SuppressWarnings("unchecked")
+    public RedisCacheService(RedisTemplate<String, Object> redisTemplate, CacheProperties cacheProperties,
+                             CacheMetrics cacheMetrics, Executor refreshExecutor) {
+        this(redisTemplate, cacheProperties, cacheMetrics, refreshExecutor,
+                CacheValueCodec.defaults((RedisSerializer<Object>) redisTemplate.getValueSerializer()));
+    }
+
+    /**
+     * @param valueCodec 값 인코딩 (캐시그룹별 코덱, 압축)
+     */
+    public RedisCacheService(RedisTemplate<String, Object> redisTemplate, CacheProperties cacheProperties,
+                             CacheMetrics cacheMetrics, Executor refreshExecutor, CacheValueCodec valueCodec) {
         this.redisTemplate = redisTemplate;
+        this.cacheProperties = cacheProperties;
+        this.cacheMetrics = cacheMetrics;
+        this.refreshExecutor = refreshExecutor;
+        RedisConnectionFactory connectionFactory = redisTemplate.getConnectionFactory();
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware()) {
+            throw new IllegalStateException("RedisCacheService 는 Redis Cluster 를 지원하지 않습니다 (standalone 또는 sharded 모드 사용)");
+        }
+        this.stringRedisTemplate = new StringRedisTemplate(connectionFactory);
+        this.reactiveTemplate = connectionFactory instanceof ReactiveRedisConnectionFactory reactiveConnectionFactory
+                ? new ReactiveRedisTemplate<>(reactiveConnectionFactory, RedisSerializationContext.byteArray())
+                : null;
+        this.valueCodec = valueCodec;
+
+        // 이전 세대 키 정리 (0 이하일 경우 TTL 만료에만 맡긴다)
+        Duration sweepInterval = cacheProperties.getRedis().getSweepInterval();
+        if (sweepInterval.isZero() || sweepInterval.isNegative()) {
+            this.sweeper = null;
+        } else {
+            this.sweeper = CacheExecutors.newScheduler("redis-cache-sweeper");
+            long millis = sweepInterval.toMillis();
+            this.sweeper.scheduleWithFixedDelay(this::sweepStaleGenerations, millis, millis, TimeUnit.MILLISECONDS);
+        }
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> T get(String key, Class<T> type) {
-        Object value = redisTemplate.opsForValue().get(key);
-        if (value == null) {
+        CacheKey cacheKey = CacheKey.of(key);
+        Function<String, Object> loader = loaders.get(cacheKey.group());
+        CacheProperties.GroupPolicy policy = cacheProperties.policyOf(cacheKey.group());
+        Duration refreshAfterWrite = loader == null ? null : policy.getRefreshAfterWrite();
+        long recomputeCost = policy.getEarlyExpirationBeta() > 0 ? cacheMetrics.recomputeCostNanos(cacheKey.group()) : 0;
+        if (refreshAfterWrite != null || recomputeCost > 0) {
+            return getWithTtl(key, cacheKey, type, loader, refreshAfterWrite, policy.getEarlyExpirationBeta(), recomputeCost);
+        }
+
+        byte[] bytes = redisTemplate.execute(GET_SCRIPT, RedisSerializer.byteArray(), RedisSerializer.byteArray(),
+                cacheKey.generationKeys(), cacheKey.groupBytes(), cacheKey.keyBytes());
+        if (bytes == null) {
+            cacheMetrics.recordMisses(BACKEND, cacheKey.group(), 1);
             return null;
         }
-        return type.cast(value); // 저장된 값을 필요한 타입으로 변환
+        cacheMetrics.recordHits(BACKEND, cacheKey.group(), 1);
+        return type.cast(valueCodec.decode(bytes)); // 저장된 값을 필요한 타입으로 변환
     }
 
     @Override
     public void put(String key, Object value) {
-        redisTemplate.opsForValue().set(key, value, 10, TimeUnit.MINUTES); // TTL 10분
+        CacheKey cacheKey = CacheKey.of(key);
+        knownGroups.add(cacheKey.group());
+        redisTemplate.execute(PUT_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                cacheKey.generationKeys(), cacheKey.groupBytes(), cacheKey.keyBytes(),
+                encode(cacheKey.group(), value), toBytes(String.valueOf(jitteredTtlSecondsOf(cacheKey.group()))),
+                toBytes(writtenFlagOf(cacheKey.group())));
+        cacheMetrics.recordPuts(BACKEND, cacheKey.group(), 1);
+    }
+
+    /**
+     * 저장된 버전보다 새 버전일 때만 저장 (Lua 스크립트로 원자적 비교)
+     * 버전 키는 값과 같은 TTL 로 저장되며 evict 시 함께 삭제된다.
+     */
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        return putIfNewer(key, value, version, false);
+    }
+
+    /**
+     * @param sameVersion 같은 버전도 저장 (재적재 - 같은 버전은 같은 값이므로 TTL, 저장 시각만 갱신)
+     */
+    private boolean putIfNewer(String key, Object value, long version, boolean sameVersion) {
+        CacheKey cacheKey = CacheKey.of(key);
+        knownGroups.add(cacheKey.group());
+        Long stored = redisTemplate.execute(PUT_IF_NEWER_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                cacheKey.generationKeys(), cacheKey.groupBytes(), cacheKey.keyBytes(),
+                encode(cacheKey.group(), value), toBytes(String.valueOf(jitteredTtlSecondsOf(cacheKey.group()))),
+                toBytes(String.valueOf(version)), toBytes(writtenFlagOf(cacheKey.group())), toBytes(sameVersion ? "1" : "0"));
+        if (stored == null || stored == 0) {
+            return false;
+        }
+        cacheMetrics.recordPuts(BACKEND, cacheKey.group(), 1);
+        return true;
     }
 
     @Override
     public void evict(String key) {
-        redisTemplate.delete(key);
+        CacheKey cacheKey = CacheKey.of(key);
+        Long removed = redisTemplate.execute(EVICT_SCRIPT, RedisSerializer.byteArray(), LONG_SERIALIZER,
+                cacheKey.generationKeys(), cacheKey.groupBytes(), cacheKey.keyBytes());
+        cacheMetrics.recordEvictions(BACKEND, cacheKey.group(), CacheMetrics.CAUSE_EXPLICIT, removed == null ? 0 : removed);
+    }
+
+    /**
+     * 비동기 조회 (refresh-ahead 재적재는 동기 조회에서만 수행)
+     * 디코딩은 Redis 응답 스레드에서 수행하므로 값이 큰 캐시그룹은 호출 측에서 스레드를 전환한다.
+     */
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        if (reactiveTemplate == null) {
+            return AsyncCacheService.completed(this).getAsync(key, type);
+        }
+        CacheKey cacheKey = CacheKey.of(key);
+        return reactiveTemplate.execute(GET_SCRIPT, cacheKey.generationKeyBytes(), List.of(cacheKey.groupBytes(), cacheKey.keyBytes()))
+                .next()
+                .map(bytes -> type.cast(valueCodec.decode(bytes)))
+                .doOnNext(value -> cacheMetrics.recordHits(BACKEND, cacheKey.group(), 1))
+                .switchIfEmpty(Mono.fromRunnable(() -> cacheMetrics.recordMisses(BACKEND, cacheKey.group(), 1)))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        if (reactiveTemplate == null) {
+            return AsyncCacheService.completed(this).putAsync(key, value);
+        }
+        CacheKey cacheKey = CacheKey.of(key);
+        knownGroups.add(cacheKey.group());
+        byte[] encoded;
+        try {
+            encoded = encode(cacheKey.group(), value);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return reactiveTemplate.execute(PUT_SCRIPT, cacheKey.generationKeyBytes(), List.of(cacheKey.groupBytes(), cacheKey.keyBytes(),
+                        encoded, toBytes(String.valueOf(jitteredTtlSecondsOf(cacheKey.group()))),
+                        toBytes(writtenFlagOf(cacheKey.group()))))
+                .then()
+                .doOnSuccess(ignored -> cacheMetrics.recordPuts(BACKEND, cacheKey.group(), 1))
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        if (reactiveTemplate == null) {
+            return AsyncCacheService.completed(this).evictAsync(key);
+        }
+        CacheKey cacheKey = CacheKey.of(key);
+        return reactiveTemplate.execute(EVICT_SCRIPT, cacheKey.generationKeyBytes(), List.of(cacheKey.groupBytes(), cacheKey.keyBytes()))
+                .next()
+                .doOnNext(removed -> cacheMetrics.recordEvictions(BACKEND, cacheKey.group(), CacheMetrics.CAUSE_EXPLICIT, removed))
+                .then()
+                .toFuture();
+    }
+
+    /**
+     * 값과 남은 TTL 을 함께 조회
+     * <ul>
+     *     <li>확률적 조기 만료 : 남은 TTL 이 재계산 비용에 가까우면 이 요청만 미스로 처리하여 먼저 재적재하게 한다.</li>
+     *     <li>refresh-ahead : 저장 후 refreshAfterWrite 가 지난 값은 그대로 반환하고 백그라운드에서 재적재한다.
+     *     경과 시간은 값과 함께 저장한 저장 시각(Redis 서버 시각) 기준이며, 저장 시각 키가 없는 이전 값은 TTL 만료에 맡긴다.</li>
+     * </ul>
+     *
+     * @param refreshAfterWrite refresh-ahead 기준 (null 일 경우 미사용)
+     * @param recomputeCost     재계산 비용 (0 일 경우 조기 만료 미사용)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <T> T getWithTtl(String key, CacheKey cacheKey, Class<T> type, Function<String, Object> loader,
+                             Duration refreshAfterWrite, double beta, long recomputeCost) {
+        List<Object> result = (List<Object>) redisTemplate.execute(GET_WITH_TTL_SCRIPT,
+                RedisSerializer.byteArray(), (RedisSerializer) RedisSerializer.byteArray(),
+                cacheKey.generationKeys(), cacheKey.groupBytes(), cacheKey.keyBytes());
+        if (result == null || result.isEmpty() || result.get(0) == null) {
+            cacheMetrics.recordMisses(BACKEND, cacheKey.group(), 1);
+            return null;
+        }
+        cacheMetrics.recordHits(BACKEND, cacheKey.group(), 1);
+
+        long remainingMillis = result.size() > 1 && result.get(1) instanceof Long pttl ? pttl : -1;
+        if (CacheExpiration.shouldRecomputeEarly(TimeUnit.MILLISECONDS.toNanos(remainingMillis), recomputeCost, beta)) {
+            cacheMetrics.recordRefresh(BACKEND, cacheKey.group(), CacheMetrics.RESULT_EARLY);
+            return null; // 다른 요청은 기존 값 사용
+        }
+        long ageMillis = result.size() > 2 && result.get(2) instanceof Long age ? age : -1;
+        if (refreshAfterWrite != null && ageMillis >= refreshAfterWrite.toMillis()) {
+            scheduleRefresh(key, cacheKey.group(), loader);
+        }
+        return type.cast(valueCodec.decode((byte[]) result.get(0)));
     }
 
+    /**
+     * 백그라운드 재적재 (JVM 내 키당 하나, 노드간 재적재 락을 획득한 노드만)
+     * 재적재 후 저장 시각이 갱신되므로 락은 재적재가 끝나면 바로 해제한다.
+     * 버전이 있는 값은 putIfNewer 로 저장하여 재적재 중 저장된 더 새 값을 덮어쓰지 않는다.
+     */
+    private void scheduleRefresh(String key, String group, Function<String, Object> loader) {
+        if (!refreshingKeys.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                String lockKey = REFRESH_LOCK_PREFIX + key;
+                String token = null;
+                try {
+                    token = tryLock(lockKey, cacheProperties.getLock().getLeaseTime());
+                    if (token == null) {
+                        return; // 다른 노드가 재적재 중
+                    }
+                    long start = System.nanoTime();
+                    Object value = loader.apply(key);
+                    cacheMetrics.recordRecomputeCost(group, System.nanoTime() - start);
+                    if (value instanceof Versioned versioned) {
+                        putIfNewer(key, versioned.value(), versioned.version(), true);
+                    } else if (value != null) {
+                        put(key, value);
+                    } else {
+                        evict(key);
+                    }
+                    cacheMetrics.recordRefresh(BACKEND, group, CacheMetrics.RESULT_SUCCESS);
+                } catch (Exception e) {
+                    log.warn("캐시 재적재 실패 [{}] : {}", key, e.getMessage());
+                    cacheMetrics.recordRefresh(BACKEND, group, CacheMetrics.RESULT_FAILURE);
+                } finally {
+                    if (token != null) {
+                        unlockQuietly(lockKey, token);
+                    }
+                    refreshingKeys.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshingKeys.remove(key);
+            cacheMetrics.recordRefresh(BACKEND, group, "rejected");
+        }
+    }
+
+    /**
+     * 세대 조회 1회 + MGET 1회로 다건 조회
+     */
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        return getAll(keys, type, true);
+    }
+
+    /**
+     * 조회 통계(hit/miss)에 반영하지 않고 다건 조회
+     */
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        return getAll(keys, type, false);
+    }
+
+    private <T> Map<String, T> getAll(Collection<String> keys, Class<T> type, boolean recordStats) {
+        Map<String, T> result = new HashMap<>();
+        if (keys.isEmpty()) {
+            return result;
+        }
+        List<String> requestKeys = List.copyOf(keys);
+        List<String> storedKeys = toStoredKeys(requestKeys);
+        // refresh-ahead 대상 키 (조회 통계에 반영하는 조회만 - peekAll 은 재적재하지 않음)
+        Duration[] refreshAfterWrites = new Duration[requestKeys.size()];
+        boolean refreshCheck = false;
+        for (int i = 0; recordStats && i < requestKeys.size(); i++) {
+            refreshAfterWrites[i] = refreshAfterWriteOf(CacheKey.of(requestKeys.get(i)).group());
+            refreshCheck |= refreshAfterWrites[i] != null;
+        }
+        List<Object> values = refreshCheck ? getAllWithAge(storedKeys, refreshAfterWrites) : mGet(storedKeys);
+        Map<String, long[]> hitsAndMisses = new HashMap<>(); // 캐시그룹별 {hit, miss}
+        for (int i = 0; i < requestKeys.size(); i++) {
+            byte[] value = values == null ? null : (byte[]) values.get(i);
+            String group = CacheKey.of(requestKeys.get(i)).group();
+            long[] counts = hitsAndMisses.computeIfAbsent(group, g -> new long[2]);
+            if (value == null) {
+                counts[1]++;
+                continue;
+            }
+            result.put(requestKeys.get(i), type.cast(valueCodec.decode(value)));
+            counts[0]++;
+            // 단건 조회와 같이 refreshAfterWrite 가 지난 값은 그대로 반환하고 백그라운드에서 재적재
+            long ageMillis = refreshCheck && values.get(requestKeys.size() + i) instanceof Long age ? age : -1;
+            if (refreshAfterWrites[i] != null && ageMillis >= refreshAfterWrites[i].toMillis()) {
+                scheduleRefresh(requestKeys.get(i), group, loaders.get(group));
+            }
+        }
+        if (recordStats) {
+            hitsAndMisses.forEach((group, counts) -> {
+                cacheMetrics.recordHits(BACKEND, group, counts[0]);
+                cacheMetrics.recordMisses(BACKEND, group, counts[1]);
+            });
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> mGet(List<String> storedKeys) {
+        byte[][] rawKeys = storedKeys.stream().map(RedisCacheService::toBytes).toArray(byte[][]::new);
+        return (List<Object>) (List<?>) redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                connection.stringCommands().mGet(rawKeys));
+    }
+
+    /**
+     * 값과 저장 후 경과 시간을 스크립트 1회로 조회 (경과 시간은 refreshAfterWrite 가 있는 키만 조회)
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private List<Object> getAllWithAge(List<String> storedKeys, Duration[] refreshAfterWrites) {
+        Object[] ageFlags = new Object[storedKeys.size()];
+        for (int i = 0; i < ageFlags.length; i++) {
+            ageFlags[i] = toBytes(refreshAfterWrites[i] != null ? "1" : "0");
+        }
+        return (List<Object>) redisTemplate.execute(GET_ALL_WITH_AGE_SCRIPT,
+                RedisSerializer.byteArray(), (RedisSerializer) RedisSerializer.byteArray(), storedKeys, ageFlags);
+    }
+
+    /**
+     * refresh-ahead 기준 (loader 가 등록되지 않았거나 refreshAfterWrite 가 없으면 null)
+     */
+    private Duration refreshAfterWriteOf(String group) {
+        return loaders.containsKey(group) ? cacheProperties.policyOf(group).getRefreshAfterWrite() : null;
+    }
+
+    /**
+     * 세대 조회 1회 + 파이프라인 SET ... EX 로 다건 저장 (refresh-ahead 그룹은 저장 시각 키도 저장하는 스크립트)
+     */
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> requestKeys = List.copyOf(entries.keySet());
+        requestKeys.forEach(key -> knownGroups.add(CacheKey.of(key).group()));
+        List<String> storedKeys = toStoredKeys(requestKeys);
+        byte[] script = toBytes(PUT_STORED_LUA);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < requestKeys.size(); i++) {
+                String group = CacheKey.of(requestKeys.get(i)).group();
+                byte[] value = encode(group, entries.get(requestKeys.get(i)));
+                long ttlSeconds = jitteredTtlSecondsOf(group);
+                String writtenFlag = writtenFlagOf(group);
+                if ("1".equals(writtenFlag)) {
+                    connection.scriptingCommands().eval(script, ReturnType.INTEGER, 1,
+                            toBytes(storedKeys.get(i)), value, toBytes(String.valueOf(ttlSeconds)), toBytes(writtenFlag));
+                } else {
+                    connection.stringCommands().set(toBytes(storedKeys.get(i)), value,
+                            Expiration.seconds(ttlSeconds), RedisStringCommands.SetOption.upsert());
+                }
+            }
+            return null;
+        });
+        requestKeys.stream()
+                .collect(Collectors.groupingBy(key -> CacheKey.of(key).group(), Collectors.counting()))
+                .forEach((group, count) -> cacheMetrics.recordPuts(BACKEND, group, count));
+    }
+
+    /**
+     * 세대 조회 1회 + 파이프라인 스크립트로 다건 putIfNewer
+     */
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        List<String> requestKeys = List.copyOf(entries.keySet());
+        requestKeys.forEach(key -> knownGroups.add(CacheKey.of(key).group()));
+        List<String> storedKeys = toStoredKeys(requestKeys);
+        byte[] script = toBytes(PUT_IF_NEWER_STORED_LUA);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (int i = 0; i < requestKeys.size(); i++) {
+                String group = CacheKey.of(requestKeys.get(i)).group();
+                Versioned entry = entries.get(requestKeys.get(i));
+                connection.scriptingCommands().eval(script, ReturnType.INTEGER, 2,
+                        toBytes(storedKeys.get(i)), toBytes(storedKeys.get(i) + VERSION_KEY_SUFFIX),
+                        encode(group, entry.value()), toBytes(String.valueOf(jitteredTtlSecondsOf(group))),
+                        toBytes(String.valueOf(entry.version())), toBytes(writtenFlagOf(group)));
+            }
+            return null;
+        });
+        Map<String, Long> stored = new HashMap<>();
+        for (int i = 0; i < requestKeys.size(); i++) {
+            if (results != null && Long.valueOf(1).equals(results.get(i))) {
+                stored.merge(CacheKey.of(requestKeys.get(i)).group(), 1L, Long::sum);
+            }
+        }
+        stored.forEach((group, count) -> cacheMetrics.recordPuts(BACKEND, group, count));
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        // 캐시그룹별 UNLINK (버전, 저장 시각 키 포함, 그룹별 제거 건수는 값 키만 집계)
+        keys.stream()
+                .collect(Collectors.groupingBy(key -> CacheKey.of(key).group()))
+                .forEach((group, groupKeys) -> {
+                    List<String> storedKeys = toStoredKeys(groupKeys);
+                    Long removed = redisTemplate.unlink(storedKeys);
+                    List<String> siblingKeys = new ArrayList<>(storedKeys.size() * 2);
+                    storedKeys.forEach(key -> {
+                        siblingKeys.add(key + VERSION_KEY_SUFFIX);
+                        siblingKeys.add(key + WRITTEN_KEY_SUFFIX);
+                    });
+                    redisTemplate.unlink(siblingKeys);
+                    cacheMetrics.recordEvictions(BACKEND, group, CacheMetrics.CAUSE_EXPLICIT, removed == null ? 0 : removed);
+                });
+    }
+
+    /**
+     * SET NX PX 로 노드간 로딩 락 획득 (보유 노드가 죽더라도 leaseTime 이후 자동 해제)
+     */
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY_PREFIX + key, token, leaseTime);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(LOCK_KEY_PREFIX + key), token);
+    }
+
+    /**
+     * 락 해제 (실패 시 leaseTime 후 자동 해제)
+     */
+    private void unlockQuietly(String key, String token) {
+        try {
+            unlock(key, token);
+        } catch (Exception e) {
+            log.warn("캐시 재적재 락 해제 실패 [{}] : {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 세대 증가 - 모든 캐시그룹의 기존 키가 조회되지 않는다
+     */
     @Override
     public void clearAll() {
-        clearKeysByPattern(PATTERN_ALL);
+        stringRedisTemplate.opsForValue().increment(GENERATION_KEY);
+        cacheMetrics.recordEvictions(BACKEND, CacheMetrics.GROUP_ALL, CacheMetrics.CAUSE_CLEARED, 1);
     }
 
+    /**
+     * 그룹 세대 증가 - 해당 캐시그룹의 기존 키가 조회되지 않는다
+     */
     @Override
     public void clearByCacheGroup(String cacheName) {
-        clearKeysByPattern(cacheName + CACHE_DELIMITER + PATTERN_ALL);
+        knownGroups.add(cacheName);
+        stringRedisTemplate.opsForValue().increment(GROUP_GENERATION_KEY_PREFIX + cacheName);
+        cacheMetrics.recordEvictions(BACKEND, cacheName, CacheMetrics.CAUSE_CLEARED, 1);
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        loaders.put(cacheGroupName, loader);
+    }
+
+    public void close() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+        }
+    }
+
+    /**
+     * 캐시그룹의 현재 세대 prefix (예: CODE:v3.1:)
+     */
+    String currentNamespace(String group) {
+        return currentNamespaces(List.of(group)).get(group);
+    }
+
+    /**
+     * 여러 캐시그룹의 현재 세대 prefix 를 MGET 1회로 조회
+     */
+    Map<String, String> currentNamespaces(Collection<String> groups) {
+        List<String> distinctGroups = groups.stream().distinct().toList();
+        List<String> generationKeys = new ArrayList<>(distinctGroups.size() + 1);
+        generationKeys.add(GENERATION_KEY);
+        distinctGroups.forEach(group -> generationKeys.add(GROUP_GENERATION_KEY_PREFIX + group));
+
+        List<String> generations = stringRedisTemplate.opsForValue().multiGet(generationKeys);
+        String global = generationOf(generations, 0);
+        Map<String, String> namespaces = new LinkedHashMap<>();
+        for (int i = 0; i < distinctGroups.size(); i++) {
+            String group = distinctGroups.get(i);
+            namespaces.put(group, group + CACHE_DELIMITER + VERSION_PREFIX + global + "." + generationOf(generations, i + 1) + CACHE_DELIMITER);
+        }
+        return namespaces;
     }
 
-    private void clearKeysByPattern(String pattern) {
-        Set<String> keys = redisTemplate.keys(pattern); // 특정 패턴의 키 검색
-        if (keys != null && !keys.isEmpty()) {
-            redisTemplate.delete(keys); // 해당 키 삭제
+    private static String generationOf(List<String> generations, int index) {
+        return generations == null || generations.get(index) == null ? "0" : generations.get(index);
+    }
+
+    /**
+     * 요청 키를 현재 세대가 포함된 저장 키로 변환 (순서 유지)
+     */
+    private List<String> toStoredKeys(List<String> keys) {
+        List<CacheKey> cacheKeys = keys.stream().map(CacheKey::of).toList();
+        Map<String, String> namespaces = currentNamespaces(cacheKeys.stream().map(CacheKey::group).toList());
+        return cacheKeys.stream()
+                .map(cacheKey -> namespaces.get(cacheKey.group()) + cacheKey.key())
+                .toList();
+    }
+
+    /**
+     * 이전 세대 키를 SCAN 으로 찾아 UNLINK 한다. (KEYS 와 달리 Redis 를 블로킹하지 않음)
+     */
+    void sweepStaleGenerations() {
+        for (String group : knownGroups) {
+            try {
+                String namespace = currentNamespace(group);
+                String groupPrefix = group + CACHE_DELIMITER + VERSION_PREFIX;
+                Long removed = stringRedisTemplate.execute((RedisCallback<Long>) connection ->
+                        sweepGroup(connection, groupPrefix, namespace));
+                if (removed != null && removed > 0) {
+                    log.debug("이전 세대 캐시 키 정리 [{}] : {}건", group, removed);
+                }
+            } catch (Exception e) {
+                log.warn("이전 세대 캐시 키 정리 실패 [{}] : {}", group, e.getMessage());
+            }
+        }
+    }
+
+    private long sweepGroup(RedisConnection connection, String groupPrefix, String namespace) {
+        long removed = 0;
+        List<byte[]> staleKeys = new ArrayList<>(SWEEP_BATCH_SIZE);
+        ScanOptions options = ScanOptions.scanOptions().match(groupPrefix + PATTERN_ALL).count(SWEEP_BATCH_SIZE).build();
+        try (Cursor<byte[]> cursor = connection.keyCommands().scan(options)) {
+            while (cursor.hasNext()) {
+                byte[] key = cursor.next();
+                if (!new String(key, StandardCharsets.UTF_8).startsWith(namespace)) {
+                    staleKeys.add(key);
+                }
+                if (staleKeys.size() >= SWEEP_BATCH_SIZE) {
+                    removed += unlink(connection, staleKeys);
+                }
+            }
+        }
+        return removed + unlink(connection, staleKeys);
+    }
+
+    private long unlink(RedisConnection connection, List<byte[]> keys) {
+        if (keys.isEmpty()) {
+            return 0;
+        }
+        Long count = connection.keyCommands().unlink(keys.toArray(new byte[0][]));
+        keys.clear();
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 저장 TTL (동시 만료 분산을 위해 저장마다 jitter 적용)
+     */
+    private long jitteredTtlSecondsOf(String group) {
+        return Math.max(1, cacheProperties.policyOf(group).jitteredTtl().toSeconds());
+    }
+
+    /**
+     * 캐시그룹 정책의 코덱, 압축 기준으로 값 인코딩
+     */
+    private byte[] encode(String group, Object value) {
+        CacheProperties.GroupPolicy policy = cacheProperties.policyOf(group);
+        return valueCodec.encode(value, policy.getCodec(), policy.compressionThresholdBytes());
+    }
+
+    /**
+     * 저장 시각 키({키}#written) 저장 Lua - Redis 서버 시각(ms)이므로 노드간 시계 차이와 무관하다.
+     *
+     * @param key  저장 키 Lua 식
+     * @param ttl  TTL(초) Lua 식 (값과 같은 TTL)
+     * @param flag 저장 여부 Lua 식 ('1' 일 때만 저장)
+     */
+    private static String writtenAtLua(String key, String ttl, String flag) {
+        return "if " + flag + " == '1' then local t = redis.call('TIME') "
+                + "redis.call('SET', " + key + " .. '" + WRITTEN_KEY_SUFFIX + "', t[1] .. string.format('%03d', math.floor(tonumber(t[2]) / 1000)), 'EX', " + ttl + ") end ";
+    }
+
+    /**
+     * 저장 시각 키 저장 여부 (refresh-ahead 그룹만, 경과 시간 계산용)
+     */
+    private String writtenFlagOf(String group) {
+        return cacheProperties.policyOf(group).getRefreshAfterWrite() != null ? "1" : "0";
+    }
+
+    private static byte[] toBytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 캐시 키 (캐시그룹 + 그룹 내 키)
+     */
+    private record CacheKey(String group, String key) {
+
+        static CacheKey of(String key) {
+            int idx = key.indexOf(CACHE_DELIMITER);
+            return idx < 0
+                    ? new CacheKey(key, "")
+                    : new CacheKey(key.substring(0, idx), key.substring(idx + CACHE_DELIMITER.length()));
+        }
+
+        List<String> generationKeys() {
+            return List.of(GENERATION_KEY, GROUP_GENERATION_KEY_PREFIX + group);
+        }
+
+        List<byte[]> generationKeyBytes() {
+            return generationKeys().stream().map(RedisCacheService::toBytes).toList();
+        }
+
+        byte[] groupBytes() {
+            return toBytes(group);
+        }
+
+        byte[] keyBytes() {
+            return toBytes(key);
         }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,149 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.ToIntFunction;
+
+/**
+ * Redis 초기 적재 조정 (락 + 적재 완료 표시 + fencing token)
+ * <ul>
+ *     <li>락 : my-cache:warmup:{캐시그룹}:lock = fencing token (SET NX PX), 적재 중에는 주기적으로 임대 시간 연장</li>
+ *     <li>token : my-cache:warmup:{캐시그룹}:fence INCR 값. 임대가 만료된 이전 보유자는 token 이 달라 배치 저장, 완료 표시를 할 수 없다</li>
+ *     <li>완료 표시 : my-cache:warmup:{캐시그룹}:warm = token|세대 (TTL = 캐시그룹 TTL). 캐시 세대가 바뀌면(clear) 다시 적재한다</li>
+ * </ul>
+ * 보유 노드가 죽으면 임대 시간 이후 락이 해제되어 대기 중인 다른 노드가 적재한다.
+ */
+@Slf4j
+public class RedisCacheWarmupCoordinator implements CacheWarmupCoordinator {
+
+    public static final String KEY_PREFIX = "my-cache:warmup:";
+    private static final String MARKER_DELIMITER = "|";
+    private static final long POLL_INTERVAL_MILLIS = 500;
+
+    // KEYS[1]: 락, KEYS[2]: fence, ARGV[1]: 임대 시간(ms)
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end " +
+            "local token = redis.call('INCR', KEYS[2]) " +
+            "redis.call('SET', KEYS[1], token, 'PX', ARGV[1]) " +
+            "return token", Long.class);
+    // KEYS[1]: 락, ARGV[1]: token, ARGV[2]: 임대 시간(ms)
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) else return 0 end", Long.class);
+    // KEYS[1]: 락, KEYS[2]: 완료 표시, KEYS[3]: 전체 세대, KEYS[4]: 그룹 세대, ARGV[1]: token, ARGV[2]: TTL(ms)
+    private static final RedisScript<Long> MARK_WARM_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end " +
+            "local generation = (redis.call('GET', KEYS[3]) or '0') .. '.' .. (redis.call('GET', KEYS[4]) or '0') " +
+            "redis.call('SET', KEYS[2], ARGV[1] .. '" + MARKER_DELIMITER + "' .. generation, 'PX', ARGV[2]) " +
+            "return 1", Long.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) else return 0 end", Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CacheProperties cacheProperties;
+
+    public RedisCacheWarmupCoordinator(StringRedisTemplate stringRedisTemplate, CacheProperties cacheProperties) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.cacheProperties = cacheProperties;
+    }
+
+    @Override
+    public int warmup(String cacheGroupName, ToIntFunction<BooleanSupplier> loader) {
+        CacheProperties.Warmup warmup = cacheProperties.getWarmup();
+        long deadline = System.nanoTime() + warmup.getWaitTime().toNanos();
+        while (true) {
+            if (isWarm(cacheGroupName)) {
+                log.info("다른 노드에서 적재 완료 [{}]", cacheGroupName);
+                return 0;
+            }
+            Long token = tryAcquire(cacheGroupName, warmup.getLeaseTime());
+            if (token != null) {
+                return warmupWithLease(cacheGroupName, token, warmup.getLeaseTime(), loader);
+            }
+            if (System.nanoTime() > deadline) {
+                // 적재는 보유 노드에 맡기고, 이 노드는 조회 시점 적재(getOrLoad)로 처리
+                log.warn("다른 노드의 적재 대기 시간 초과 [{}]", cacheGroupName);
+                return 0;
+            }
+            try {
+                Thread.sleep(POLL_INTERVAL_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return 0;
+            }
+        }
+    }
+
+    private int warmupWithLease(String cacheGroupName, long token, Duration leaseTime,
+                                ToIntFunction<BooleanSupplier> loader) {
+        String lockKey = lockKey(cacheGroupName);
+        String tokenValue = String.valueOf(token);
+        String leaseMillis = String.valueOf(leaseTime.toMillis());
+
+        // 적재 중 임대 시간 연장 (임대 시간의 1/3 주기)
+        ScheduledExecutorService renewer = CacheExecutors.newScheduler("cache-warmup-lease");
+        long renewMillis = Math.max(1, leaseTime.toMillis() / 3);
+        renewer.scheduleWithFixedDelay(() -> {
+            try {
+                stringRedisTemplate.execute(RENEW_SCRIPT, List.of(lockKey), tokenValue, leaseMillis);
+            } catch (Exception e) {
+                log.warn("캐시 적재 락 연장 실패 [{}] : {}", cacheGroupName, e.getMessage());
+            }
+        }, renewMillis, renewMillis, TimeUnit.MILLISECONDS);
+
+        try {
+            log.info("캐시 적재 시작 [{}] token={}", cacheGroupName, token);
+            int loaded = loader.applyAsInt(() -> isHolder(lockKey, tokenValue));
+            Long marked = stringRedisTemplate.execute(MARK_WARM_SCRIPT,
+                    List.of(lockKey, markerKey(cacheGroupName), RedisCacheService.GENERATION_KEY,
+                            RedisCacheService.GROUP_GENERATION_KEY_PREFIX + cacheGroupName),
+                    tokenValue, String.valueOf(cacheProperties.policyOf(cacheGroupName).getTtl().toMillis()));
+            if (!Long.valueOf(1).equals(marked)) {
+                log.warn("캐시 적재 중 락을 잃어 완료 표시를 하지 않음 [{}] token={}", cacheGroupName, token);
+            }
+            return loaded;
+        } finally {
+            renewer.shutdownNow();
+            stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), tokenValue);
+        }
+    }
+
+    private Long tryAcquire(String cacheGroupName, Duration leaseTime) {
+        Long token = stringRedisTemplate.execute(ACQUIRE_SCRIPT,
+                List.of(lockKey(cacheGroupName), KEY_PREFIX + cacheGroupName + ":fence"),
+                String.valueOf(leaseTime.toMillis()));
+        return token == null || token == 0 ? null : token;
+    }
+
+    private boolean isHolder(String lockKey, String token) {
+        return token.equals(stringRedisTemplate.opsForValue().get(lockKey));
+    }
+
+    /**
+     * 완료 표시가 있고, 표시 당시 세대가 현재 세대와 같으면 적재된 상태
+     */
+    boolean isWarm(String cacheGroupName) {
+        List<String> values = stringRedisTemplate.opsForValue().multiGet(List.of(markerKey(cacheGroupName),
+                RedisCacheService.GENERATION_KEY, RedisCacheService.GROUP_GENERATION_KEY_PREFIX + cacheGroupName));
+        if (values == null || values.get(0) == null) {
+            return false;
+        }
+        String generation = (values.get(1) == null ? "0" : values.get(1)) + "." + (values.get(2) == null ? "0" : values.get(2));
+        return values.get(0).endsWith(MARKER_DELIMITER + generation);
+    }
+
+    private static String lockKey(String cacheGroupName) {
+        return KEY_PREFIX + cacheGroupName + ":lock";
+    }
+
+    private static String markerKey(String cacheGroupName) {
+        return KEY_PREFIX + cacheGroupName + ":warm";
+    }
+}
@@ -0,0 +1,309 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * 클라이언트 샤딩 (여러 Redis 노드에 키 분산)
+ * <p>
+ * 키는 consistent hashing({@link ConsistentHashRing}) 으로 한 샤드에 할당한다. 샤드 추가, 제거 시 약 1/N 의 키만 다른 샤드로 옮겨진다.
+ * <ul>
+ *     <li>단건 작업(get, put, evict, tryLock)은 키를 담당하는 샤드로 보낸다.</li>
+ *     <li>다건 작업(getAll, putAll, evictAll)은 샤드별로 나누어 병렬 처리한다.</li>
+ *     <li>clearAll, clearByCacheGroup, registerLoader 는 모든 샤드에 병렬로 보낸다.</li>
+ *     <li>여러 샤드 작업 중 실패한 샤드는 한 번 재시도하고, 그래도 실패하면 {@link PartialFailureException} 으로 실패한 샤드를 알린다.</li>
+ * </ul>
+ * 샤드가 바뀐 키는 새 샤드에서 미스 후 다시 적재된다. 이전 샤드의 값은 TTL 로 만료된다.
+ */
+@Slf4j
+public class ShardedCacheService implements CacheService, AsyncCacheService, AutoCloseable {
+
+    private final ConsistentHashRing<CacheService> ring;
+    private final Executor fanOutExecutor;
+    private final Map<String, AutoCloseable> resources = new ConcurrentHashMap<>(); // 샤드 제거 시 정리할 자원 (연결 등)
+    private final Map<String, Function<String, Object>> loaders = new ConcurrentHashMap<>(); // 추가되는 샤드에도 등록
+
+    /**
+     * @param virtualNodes   샤드별 가상 노드 수 (클수록 고르게 분산)
+     * @param fanOutExecutor 샤드 병렬 작업 스레드풀 (가득 찰 경우 호출 스레드에서 처리)
+     */
+    public ShardedCacheService(int virtualNodes, Executor fanOutExecutor) {
+        this.ring = new ConsistentHashRing<>(virtualNodes);
+        this.fanOutExecutor = fanOutExecutor;
+    }
+
+    public void addShard(String name, CacheService shard) {
+        addShard(name, shard, null);
+    }
+
+    /**
+     * @param resource 샤드 제거, 종료 시 닫을 자원 (null 일 경우 없음)
+     */
+    public void addShard(String name, CacheService shard, AutoCloseable resource) {
+        loaders.forEach(shard::registerLoader);
+        ring.add(name, shard);
+        if (resource != null) {
+            resources.put(name, resource);
+        }
+        log.info("캐시 샤드 추가 : {} (전체 {}개)", name, ring.nodes().size());
+    }
+
+    /**
+     * 샤드 제거 (해당 샤드의 키는 남은 샤드로 분산)
+     * 이전에 다른 샤드에 저장된 값이 TTL 전이면 다시 조회될 수 있으므로, 변경이 잦은 경우 제거 후 clearAll 을 권장한다.
+     */
+    public void removeShard(String name) {
+        if (ring.remove(name) == null) {
+            return;
+        }
+        closeResource(name);
+        log.info("캐시 샤드 제거 : {} (전체 {}개)", name, ring.nodes().size());
+    }
+
+    /**
+     * 키를 담당하는 샤드명
+     */
+    public String shardOf(String key) {
+        return ring.nodeNameOf(key);
+    }
+
+    public Collection<String> shardNames() {
+        return ring.nodes().keySet();
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        return ring.nodeOf(key).get(key, type);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        return AsyncCacheService.of(ring.nodeOf(key)).getAsync(key, type);
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        return AsyncCacheService.of(ring.nodeOf(key)).putAsync(key, value);
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return AsyncCacheService.of(ring.nodeOf(key)).evictAsync(key);
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        ring.nodeOf(key).put(key, value);
+    }
+
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        return ring.nodeOf(key).putIfNewer(key, value, version);
+    }
+
+    @Override
+    public void evict(String key) {
+        ring.nodeOf(key).evict(key);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, ShardKeys> keysByShard = groupByShard(keys);
+        if (keysByShard.size() == 1) {
+            ShardKeys shardKeys = keysByShard.values().iterator().next();
+            return shardKeys.shard().getAll(shardKeys.keys(), type);
+        }
+        Map<String, T> result = new ConcurrentHashMap<>();
+        fanOut(keysByShard, (shard, shardKeys) -> result.putAll(shard.getAll(shardKeys, type)));
+        return new HashMap<>(result);
+    }
+
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new ConcurrentHashMap<>();
+        fanOut(groupByShard(keys), (shard, shardKeys) -> result.putAll(shard.peekAll(shardKeys, type)));
+        return new HashMap<>(result);
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        fanOut(groupByShard(entries.keySet()), (shard, shardKeys) -> {
+            Map<String, Object> shardEntries = new HashMap<>();
+            shardKeys.forEach(key -> shardEntries.put(key, entries.get(key)));
+            shard.putAll(shardEntries);
+        });
+    }
+
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        fanOut(groupByShard(entries.keySet()), (shard, shardKeys) -> {
+            Map<String, Versioned> shardEntries = new HashMap<>();
+            shardKeys.forEach(key -> shardEntries.put(key, entries.get(key)));
+            shard.putAllIfNewer(shardEntries);
+        });
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        fanOut(groupByShard(keys), CacheService::evictAll);
+    }
+
+    @Override
+    public void clearAll() {
+        fanOutAll(CacheService::clearAll);
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        fanOutAll(shard -> shard.clearByCacheGroup(cacheGroupName));
+    }
+
+    /**
+     * 락은 키를 담당하는 샤드에서 획득 (모든 노드가 같은 샤드를 사용)
+     */
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return ring.nodeOf(key).tryLock(key, leaseTime);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        ring.nodeOf(key).unlock(key, token);
+    }
+
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        loaders.put(cacheGroupName, loader);
+        ring.nodes().values().forEach(shard -> shard.registerLoader(cacheGroupName, loader));
+    }
+
+    @Override
+    public void close() {
+        List.copyOf(resources.keySet()).forEach(this::closeResource);
+    }
+
+    private void closeResource(String name) {
+        AutoCloseable resource = resources.remove(name);
+        if (resource == null) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (Exception e) {
+            log.warn("캐시 샤드 자원 정리 실패 [{}] : {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * 샤드명별 담당 키 (링의 같은 시점 기준)
+     */
+    private Map<String, ShardKeys> groupByShard(Collection<String> keys) {
+        Map<String, ShardKeys> keysByShard = new HashMap<>();
+        for (String key : keys) {
+            Map.Entry<String, CacheService> owner = ring.entryOf(key);
+            keysByShard.computeIfAbsent(owner.getKey(), name -> new ShardKeys(name, owner.getValue(), new ArrayList<>()))
+                    .keys().add(key);
+        }
+        return keysByShard;
+    }
+
+    private void fanOutAll(Consumer<CacheService> task) {
+        Map<String, ShardKeys> shards = new HashMap<>();
+        ring.nodes().forEach((name, shard) -> shards.put(name, new ShardKeys(name, shard, List.of())));
+        fanOut(shards, (shard, ignored) -> task.accept(shard));
+    }
+
+    /**
+     * 샤드별 작업 병렬 실행 후 모두 끝날 때까지 대기
+     * 실패한 샤드는 한 번 더 실행하고, 그래도 실패한 샤드가 있으면 샤드명을 담아 예외를 던진다. (성공한 샤드는 다시 실행하지 않음)
+     */
+    private void fanOut(Map<String, ShardKeys> keysByShard, ShardTask task) {
+        Map<String, RuntimeException> failures = runAll(keysByShard.values(), task);
+        if (failures.isEmpty()) {
+            return;
+        }
+        log.warn("캐시 샤드 작업 실패, 재시도 : {}", failures.keySet());
+        List<ShardKeys> retries = failures.keySet().stream().map(keysByShard::get).toList();
+        Map<String, RuntimeException> remaining = new HashMap<>();
+        for (ShardKeys shardKeys : retries) {
+            try {
+                task.run(shardKeys.shard(), shardKeys.keys());
+            } catch (RuntimeException e) {
+                remaining.put(shardKeys.name(), e);
+            }
+        }
+        if (!remaining.isEmpty()) {
+            throw new PartialFailureException(remaining);
+        }
+    }
+
+    /**
+     * @return 실패한 샤드명과 예외
+     */
+    private Map<String, RuntimeException> runAll(Collection<ShardKeys> shards, ShardTask task) {
+        Map<String, RuntimeException> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (ShardKeys shardKeys : shards) {
+            Runnable run = () -> {
+                try {
+                    task.run(shardKeys.shard(), shardKeys.keys());
+                } catch (RuntimeException e) {
+                    failures.put(shardKeys.name(), e);
+                }
+            };
+            if (shards.size() == 1) {
+                run.run();
+                continue;
+            }
+            try {
+                futures.add(CompletableFuture.runAsync(run, fanOutExecutor));
+            } catch (RejectedExecutionException e) {
+                run.run();
+            }
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        return failures;
+    }
+
+    /**
+     * 일부 샤드의 작업이 재시도 후에도 실패 (나머지 샤드는 반영됨)
+     */
+    public static class PartialFailureException extends RuntimeException {
+
+        private final Set<String> failedShards;
+
+        public PartialFailureException(Map<String, RuntimeException> failures) {
+            super("캐시 샤드 작업 실패 : " + failures.keySet(), failures.values().iterator().next());
+            this.failedShards = Set.copyOf(failures.keySet());
+            failures.values().stream().skip(1).forEach(this::addSuppressed);
+        }
+
+        /**
+         * 실패한 샤드명
+         */
+        public Set<String> getFailedShards() {
+            return failedShards;
+        }
+    }
+
+    private record ShardKeys(String name, CacheService shard, List<String> keys) {
+    }
+
+    @FunctionalInterface
+    private interface ShardTask {
+        void run(CacheService shard, List<String> keys);
+    }
+}
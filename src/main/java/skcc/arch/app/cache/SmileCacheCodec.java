@@ -0,0 +1,69 @@
+package skcc.arch.app.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.jsontype.impl.LaissezFaireSubTypeValidator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+
+/**
+ * Smile(바이너리 JSON) 코덱
+ * <p>
+ * JSON 과 같은 Jackson 매핑을 사용하되, 반복되는 필드명과 타입(클래스명) 문자열을
+ * 역참조로 한 번만 기록하므로 중첩된 트리(Code.child) 에서 크기가 크게 줄어든다.
+ */
+public class SmileCacheCodec implements CacheCodec {
+
+    public static final String NAME = "smile";
+    private static final byte ID = 2;
+
+    private final ObjectMapper objectMapper;
+
+    public SmileCacheCodec() {
+        SmileFactory smileFactory = new SmileFactory();
+        smileFactory.enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES); // 반복 문자열 값(클래스명) 역참조
+
+        // CacheConfig.getRedisTemplate 의 JSON 설정과 동일
+        ObjectMapper objectMapper = new ObjectMapper(smileFactory);
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.findAndRegisterModules();
+        objectMapper.activateDefaultTyping(
+                LaissezFaireSubTypeValidator.instance,
+                ObjectMapper.DefaultTyping.NON_FINAL,
+                JsonTypeInfo.As.PROPERTY
+        );
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public byte id() {
+        return ID;
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public byte[] encode(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 직렬화 실패 : " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Object decode(byte[] bytes) {
+        try {
+            return objectMapper.readValue(bytes, Object.class);
+        } catch (IOException e) {
+            throw new SerializationException("Smile 역직렬화 실패 : " + e.getMessage(), e);
+        }
+    }
+}
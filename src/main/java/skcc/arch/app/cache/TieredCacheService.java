@@ -0,0 +1,300 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 (L1: 로컬 Caffeine, L2: Redis)
+ * <p>
+ * 조회는 로컬 캐시에서 먼저 처리하고, 없을 경우 Redis 조회 후 로컬에 적재한다.
+ * 변경(put, evict, clear)은 Redis 반영 후 pub/sub 채널로 무효화 메시지를 발행하여
+ * 다른 노드의 로컬 캐시를 비운다. (메시지 유실 시에도 로컬 TTL 이후에는 Redis 값으로 수렴)
+ */
+@Slf4j
+public class TieredCacheService implements CacheService, AsyncCacheService, MessageListener {
+
+    private static final String MESSAGE_DELIMITER = "|";
+    private static final String OP_EVICT = "EVICT";
+    private static final String OP_EVICT_ALL = "EVICT_ALL";
+    private static final String OP_CLEAR_GROUP = "CLEAR_GROUP";
+    private static final String OP_CLEAR_ALL = "CLEAR_ALL";
+    private static final String KEYS_DELIMITER = "\n";
+
+    private final CacheService localCache;
+    private final CacheService remoteCache;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReactiveStringRedisTemplate reactiveStringRedisTemplate; // 비동기 API 무효화 발행 (reactive 미지원 연결일 경우 null)
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // 무효화가 발생할 때마다 증가. Redis 조회 중 무효화가 끼어들면 로컬 적재를 취소하기 위해 사용
+    private final AtomicLong invalidationSeq = new AtomicLong();
+
+    public TieredCacheService(CacheService localCache, CacheService remoteCache,
+                              StringRedisTemplate stringRedisTemplate, String channel) {
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.reactiveStringRedisTemplate = stringRedisTemplate.getConnectionFactory() instanceof ReactiveRedisConnectionFactory reactive
+                ? new ReactiveStringRedisTemplate(reactive)
+                : null;
+        this.channel = channel;
+    }
+
+    @Override
+    public <T> T get(String key, Class<T> type) {
+        T value = localCache.get(key, type);
+        if (value != null) {
+            return value;
+        }
+
+        long seq = invalidationSeq.get();
+        value = remoteCache.get(key, type);
+        if (value != null && seq == invalidationSeq.get()) {
+            localCache.put(key, value);
+            // 적재 직후 무효화가 들어온 경우 방금 적재한 값 제거
+            if (seq != invalidationSeq.get()) {
+                localCache.evict(key);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 비동기 조회 - 로컬 캐시 hit 는 즉시 완료, miss 는 Redis 비동기 조회 후 로컬에 적재
+     */
+    @Override
+    public <T> CompletableFuture<T> getAsync(String key, Class<T> type) {
+        T local = localCache.get(key, type);
+        if (local != null) {
+            return CompletableFuture.completedFuture(local);
+        }
+
+        long seq = invalidationSeq.get();
+        return AsyncCacheService.of(remoteCache).getAsync(key, type).thenApply(value -> {
+            if (value != null && seq == invalidationSeq.get()) {
+                localCache.put(key, value);
+                if (seq != invalidationSeq.get()) {
+                    localCache.evict(key);
+                }
+            }
+            return value;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> putAsync(String key, Object value) {
+        return AsyncCacheService.of(remoteCache).putAsync(key, value).thenCompose(ignored -> {
+            localCache.put(key, value);
+            return publishAsync(OP_EVICT, key);
+        });
+    }
+
+    @Override
+    public CompletableFuture<Void> evictAsync(String key) {
+        return AsyncCacheService.of(remoteCache).evictAsync(key).thenCompose(ignored -> {
+            localCache.evict(key);
+            return publishAsync(OP_EVICT, key);
+        });
+    }
+
+    @Override
+    public void put(String key, Object value) {
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+        publish(OP_EVICT, key);
+    }
+
+    /**
+     * Redis 에서 버전을 비교하여 저장된 경우에만 로컬 캐시 저장, 다른 노드 무효화
+     */
+    @Override
+    public boolean putIfNewer(String key, Object value, long version) {
+        if (!remoteCache.putIfNewer(key, value, version)) {
+            return false;
+        }
+        localCache.putIfNewer(key, value, version);
+        publish(OP_EVICT, key);
+        return true;
+    }
+
+    @Override
+    public void evict(String key) {
+        remoteCache.evict(key);
+        localCache.evict(key);
+        publish(OP_EVICT, key);
+    }
+
+    @Override
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>(localCache.getAll(keys, type));
+        if (result.size() == keys.size()) {
+            return result;
+        }
+
+        List<String> missingKeys = new ArrayList<>();
+        for (String key : keys) {
+            if (!result.containsKey(key)) {
+                missingKeys.add(key);
+            }
+        }
+        long seq = invalidationSeq.get();
+        Map<String, T> remoteValues = remoteCache.getAll(missingKeys, type);
+        if (!remoteValues.isEmpty() && seq == invalidationSeq.get()) {
+            localCache.putAll(remoteValues);
+            if (seq != invalidationSeq.get()) {
+                localCache.evictAll(remoteValues.keySet());
+            }
+        }
+        result.putAll(remoteValues);
+        return result;
+    }
+
+    /**
+     * 로컬 캐시, 원격 캐시 순으로 조회 통계에 반영하지 않고 조회 (원격 값을 로컬 캐시에 적재하지 않음)
+     */
+    @Override
+    public <T> Map<String, T> peekAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new HashMap<>(localCache.peekAll(keys, type));
+        List<String> missingKeys = keys.stream().filter(key -> !result.containsKey(key)).toList();
+        if (!missingKeys.isEmpty()) {
+            result.putAll(remoteCache.peekAll(missingKeys, type));
+        }
+        return result;
+    }
+
+    @Override
+    public void putAll(Map<String, ?> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        remoteCache.putAll(entries);
+        localCache.putAll(entries);
+        publish(OP_EVICT_ALL, String.join(KEYS_DELIMITER, entries.keySet()));
+    }
+
+    /**
+     * 원격 캐시에 저장된 값만 로컬 캐시에 반영되도록 로컬 캐시는 삭제한다. (다음 조회 시 원격 캐시에서 적재)
+     */
+    @Override
+    public void putAllIfNewer(Map<String, Versioned> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+        remoteCache.putAllIfNewer(entries);
+        localCache.evictAll(entries.keySet());
+        publish(OP_EVICT_ALL, String.join(KEYS_DELIMITER, entries.keySet()));
+    }
+
+    @Override
+    public void evictAll(Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+        remoteCache.evictAll(keys);
+        localCache.evictAll(keys);
+        publish(OP_EVICT_ALL, String.join(KEYS_DELIMITER, keys));
+    }
+
+    @Override
+    public String tryLock(String key, Duration leaseTime) {
+        return remoteCache.tryLock(key, leaseTime);
+    }
+
+    @Override
+    public void unlock(String key, String token) {
+        remoteCache.unlock(key, token);
+    }
+
+    /**
+     * refresh-ahead 는 Redis 에서 수행 (로컬 캐시는 짧은 TTL 로 Redis 값을 따라감)
+     */
+    @Override
+    public void registerLoader(String cacheGroupName, Function<String, Object> loader) {
+        remoteCache.registerLoader(cacheGroupName, loader);
+    }
+
+    @Override
+    public void clearAll() {
+        remoteCache.clearAll();
+        localCache.clearAll();
+        publish(OP_CLEAR_ALL, "");
+    }
+
+    @Override
+    public void clearByCacheGroup(String cacheGroupName) {
+        remoteCache.clearByCacheGroup(cacheGroupName);
+        localCache.clearByCacheGroup(cacheGroupName);
+        publish(OP_CLEAR_GROUP, cacheGroupName);
+    }
+
+    /**
+     * 다른 노드에서 발행한 무효화 메시지 수신 (형식 : nodeId|op|payload)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] tokens = body.split("\\" + MESSAGE_DELIMITER, 3);
+        if (tokens.length != 3) {
+            log.warn("잘못된 캐시 무효화 메시지 : {}", body);
+            return;
+        }
+        // 자신이 발행한 메시지는 무시
+        if (nodeId.equals(tokens[0])) {
+            return;
+        }
+
+        invalidationSeq.incrementAndGet();
+        switch (tokens[1]) {
+            case OP_EVICT -> localCache.evict(tokens[2]);
+            case OP_EVICT_ALL -> localCache.evictAll(List.of(tokens[2].split(KEYS_DELIMITER)));
+            case OP_CLEAR_GROUP -> localCache.clearByCacheGroup(tokens[2]);
+            case OP_CLEAR_ALL -> localCache.clearAll();
+            default -> log.warn("알 수 없는 캐시 무효화 유형 : {}", tokens[1]);
+        }
+    }
+
+    /**
+     * 무효화 메시지 비동기 발행 (Redis 응답 스레드에서 동기 발행하지 않도록 reactive 연결 사용, 실패 시 로그만 남김)
+     */
+    private CompletableFuture<Void> publishAsync(String op, String payload) {
+        if (reactiveStringRedisTemplate == null) {
+            publish(op, payload);
+            return CompletableFuture.completedFuture(null);
+        }
+        invalidationSeq.incrementAndGet();
+        return reactiveStringRedisTemplate.convertAndSend(channel, nodeId + MESSAGE_DELIMITER + op + MESSAGE_DELIMITER + payload)
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("캐시 무효화 메시지 발행 실패 [{}][{}] : {}", op, payload, e.getMessage());
+                    return Mono.empty();
+                })
+                .toFuture();
+    }
+
+    private void publish(String op, String payload) {
+        invalidationSeq.incrementAndGet();
+        try {
+            stringRedisTemplate.convertAndSend(channel, nodeId + MESSAGE_DELIMITER + op + MESSAGE_DELIMITER + payload);
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 발행 실패 [{}][{}] : {}", op, payload, e.getMessage());
+        }
+    }
+}
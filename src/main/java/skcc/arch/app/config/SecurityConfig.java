@@ -38,10 +38,19 @@ public class SecurityConfig {
             "/css/**", "/js/**", "/images/**", "/favicon.ico",
 //            "/**", //테스트용
             // 캐시, 파일, 로그, 인증
-            "/api/cache/**",
+            "/api/cache/clear/**",
+            "/api/cache/evict/**",
             "/api/log/**",
             "/api/users/signup",
-            "/api/users/authenticate"
+            "/api/users/authenticate",
+            // 쿠버네티스 probe
+            "/actuator/health/**"
+    };
+    // 캐시 운영 정보 (통계 등) - ADMIN 만 허용
+    private static final String[] CACHE_ADMIN = {
+            "/api/cache/stats",
+            "/api/cache/hot-keys",
+            "/api/cache/verify-report"
     };
 
     @Bean
@@ -72,6 +81,7 @@ public class SecurityConfig {
                         .requestMatchers(AUTH_WHITELIST).permitAll()
                         // 특정영역은 ADMIN 만 허용
                         .requestMatchers("/api/users/admin/**").hasRole("ADMIN")
+                        .requestMatchers(CACHE_ADMIN).hasRole("ADMIN")
                         // 나머지 요청은 인증 필요
                         .anyRequest().authenticated()
                 )
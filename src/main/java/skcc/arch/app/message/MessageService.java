@@ -11,6 +11,12 @@ public interface MessageService {
     // Pull 방식
     String pullMessage(String destination);
 
+    // 브로드캐스트 발행 (토픽을 구독한 모든 노드가 수신)
+    void broadcastMessage(String topic, String message);
+
+    // 브로드캐스트 구독 (노드별 임시 큐로 수신)
+    void subscribeToBroadcast(String topic, MessageHandler handler);
+
     @FunctionalInterface
     interface MessageHandler {
         void handleMessage(String message);
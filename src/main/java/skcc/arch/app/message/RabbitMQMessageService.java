@@ -1,19 +1,28 @@
 package skcc.arch.app.message;
 
 import com.rabbitmq.client.*;
+import jakarta.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.AnonymousQueue;
 import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.DirectExchange;
+import org.springframework.amqp.core.FanoutExchange;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.rabbit.connection.Connection;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitAdmin;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.messaging.MessageChannel;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
 
 /**
@@ -29,6 +38,8 @@ public class RabbitMQMessageService implements MessageService {
 
     private final RabbitTemplate rabbitTemplate; // RabbitMQ의 메시지 발행, 수신을 처리하는 템플릿
     private final RabbitAdmin rabbitAdmin; // 교환기와 큐를 RabbitMQ에 선언하거나 관리하는 도구
+    private final Set<String> declaredFanoutExchanges = ConcurrentHashMap.newKeySet(); // 선언한 fanout 교환기 (발행마다 선언하지 않도록)
+    private final List<SimpleMessageListenerContainer> broadcastContainers = new CopyOnWriteArrayList<>(); // 브로드캐스트 구독
 
     /**
      * RabbitMQMessageService 생성자
@@ -60,7 +71,7 @@ public class RabbitMQMessageService implements MessageService {
             declareQueueIfNotExists(queueName); // 큐가 존재하지 않을 경우 선언
             rabbitTemplate.convertAndSend(queueName, message); // 메시지를 큐로 발행
         }
-        log.info("Publish message [{}][{}] : {} ", exchangeName, queueName, message);
+        log.debug("Publish message [{}][{}] : {} ", exchangeName, queueName, message);
     }
 
     /**
@@ -97,6 +108,60 @@ public class RabbitMQMessageService implements MessageService {
         return (response != null) ? new String(response.getBody()) : null;
     }
 
+    /**
+     * 브로드캐스트 발행 메서드
+     * <p>
+     * 토픽 이름의 fanout 교환기로 발행하여, 교환기에 바인딩된 모든 노드의 큐로 전달
+     *
+     * @param topic   토픽 (fanout 교환기 이름)
+     * @param message 발행할 메시지
+     */
+    @Override
+    public void broadcastMessage(String topic, String message) {
+        declareFanoutExchangeIfNotExists(topic);
+        rabbitTemplate.convertAndSend(topic, "", message);
+        log.debug("Broadcast message [{}] : {}", topic, message);
+    }
+
+    /**
+     * 브로드캐스트 구독 메서드
+     * <p>
+     * 노드별 임시 큐(이름 자동 생성, 연결 종료 시 삭제)를 fanout 교환기에 바인딩하고 listener container 로 구독
+     * <ul>
+     *     <li>연결(재연결 포함)이 생성될 때마다 교환기, 임시 큐, 바인딩을 다시 선언한다.</li>
+     *     <li>RabbitMQ 에 연결할 수 없거나 큐가 아직 없으면 container 가 주기적으로 재시도한다. (기동 시 실패 포함)</li>
+     * </ul>
+     *
+     * @param topic   토픽 (fanout 교환기 이름)
+     * @param handler 수신된 메시지를 처리하기 위한 핸들러
+     */
+    @Override
+    public void subscribeToBroadcast(String topic, MessageHandler handler) {
+        Queue queue = new AnonymousQueue();
+        ConnectionFactory connectionFactory = rabbitTemplate.getConnectionFactory();
+        connectionFactory.addConnectionListener(connection -> declareBroadcastQueue(topic, queue));
+        declareBroadcastQueue(topic, queue); // 이미 연결된 경우
+
+        SimpleMessageListenerContainer container = new SimpleMessageListenerContainer(connectionFactory);
+        container.setQueues(queue);
+        container.setMissingQueuesFatal(false); // 큐 선언 전이면 재시도
+        container.setMessageListener(message -> {
+            String body = new String(message.getBody());
+            log.debug("Received broadcast [{}] : {}", topic, body);
+            handler.handleMessage(body);
+        });
+        container.start();
+        broadcastContainers.add(container);
+    }
+
+    /**
+     * 브로드캐스트 구독 종료
+     */
+    @PreDestroy
+    public void destroy() {
+        broadcastContainers.forEach(SimpleMessageListenerContainer::stop);
+    }
+
     /**
      * 교환기 이름 추출 메서드
      * <p>
@@ -149,6 +214,39 @@ public class RabbitMQMessageService implements MessageService {
         rabbitAdmin.declareExchange(exchange); // 교환기 선언
     }
 
+    /**
+     * fanout 교환기를 선언하는 메서드
+     *
+     * @param exchangeName 교환기 이름
+     */
+    private void declareFanoutExchangeIfNotExists(String exchangeName) {
+        if (declaredFanoutExchanges.contains(exchangeName)) {
+            return;
+        }
+        rabbitAdmin.declareExchange(new FanoutExchange(exchangeName, true, false)); // 내구성과 자동 삭제 설정
+        declaredFanoutExchanges.add(exchangeName);
+    }
+
+    /**
+     * 브로드캐스트 구독 큐를 선언하는 메서드
+     * <p>
+     * fanout 교환기, 임시 큐를 선언하고 바인딩 (실패 시 다음 연결 때 다시 선언)
+     *
+     * @param exchangeName 교환기 이름
+     * @param queue        노드별 임시 큐
+     */
+    private void declareBroadcastQueue(String exchangeName, Queue queue) {
+        try {
+            FanoutExchange exchange = new FanoutExchange(exchangeName, true, false);
+            rabbitAdmin.declareExchange(exchange);
+            rabbitAdmin.declareQueue(queue);
+            rabbitAdmin.declareBinding(BindingBuilder.bind(queue).to(exchange));
+            declaredFanoutExchanges.add(exchangeName);
+        } catch (Exception e) {
+            log.warn("Failed to declare broadcast queue [{}] : {}", exchangeName, e.getMessage());
+        }
+    }
+
     /**
      * 큐를 선언하는 메서드
      *
@@ -193,7 +291,7 @@ public class RabbitMQMessageService implements MessageService {
                 @Override
                 public void handleDelivery(String consumerTag, Envelope envelope, AMQP.BasicProperties properties, byte[] body) throws IOException {
                     String message = new String(body);
-                    log.info("Received message from queue [{}]: {}", queueName, message);
+                    log.debug("Received message from queue [{}]: {}", queueName, message);
                     handler.handleMessage(message); // 메시지 핸들러 실행
                 }
             });
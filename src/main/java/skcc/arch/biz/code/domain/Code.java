@@ -7,7 +7,9 @@ import lombok.Getter;
 import lombok.ToString;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
+import java.util.Objects;
 
 @Getter
 @Builder
@@ -26,6 +28,7 @@ public class Code {
     private final boolean delYn;
     private final LocalDateTime createdDate;
     private final LocalDateTime lastModifiedDate;
+    private final Long version; // DB 버전 (수정 시 증가, 루트는 트리 변경 시에도 증가)
 
     public static Code from(CodeCreate codeCreate) {
         return Code.builder()
@@ -52,9 +55,46 @@ public class Code {
                 .description(codeUpdate.getDescription())
                 .delYn(codeUpdate.isDelYn())
                 .lastModifiedDate(LocalDateTime.now())
+                .version(version)
                 .build();
     }
 
+    /**
+     * 캐시 버전 - 루트 코드의 DB 버전 (하위 코드가 변경되어도 루트 버전이 증가한다)
+     */
+    public long treeVersion() {
+        return version == null ? 0 : version;
+    }
+
+    /**
+     * 트리(본인 + 하위 코드)의 최종 수정 시각 (epoch ms, 수정일시가 없으면 생성일시, 둘 다 없으면 0)
+     */
+    public long treeModifiedAt() {
+        LocalDateTime modified = lastModifiedDate != null ? lastModifiedDate : createdDate;
+        long modifiedAt = modified == null ? 0 : modified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        if (child != null) {
+            for (Code c : child) {
+                modifiedAt = Math.max(modifiedAt, c.treeModifiedAt());
+            }
+        }
+        return modifiedAt;
+    }
+
+    /**
+     * 내용 해시 - 트리(본인 + 하위 코드)의 모든 필드 (캐시 정합성 검증)
+     * 하위 코드 순서와 무관하다. (조회 경로마다 정렬이 다를 수 있음, 순번은 seq 로 비교)
+     */
+    public long contentHash() {
+        long hash = Objects.hash(id, code, codeName, parentCodeId, seq, description, delYn, createdDate, lastModifiedDate, version);
+        long childHash = 0;
+        if (child != null) {
+            for (Code c : child) {
+                childHash += Long.rotateLeft(c.contentHash() * 0x9E3779B97F4A7C15L, 31);
+            }
+        }
+        return hash * 31 + childHash;
+    }
+
     /**
      * 순번만 변경
      */
@@ -70,6 +110,7 @@ public class Code {
                 .delYn(delYn)
                 .createdDate(createdDate)
                 .lastModifiedDate(lastModifiedDate)
+                .version(version)
                 .build();
     }
 
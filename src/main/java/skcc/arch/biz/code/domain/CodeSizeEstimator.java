@@ -0,0 +1,51 @@
+package skcc.arch.biz.code.domain;
+
+import skcc.arch.app.cache.CacheValueWeigher;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 코드 트리 메모리 점유 크기 추정 (캐시 weigher 용)
+ * <p>
+ * 필드 구조를 알고 있으므로 reflection 없이 노드 수, 문자열 길이로 계산한다. (재귀 대신 스택 사용)
+ */
+public final class CodeSizeEstimator {
+
+    // 헤더 12 + 참조 8개(4) + int + boolean -> 8byte 정렬
+    private static final long CODE_SHALLOW = CacheValueWeigher.align(CacheValueWeigher.OBJECT_HEADER + 8 * CacheValueWeigher.REFERENCE + 4 + 1);
+    private static final long LONG_SIZE = 16;
+    private static final long LOCAL_DATE_TIME_SIZE = 72; // LocalDateTime + LocalDate + LocalTime
+    private static final long LIST_OVERHEAD = 24;
+
+    private CodeSizeEstimator() {
+    }
+
+    public static long estimate(Code root) {
+        long size = 0;
+        Deque<Code> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Code code = stack.pop();
+            size += CODE_SHALLOW
+                    + (code.getId() == null ? 0 : LONG_SIZE)
+                    + (code.getParentCodeId() == null ? 0 : LONG_SIZE)
+                    + CacheValueWeigher.stringSize(code.getCode())
+                    + CacheValueWeigher.stringSize(code.getCodeName())
+                    + CacheValueWeigher.stringSize(code.getDescription())
+                    + (code.getCreatedDate() == null ? 0 : LOCAL_DATE_TIME_SIZE)
+                    + (code.getLastModifiedDate() == null ? 0 : LOCAL_DATE_TIME_SIZE);
+            List<Code> child = code.getChild();
+            if (child != null) {
+                size += LIST_OVERHEAD + CacheValueWeigher.arraySize(child.size());
+                for (Code c : child) {
+                    if (c != null) {
+                        stack.push(c);
+                    }
+                }
+            }
+        }
+        return size;
+    }
+}
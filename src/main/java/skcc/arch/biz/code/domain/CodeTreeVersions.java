@@ -0,0 +1,8 @@
+package skcc.arch.biz.code.domain;
+
+/**
+ * 루트 코드 트리 버전 요약 (루트 수, 루트 ID 합계, 루트 버전 합계)
+ * 하위 코드 변경 시에도 루트 버전이 증가하므로, 세 값이 같으면 그 사이 추가, 삭제, 변경된 트리가 없다.
+ */
+public record CodeTreeVersions(long rootCount, long idSum, long versionSum) {
+}
@@ -3,6 +3,7 @@ package skcc.arch.biz.code.infrastructure.jpa;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.BatchSize;
+import org.hibernate.annotations.ColumnDefault;
 import skcc.arch.biz.code.domain.Code;
 import skcc.arch.biz.common.infrastructure.jpa.BaseEntity;
 
@@ -46,6 +47,10 @@ public class CodeEntity extends BaseEntity {
     @Column(nullable = false)
     private boolean delYn;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version; // 낙관적 락 버전 (캐시 버전으로도 사용)
+
     public static CodeEntity from(Code code, CodeEntity parentCode) {
         return CodeEntity.builder()
                 .id(code.getId())
@@ -54,6 +59,7 @@ public class CodeEntity extends BaseEntity {
                 .parentCode(parentCode)
                 .seq(code.getSeq())
                 .description(code.getDescription())
+                .version(code.getVersion())
                 .build();
     }
 
@@ -68,6 +74,7 @@ public class CodeEntity extends BaseEntity {
                 .delYn(delYn)
                 .createdDate(super.getCreatedDate())
                 .lastModifiedDate(super.getLastModifiedDate())
+                .version(version)
                 .build();
     }
 
@@ -88,6 +95,7 @@ public class CodeEntity extends BaseEntity {
                 .delYn(delYn)
                 .createdDate(super.getCreatedDate())
                 .lastModifiedDate(super.getLastModifiedDate())
+                .version(version)
                 .build();
     }
 
@@ -1,6 +1,8 @@
 package skcc.arch.biz.code.infrastructure.jpa;
 
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 
 import java.util.List;
 import java.util.Optional;
@@ -10,4 +12,8 @@ public interface CodeRepositoryJpa extends JpaRepository<CodeEntity, Long> {
     boolean existsCodeEntityByParentCodeIdAndSeqOrderBySeqDesc(Long parentCodeId, Integer seq);
     List<CodeEntity> findByParentCodeId(Long parentCodeId);
     CodeEntity findByCode(String code);
+
+    // 조회 시 행 잠금 후 버전 증가
+    @Lock(LockModeType.PESSIMISTIC_FORCE_INCREMENT)
+    Optional<CodeEntity> findWithVersionIncrementById(Long id);
 }
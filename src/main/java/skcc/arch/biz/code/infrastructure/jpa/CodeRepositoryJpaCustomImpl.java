@@ -1,19 +1,29 @@
 package skcc.arch.biz.code.infrastructure.jpa;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 import skcc.arch.biz.code.domain.Code;
 import skcc.arch.biz.code.domain.CodeSearch;
+import skcc.arch.biz.code.domain.CodeTreeVersions;
 import skcc.arch.biz.code.service.port.CodeRepositoryPort;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static skcc.arch.biz.code.infrastructure.jpa.QCodeEntity.codeEntity;
 
@@ -21,6 +31,8 @@ import static skcc.arch.biz.code.infrastructure.jpa.QCodeEntity.codeEntity;
 @RequiredArgsConstructor
 public class CodeRepositoryJpaCustomImpl implements CodeRepositoryPort {
 
+    private static final int STREAM_FETCH_SIZE = 1000;
+
     private final CodeRepositoryJpa codeRepositoryJpa;
     private final JPAQueryFactory queryFactory;
 
@@ -104,6 +116,139 @@ public class CodeRepositoryJpaCustomImpl implements CodeRepositoryPort {
         return codeRepositoryJpa.findById(id).orElseGet(null).toModelWithChild();
     }
 
+    /**
+     * 전체 코드를 한 번의 쿼리로 스트리밍 조회하여 메모리에서 루트별 트리로 구성한다.
+     * (findAllLeafNodes 는 자식을 지연 로딩하므로 코드 수만큼 쿼리가 발생)
+     * 자식은 순번(seq) 순으로 정렬하며, 최하위 요소는 빈 자식 목록을 가진다. (toModelWithChild 와 동일)
+     * 스트리밍 조회이므로 트랜잭션 안에서 호출해야 한다.
+     */
+    @Override
+    public List<Code> findAllTrees() {
+        List<Code> codes = new ArrayList<>();
+        Map<Long, List<Code>> childrenByParentId = new HashMap<>();
+        try (Stream<Tuple> rows = queryFactory
+                .select(codeEntity.id, codeEntity.code, codeEntity.codeName, codeEntity.parentCode.id, codeEntity.seq,
+                        codeEntity.description, codeEntity.delYn, codeEntity.createdDate, codeEntity.lastModifiedDate,
+                        codeEntity.version)
+                .from(codeEntity)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .stream()) {
+            rows.forEach(row -> {
+                Long parentCodeId = row.get(codeEntity.parentCode.id);
+                Code code = Code.builder()
+                        .id(row.get(codeEntity.id))
+                        .code(row.get(codeEntity.code))
+                        .codeName(row.get(codeEntity.codeName))
+                        .parentCodeId(parentCodeId)
+                        .child(new ArrayList<>())
+                        .seq(row.get(codeEntity.seq))
+                        .description(row.get(codeEntity.description))
+                        .delYn(Boolean.TRUE.equals(row.get(codeEntity.delYn)))
+                        .createdDate(row.get(codeEntity.createdDate))
+                        .lastModifiedDate(row.get(codeEntity.lastModifiedDate))
+                        .version(row.get(codeEntity.version))
+                        .build();
+                codes.add(code);
+                if (parentCodeId != null) {
+                    childrenByParentId.computeIfAbsent(parentCodeId, k -> new ArrayList<>()).add(code);
+                }
+            });
+        }
+
+        // 부모에 자식 연결 (조회 순서와 무관)
+        Comparator<Code> bySeq = Comparator.comparingInt(Code::getSeq);
+        List<Code> roots = new ArrayList<>();
+        for (Code code : codes) {
+            List<Code> child = childrenByParentId.get(code.getId());
+            if (child != null) {
+                child.sort(bySeq);
+                code.getChild().addAll(child);
+            }
+            if (code.getParentCodeId() == null) {
+                roots.add(code);
+            }
+        }
+        roots.sort(bySeq);
+        return roots;
+    }
+
+    /**
+     * 전체 코드값 (Bloom filter 생성용)
+     */
+    @Override
+    public List<String> findAllCodes() {
+        return queryFactory.select(codeEntity.code)
+                .from(codeEntity)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .fetch();
+    }
+
+    /**
+     * 버전 증가 (루트 코드 트리의 하위 코드 변경 시 루트 버전을 올려 캐시 버전으로 사용)
+     * 행 잠금(PESSIMISTIC_FORCE_INCREMENT)으로 같은 트리의 동시 수정은 커밋 순서대로 버전이 증가한다.
+     */
+    @Override
+    public void increaseVersion(Long id) {
+        codeRepositoryJpa.findWithVersionIncrementById(id);
+    }
+
+    /**
+     * 루트 코드 수, ID 합계, 버전 합계 (캐시 스냅샷이 DB 와 같은지 확인용, 단일 집계 쿼리)
+     */
+    @Override
+    public CodeTreeVersions findTreeVersions() {
+        Tuple row = queryFactory.select(codeEntity.count(), codeEntity.id.sum(), codeEntity.version.sum())
+                .from(codeEntity)
+                .where(codeEntity.parentCode.isNull())
+                .fetchOne();
+        if (row == null) {
+            return new CodeTreeVersions(0, 0, 0);
+        }
+        return new CodeTreeVersions(zeroIfNull(row.get(codeEntity.count())), zeroIfNull(row.get(codeEntity.id.sum())),
+                zeroIfNull(row.get(codeEntity.version.sum())));
+    }
+
+    /**
+     * 임의의 루트 코드값 최대 limit 개 (캐시 정합성 검증 표본)
+     * 전체를 조회하지 않도록 임의의 ID 부터 ID 순으로 limit 개를 조회하고, 마지막 ID 에 도달하면 처음부터 이어서 조회한다.
+     */
+    @Override
+    public List<String> findRandomRootCodes(int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Tuple range = queryFactory.select(codeEntity.id.min(), codeEntity.id.max())
+                .from(codeEntity)
+                .where(codeEntity.parentCode.isNull())
+                .fetchOne();
+        Long minId = range == null ? null : range.get(codeEntity.id.min());
+        Long maxId = range == null ? null : range.get(codeEntity.id.max());
+        if (minId == null || maxId == null) {
+            return List.of();
+        }
+        long fromId = ThreadLocalRandom.current().nextLong(minId, maxId + 1);
+        List<String> codes = new ArrayList<>(findRootCodes(codeEntity.id.goe(fromId), limit));
+        if (codes.size() < limit) {
+            codes.addAll(findRootCodes(codeEntity.id.lt(fromId), limit - codes.size()));
+        }
+        return codes;
+    }
+
+    private List<String> findRootCodes(BooleanExpression idCondition, int limit) {
+        return queryFactory.select(codeEntity.code)
+                .from(codeEntity)
+                .where(codeEntity.parentCode.isNull(), idCondition)
+                .orderBy(codeEntity.id.asc())
+                .limit(limit)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .fetch();
+    }
+
+    private static long zeroIfNull(Long value) {
+        return value == null ? 0 : value;
+    }
+
     private CodeEntity getParentCodeEntity(Long parentCodeId) {
         if (parentCodeId == null) {
             return null;
@@ -52,6 +52,7 @@ public class CodeService implements CodeServicePort {
                 .build();
 
         Code savedCode = codeRepositoryPort.save(Code.from(setSeqModel));
+        registerCodeKey(savedCode.getCode());
 
         // 캐시 데이터 수정
         cacheUpdate(findByParentCode(savedCode));
@@ -125,38 +126,57 @@ public class CodeService implements CodeServicePort {
 
         // 업데이트 대상 엔티티 조회
         Code code = findByCodeId(codeUpdate.getId());
+        Code previousRoot = findByParentCode(code); // 다른 트리로 이동하거나 코드값이 바뀌면 이전 트리도 갱신
 
         // 도메인 모델 업데이트 비즈니스 로직 수행 (하위->상위로 변경되었을 경우 하위객체의 순번은 조정하지 않는다)
         code = code.update(codeUpdate);
 
         // DB 업데이트
         Code updated = codeRepositoryPort.update(code);
+        registerCodeKey(updated.getCode());
 
         // 형제 순번 조정
         reorderSequence(updated.getId(), updated.getSeq(), updated.getParentCodeId());
 
         // 캐시 데이터 수정
-        cacheUpdate(findByParentCode(updated));
+        Code root = findByParentCode(updated);
+        if (!root.getId().equals(previousRoot.getId()) || !root.getCode().equals(previousRoot.getCode())) {
+            cacheUpdate(previousRoot);
+        }
+        cacheUpdate(root);
 
         return updated;
     }
 
     @Override
     public Code findByCode(CodeSearch codeSearch) {
-        if (codeSearch.getCode() != null) {
+        String code = codeSearch.getCode();
+        if (code != null) {
 
-            // 캐시 조회
-            Code cachedCode = myCacheService.get(CacheGroup.CODE, codeSearch.getCode(), Code.class);
-            if (cachedCode != null) {
-                return cachedCode;
+            // 존재하지 않는 코드 (Bloom filter 기준 확실한 미존재, 새 코드는 모든 노드의 filter 에 전파됨)
+            if (!myCacheService.mightExist(CacheGroup.CODE, code)) {
+                return null;
             }
 
-            // DB 조회
-            Code dbCode = codeRepositoryPort.findByCode(codeSearch);
+            // 루트 코드 캐시 조회
+            Code cached = myCacheService.get(CacheGroup.CODE, code, Code.class);
+            if (cached != null) {
+                return cached;
+            }
 
-            // 루트 요소일 경우 캐시 추가
-            if (dbCode != null && dbCode.getParentCodeId() == null) {
-                myCacheService.put(CacheGroup.CODE, codeSearch.getCode(), dbCode);
+            // 존재하지 않는 코드의 조회 결과 (짧은 TTL)
+            if (MyCacheService.NOT_FOUND.equals(myCacheService.get(CacheGroup.CODE_LOOKUP, code, Object.class))) {
+                return null;
+            }
+
+            // DB 조회 (동시 요청은 한 번만 DB 조회)
+            Code dbCode = myCacheService.getOrLoad(CacheGroup.CODE, code, Code.class,
+                    () -> codeRepositoryPort.findByCode(codeSearch),
+                    // 루트 요소일 경우 캐시 추가
+                    loaded -> loaded.getParentCodeId() == null);
+            // 하위 코드는 상위, 형제 변경 시 무효화할 수 없으므로 캐시하지 않는다
+            if (dbCode == null) {
+                myCacheService.put(CacheGroup.CODE_LOOKUP, code, MyCacheService.NOT_FOUND);
             }
             return dbCode;
         }
@@ -200,6 +220,9 @@ public class CodeService implements CodeServicePort {
                 Code updateCode = code.changeSeq(++indexSeq);
                 // SEQ가 변경된 객체 업데이트
                 codeRepositoryPort.save(updateCode);
+                if (updateCode.getParentCodeId() == null) {
+                    cacheUpdate(updateCode); // 루트 코드 트리의 순번 변경
+                }
             }
         }
     }
@@ -226,13 +249,22 @@ public class CodeService implements CodeServicePort {
         }
     }
 
-    private void cacheUpdate(Code code) {
-        CodeSearch codeSearch = CodeSearch.builder()
-                .code(code.getCode())
-                .build();
-        Code result = codeRepositoryPort.findByCode(codeSearch);
+    /**
+     * 새 코드값을 Bloom filter 에 추가하고, 미존재 조회 결과 캐시 삭제
+     */
+    private void registerCodeKey(String code) {
+        myCacheService.addKey(CacheGroup.CODE, code);
+        myCacheService.evict(CacheGroup.CODE_LOOKUP, code);
+    }
 
-        myCacheService.put(CacheGroup.CODE, code.getCode(), result);
+    /**
+     * 루트 코드 트리 캐시 갱신
+     * 루트 버전을 올리고(행 잠금, 캐시 버전) 커밋 후 트리를 다시 조회하여 버전이 더 클 때만 저장한다.
+     * 동시 수정 시 늦게 끝난 요청이 이전 트리로 덮어쓰지 않으며, 롤백된 변경은 캐시되지 않는다.
+     */
+    private void cacheUpdate(Code root) {
+        codeRepositoryPort.increaseVersion(root.getId());
+        myCacheService.refreshAfterCommit(CacheGroup.CODE, root.getCode());
     }
 
 }
@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import skcc.arch.biz.code.domain.Code;
 import skcc.arch.biz.code.domain.CodeSearch;
+import skcc.arch.biz.code.domain.CodeTreeVersions;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,4 +21,9 @@ public interface CodeRepositoryPort {
     List<Code> findByParentCodeId(Long parentCodeId);
     Code findByCode(CodeSearch search);
     Code findAllLeafNodes(Long id);
+    List<Code> findAllTrees();
+    List<String> findAllCodes();
+    void increaseVersion(Long id);
+    CodeTreeVersions findTreeVersions();
+    List<String> findRandomRootCodes(int limit);
 }
@@ -1,7 +1,8 @@
 package skcc.arch.biz.common.constants;
 
 public enum CacheGroup {
-    CODE("code", "코드ID 기준으로 캐시 KEY를 설정한다.")
+    CODE("code", "코드ID 기준으로 캐시 KEY를 설정한다."),
+    CODE_LOOKUP("code_lookup", "존재하지 않는 코드의 조회 결과 (짧은 TTL)")
     ;
 
     private String name;
@@ -15,6 +16,7 @@ public enum CacheGroup {
     public static CacheGroup getByName(String name) {
         return switch (name) {
             case "code" -> CODE;
+            case "code_lookup" -> CODE_LOOKUP;
             default -> null;
         };
     }
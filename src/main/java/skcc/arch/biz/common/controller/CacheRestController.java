@@ -6,12 +6,17 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import skcc.arch.app.cache.CacheConsistencyVerifier;
+import skcc.arch.app.cache.CacheStats;
+import skcc.arch.app.cache.HotKeyDetector;
 import skcc.arch.app.dto.ApiResponse;
 import skcc.arch.app.exception.CustomException;
 import skcc.arch.app.exception.ErrorCode;
 import skcc.arch.biz.common.constants.CacheGroup;
 import skcc.arch.biz.common.service.MyCacheService;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/cache")
 @RequiredArgsConstructor
@@ -40,4 +45,28 @@ public class CacheRestController {
         myCacheService.evict(cacheGroup, cacheKey);
         return  ApiResponse.ok(null);
     }
+
+    /**
+     * backend, 캐시그룹별 조회(hit/miss), 저장, 제거(원인별), 로딩 시간, 오류, 엔트리 수
+     */
+    @GetMapping("/stats")
+    public ApiResponse<List<CacheStats>> stats() {
+        return ApiResponse.ok(myCacheService.stats());
+    }
+
+    /**
+     * 직전 집계 주기의 hot key 와 전체 조회 중 비율 (redis 모드)
+     */
+    @GetMapping("/hot-keys")
+    public ApiResponse<List<HotKeyDetector.HotKey>> hotKeys() {
+        return ApiResponse.ok(myCacheService.hotKeys());
+    }
+
+    /**
+     * 직전 캐시/DB 정합성 검증 결과 (my.cache.verifier.enabled)
+     */
+    @GetMapping("/verify-report")
+    public ApiResponse<CacheConsistencyVerifier.Report> verifyReport() {
+        return ApiResponse.ok(myCacheService.verifierReport());
+    }
 }
@@ -1,19 +1,57 @@
 package skcc.arch.biz.common.service;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.Lists;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import skcc.arch.app.cache.AsyncCacheService;
+import skcc.arch.app.cache.BloomKeyFilter;
+import skcc.arch.app.cache.CacheConsistencyVerifier;
+import skcc.arch.app.cache.CacheMetrics;
+import skcc.arch.app.cache.CacheProperties;
 import skcc.arch.app.cache.CacheService;
-import skcc.arch.app.cache.CaffeineCacheService;
-import skcc.arch.app.cache.RedisCacheService;
+import skcc.arch.app.cache.CacheSnapshotService;
+import skcc.arch.app.cache.CacheStats;
+import skcc.arch.app.cache.CacheWarmupCoordinator;
+import skcc.arch.app.cache.CacheWarmupHealthIndicator;
+import skcc.arch.app.cache.HotKeyCacheService;
+import skcc.arch.app.cache.HotKeyDetector;
+import skcc.arch.app.cache.SingleFlight;
+import skcc.arch.app.message.MessageService;
 import skcc.arch.biz.code.domain.Code;
+import skcc.arch.biz.code.domain.CodeSearch;
+import skcc.arch.biz.code.domain.CodeTreeVersions;
 import skcc.arch.biz.code.service.port.CodeRepositoryPort;
 import skcc.arch.biz.common.constants.CacheGroup;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
 
 @Service
 @RequiredArgsConstructor
@@ -21,23 +59,279 @@ import java.util.List;
 public class MyCacheService {
 
     public static final String DELIMITER = ":";
+    public static final String NOT_FOUND = "__NOT_FOUND__"; // 존재하지 않는 키 표시값 (negative caching)
+    private static final String KEY_MESSAGE_DELIMITER = "|";
+    private static final Duration UNCACHEABLE_TTL = Duration.ofMinutes(1); // 캐시하지 않는 로딩 결과 기억 시간
     private final CacheService cacheService;
     private final CodeRepositoryPort codeRepositoryPort;
+    private final CacheProperties cacheProperties;
+    private final PlatformTransactionManager transactionManager;
+    private final CacheMetrics cacheMetrics;
+    private final CacheWarmupHealthIndicator cacheWarmupHealthIndicator;
+    private final CacheWarmupCoordinator cacheWarmupCoordinator;
+    private final ObjectProvider<CacheSnapshotService> cacheSnapshotService; // caffeine 모드 스냅샷 (미사용 시 없음)
+    private final ObjectProvider<MessageService> messageService; // Bloom filter 키 노드간 전파 (RabbitMQ 미설정 시 없음)
+    private final SingleFlight singleFlight = new SingleFlight();
+    // 로딩 결과를 캐시하지 않는 키 (노드간 락 없이 로딩, 기다려도 적재되지 않으므로)
+    private final Cache<String, Boolean> uncacheableKeys = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(UNCACHEABLE_TTL)
+            .build();
+    private AsyncCacheService asyncCacheService; // 비동기 API (Redis 는 reactive, 메모리 캐시는 완료된 future)
+    // 캐시그룹별 존재하는 키 (확실한 미존재 키는 캐시, DB 조회 없이 처리)
+    private final Map<CacheGroup, BloomKeyFilter> keyFilters = new ConcurrentHashMap<>();
+    // 캐시그룹별 값 버전 (등록된 그룹의 적재 값은 putIfNewer 로 저장)
+    private final Map<CacheGroup, ToLongFunction<Object>> versions = new ConcurrentHashMap<>();
+    private final Map<CacheGroup, Function<String, ?>> loaders = new ConcurrentHashMap<>(); // 캐시그룹별 재적재 loader
+    private CacheConsistencyVerifier<Code> codeVerifier; // 코드 캐시/DB 정합성 검증 (미사용 시 null)
 
-    @Transactional
+    @PostConstruct
+    public void init() {
+        asyncCacheService = AsyncCacheService.of(cacheService);
+        registerCacheLoaders();
+        if (cacheProperties.getBloomFilter().isEnabled()) {
+            initKeyFilters();
+        }
+        if (cacheProperties.getVerifier().isEnabled()) {
+            codeVerifier = new CacheConsistencyVerifier<>(cacheService, CacheGroup.CODE.name(), Code.class,
+                    codeVerifierSource(), cacheProperties.getVerifier(), cacheMetrics);
+        }
+    }
+
+    @PreDestroy
+    public void destroy() {
+        if (codeVerifier != null) {
+            codeVerifier.close();
+        }
+    }
+
+    /**
+     * 존재하는 키 Bloom filter 생성
+     * 새 키는 모든 노드의 filter 에 추가해야 하므로(다른 노드에서 미존재로 응답하지 않도록) 브로드캐스트를 구독한다.
+     * MessageService 가 없거나 구독에 실패하면 Bloom filter 를 사용하지 않는다.
+     */
+    private void initKeyFilters() {
+        MessageService broadcaster = messageService.getIfAvailable();
+        if (broadcaster == null) {
+            log.warn("Bloom filter 미사용 : 노드간 키 전파에 필요한 MessageService 없음 (spring.rabbitmq.host)");
+            return;
+        }
+        try {
+            broadcaster.subscribeToBroadcast(cacheProperties.getBloomFilter().getTopic(), this::onKeyAdded);
+            keyFilters.put(CacheGroup.CODE, new BloomKeyFilter(cacheProperties.getBloomFilter().getFalsePositiveRate()));
+        } catch (Exception e) {
+            log.error("Bloom filter 미사용 : 키 전파 구독 실패 [{}] : {}", cacheProperties.getBloomFilter().getTopic(), e.getMessage(), e);
+        }
+    }
+
+    /**
+     * refresh-ahead 대상 캐시그룹의 재적재 loader 등록
+     * (my.cache.groups.{캐시그룹명}.refresh-after-write 설정 시 동작)
+     */
+    private void registerCacheLoaders() {
+        TransactionTemplate readOnlyTx = readOnlyTransaction();
+
+        registerVersion(CacheGroup.CODE, Code.class, Code::treeVersion);
+        registerLoader(CacheGroup.CODE, code -> readOnlyTx.execute(status -> findRootCode(code)));
+    }
+
+    /**
+     * 루트 코드만 캐시하므로, 루트가 아니거나 삭제된 경우 null (캐시에서 제거)
+     */
+    private Code findRootCode(String code) {
+        Code dbCode = codeRepositoryPort.findByCode(CodeSearch.builder().code(code).build());
+        return dbCode != null && dbCode.getParentCodeId() == null ? dbCode : null;
+    }
+
+    /**
+     * 코드 캐시 검증 기준 - 루트 코드 표본과 루트 코드 트리 (재적재 loader 와 같은 조회)
+     */
+    private CacheConsistencyVerifier.Source<Code> codeVerifierSource() {
+        TransactionTemplate readOnlyTx = readOnlyTransaction();
+        return new CacheConsistencyVerifier.Source<>() {
+            @Override
+            public long count() {
+                CodeTreeVersions treeVersions = readOnlyTx.execute(status -> codeRepositoryPort.findTreeVersions());
+                return treeVersions == null ? 0 : treeVersions.rootCount();
+            }
+
+            @Override
+            public List<String> sampleKeys(int limit) {
+                return readOnlyTx.execute(status -> codeRepositoryPort.findRandomRootCodes(limit));
+            }
+
+            @Override
+            public Code load(String key) {
+                return readOnlyTx.execute(status -> findRootCode(key));
+            }
+
+            @Override
+            public long contentHash(Code value) {
+                return value.contentHash();
+            }
+
+            @Override
+            public long version(Code value) {
+                return value.treeVersion();
+            }
+
+            @Override
+            public long modifiedAt(Code value) {
+                return value.treeModifiedAt();
+            }
+        };
+    }
+
+    /**
+     * 캐시그룹 재적재 loader 등록 (KEY 는 캐시그룹을 제외한 값)
+     */
+    public void registerLoader(CacheGroup cacheGroup, Function<String, ?> loader) {
+        loaders.put(cacheGroup, loader);
+        String prefix = cacheGroup.name() + DELIMITER;
+        cacheService.registerLoader(cacheGroup.name(), cacheKey -> versioned(cacheGroup, loader.apply(cacheKey.substring(prefix.length()))));
+    }
+
+    /**
+     * 캐시그룹 값의 버전 등록 (DB 버전 컬럼 등 증가하는 값)
+     * 등록된 캐시그룹은 적재(getOrLoad, 재적재, 초기 적재)한 값을 저장된 버전보다 새 버전일 때만 저장한다.
+     */
+    public <T> void registerVersion(CacheGroup cacheGroup, Class<T> type, ToLongFunction<? super T> version) {
+        versions.put(cacheGroup, value -> version.applyAsLong(type.cast(value)));
+    }
+
+    /**
+     * 기동 시 초기 적재 (별도 스레드)
+     * 적재가 끝날 때까지 readiness(cacheWarmup) 가 OUT_OF_SERVICE 이므로 트래픽을 받지 않는다.
+     */
     @EventListener(ApplicationReadyEvent.class)
     public void loadCacheData() {
+        cacheWarmupHealthIndicator.started();
+        Thread warmup = new Thread(this::warmup, "cache-warmup");
+        warmup.setDaemon(true);
+        warmup.start();
+    }
+
+    private void warmup() {
+        long start = System.currentTimeMillis();
+        try {
+            // 존재하는 키 (노드마다 생성)
+            rebuildKeyFilters();
 
-        // 메모리(로컬)
-        if(cacheService instanceof CaffeineCacheService) {
-            // 초기 적재할 캐시
-            loadCodeCacheData();
-            log.info("캐시 적재 완료");
+            int loaded = 0;
+            // 초기 적재할 캐시 (공유 캐시는 한 노드만 적재, 스냅샷에서 복원된 캐시그룹은 생략)
+            if (!isRestoredFromSnapshot(CacheGroup.CODE)) {
+                loaded = cacheWarmupCoordinator.warmup(CacheGroup.CODE.name(), this::loadCodeCacheData);
+            }
+            long elapsed = System.currentTimeMillis() - start;
+            cacheWarmupHealthIndicator.completed(loaded, elapsed);
+            log.info("캐시 적재 완료 : {}건, {}ms", loaded, elapsed);
+        } catch (Exception e) {
+            // 적재 실패 시에도 조회 시점에 적재되므로 트래픽은 받는다
+            cacheWarmupHealthIndicator.failed(e, System.currentTimeMillis() - start);
+            log.error("캐시 적재 실패 : {}", e.getMessage(), e);
         }
-        // 레디스(서버)
-        else if (cacheService instanceof RedisCacheService) {
-            // 초기로딩이 필요한지?
-            loadCodeCacheData();
+    }
+
+    /**
+     * 스냅샷에서 복원된 코드 트리가 DB 와 같은지 (같으면 초기 적재 생략)
+     * 모든 엔트리가 복원되었고 루트 수, ID 합계, 버전 합계가 DB 와 같아야 한다. 그 외에는 복원된 값을 먼저 사용하면서 초기 적재한다.
+     */
+    private boolean isRestoredFromSnapshot(CacheGroup cacheGroup) {
+        CacheSnapshotService snapshot = cacheSnapshotService.getIfAvailable();
+        if (snapshot == null || !snapshot.isRestored(cacheGroup.name())) {
+            return false;
+        }
+        Map<String, Code> restored = cacheService.getAll(snapshot.restoredKeys(cacheGroup.name()), Code.class);
+        CodeTreeVersions snapshotVersions = new CodeTreeVersions(restored.size(),
+                restored.values().stream().mapToLong(Code::getId).sum(),
+                restored.values().stream().mapToLong(Code::treeVersion).sum());
+        CodeTreeVersions dbVersions = readOnlyTransaction().execute(status -> codeRepositoryPort.findTreeVersions());
+        if (!snapshotVersions.equals(dbVersions)) {
+            log.info("캐시 스냅샷이 DB 와 달라 초기 적재 : {} (스냅샷 {}, DB {})", cacheGroup.name(), snapshotVersions, dbVersions);
+            return false;
+        }
+        log.info("캐시 스냅샷에서 복원되어 초기 적재 생략 : {}", cacheGroup.name());
+        return true;
+    }
+
+    /**
+     * 존재하는 키 Bloom filter 재생성 (기동 시, 주기적으로 실행)
+     * 전파 메시지가 유실된 키도 재생성 시 반영된다.
+     */
+    @Scheduled(initialDelayString = "${my.cache.bloom-filter.rebuild-interval:1m}",
+            fixedDelayString = "${my.cache.bloom-filter.rebuild-interval:1m}")
+    public void rebuildKeyFilters() {
+        BloomKeyFilter codeFilter = keyFilters.get(CacheGroup.CODE);
+        if (codeFilter == null) {
+            return;
+        }
+        try {
+            codeFilter.rebuild(() -> readOnlyTransaction().execute(status -> codeRepositoryPort.findAllCodes()));
+        } catch (Exception e) {
+            log.error(" key filter rebuild error : {}", e.getMessage());
+            recordError(CacheGroup.CODE.name(), "rebuildKeyFilter");
+        }
+    }
+
+    /**
+     * 키가 존재할 수 있는지 (false 일 경우 확실히 없음, Bloom filter 미사용 그룹은 항상 true)
+     */
+    public boolean mightExist(CacheGroup cacheGroup, String key) {
+        BloomKeyFilter filter = keyFilters.get(cacheGroup);
+        return filter == null || filter.mightContain(key);
+    }
+
+    /**
+     * 새로 저장된 키를 모든 노드의 Bloom filter 에 추가 (트랜잭션 중일 경우 커밋 후 다시 추가)
+     */
+    public void addKey(CacheGroup cacheGroup, String key) {
+        BloomKeyFilter filter = keyFilters.get(cacheGroup);
+        if (filter == null) {
+            return;
+        }
+        // 커밋 전 추가 + 커밋 후 재추가 (커밋 전 시작된 재생성에 누락되지 않도록)
+        filter.put(key);
+        broadcastKey(cacheGroup, key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    filter.put(key);
+                    broadcastKey(cacheGroup, key);
+                }
+            });
+        }
+    }
+
+    /**
+     * 다른 노드에 새 키 전파 (형식 : 캐시그룹|키, 실패 시 다음 재생성 때 반영)
+     */
+    private void broadcastKey(CacheGroup cacheGroup, String key) {
+        try {
+            messageService.getObject().broadcastMessage(cacheProperties.getBloomFilter().getTopic(),
+                    cacheGroup.name() + KEY_MESSAGE_DELIMITER + key);
+        } catch (Exception e) {
+            log.warn(" key filter broadcast error [{}] : {}", key, e.getMessage());
+            recordError(cacheGroup.name(), "broadcastKey");
+        }
+    }
+
+    /**
+     * 다른 노드(자신 포함)에서 추가된 키 수신
+     */
+    private void onKeyAdded(String message) {
+        int idx = message.indexOf(KEY_MESSAGE_DELIMITER);
+        if (idx < 0) {
+            log.warn("잘못된 Bloom filter 키 메시지 : {}", message);
+            return;
+        }
+        try {
+            BloomKeyFilter filter = keyFilters.get(CacheGroup.valueOf(message.substring(0, idx)));
+            if (filter != null) {
+                filter.put(message.substring(idx + 1));
+            }
+        } catch (IllegalArgumentException e) {
+            log.warn("알 수 없는 캐시그룹의 Bloom filter 키 메시지 : {}", message);
         }
     }
 
@@ -50,6 +344,27 @@ public class MyCacheService {
             cacheService.put(cacheGroup.name() + DELIMITER + key, value);
         } catch (Exception e) {
             log.error(" cache put error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "put");
+        }
+    }
+
+    /**
+     * 저장된 값보다 새 버전일 때만 저장 (동시 수정 시 이전 값으로 덮어쓰지 않음)
+     *
+     * @param version 값의 버전 (수정일시 등 증가하는 값)
+     * @return 저장 여부 (오류 시 false)
+     */
+    public boolean putIfNewer(CacheGroup cacheGroup, String key, Object value, long version) {
+        try {
+            boolean stored = cacheService.putIfNewer(cacheGroup.name() + DELIMITER + key, value, version);
+            if (!stored) {
+                log.debug("이전 버전 캐시 저장 생략 : {}:{} (version {})", cacheGroup.name(), key, version);
+            }
+            return stored;
+        } catch (Exception e) {
+            log.error(" cache putIfNewer error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "putIfNewer");
+            return false;
         }
     }
 
@@ -59,16 +374,305 @@ public class MyCacheService {
             t = cacheService.get(cacheGroup.name() + DELIMITER + key, clazz);
         } catch (Exception e) {
             log.error(" cache get error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "get");
             t = null;
         }
         return t;
     }
 
+    /**
+     * 비동기 조회 (오류 시 null 로 완료)
+     */
+    public <T> CompletableFuture<T> getAsync(CacheGroup cacheGroup, String key, Class<T> clazz) {
+        return async(cacheGroup, "get", () -> asyncCacheService.getAsync(toCacheKey(cacheGroup, key), clazz));
+    }
+
+    /**
+     * 비동기 저장 (오류 시 로그만 남기고 완료)
+     */
+    public CompletableFuture<Void> putAsync(CacheGroup cacheGroup, String key, Object value) {
+        return async(cacheGroup, "put", () -> asyncCacheService.putAsync(toCacheKey(cacheGroup, key), value));
+    }
+
+    /**
+     * 비동기 삭제 (오류 시 로그만 남기고 완료)
+     */
+    public CompletableFuture<Void> evictAsync(CacheGroup cacheGroup, String key) {
+        return async(cacheGroup, "evict", () -> asyncCacheService.evictAsync(toCacheKey(cacheGroup, key)));
+    }
+
+    /**
+     * 비동기 다건 조회 - 캐시에 존재하는 키만 반환 (KEY 는 캐시그룹을 제외한 값, 오류 시 빈 Map)
+     */
+    public <T> CompletableFuture<Map<String, T>> getAllAsync(CacheGroup cacheGroup, Collection<String> keys, Class<T> clazz) {
+        Map<String, String> cacheKeys = new LinkedHashMap<>();
+        keys.forEach(key -> cacheKeys.put(toCacheKey(cacheGroup, key), key));
+        return async(cacheGroup, "getAll", () -> asyncCacheService.getAllAsync(cacheKeys.keySet(), clazz))
+                .thenApply(found -> {
+                    Map<String, T> result = new LinkedHashMap<>();
+                    if (found != null) {
+                        found.forEach((cacheKey, value) -> result.put(cacheKeys.get(cacheKey), value));
+                    }
+                    return result;
+                });
+    }
+
+    /**
+     * 비동기 작업 오류는 동기 API 와 같이 로그, 메트릭만 남기고 null 로 완료
+     */
+    private <T> CompletableFuture<T> async(CacheGroup cacheGroup, String operation, Supplier<CompletableFuture<T>> call) {
+        CompletableFuture<T> future;
+        try {
+            future = call.get();
+        } catch (Exception e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.exceptionally(e -> {
+            log.error(" cache {} async error : {}", operation, e.getMessage());
+            recordError(cacheGroup.name(), operation);
+            return null;
+        });
+    }
+
+    /**
+     * 캐시 조회 후 없을 경우 loader 로 적재한다. (캐시 스탬피드 방지)
+     * - JVM 내 : 같은 키의 동시 로딩은 하나로 합쳐진다 (single-flight)
+     * - 노드간 : Redis 사용 시 임대 락을 획득한 노드만 로딩하고, 나머지는 캐시 적재(또는 락 해제)를 기다린다
+     * - 직전 로딩 결과를 캐시하지 않은 키(cacheable 불일치, null)는 일정 시간 노드간 락 없이 로딩한다
+     */
+    public <T> T getOrLoad(CacheGroup cacheGroup, String key, Class<T> clazz, Supplier<T> loader) {
+        return getOrLoad(cacheGroup, key, clazz, loader, value -> true);
+    }
+
+    /**
+     * @param cacheable 로딩 결과 중 캐시에 적재할 값의 조건
+     */
+    public <T> T getOrLoad(CacheGroup cacheGroup, String key, Class<T> clazz, Supplier<T> loader, Predicate<? super T> cacheable) {
+        T cached = get(cacheGroup, key, clazz);
+        if (cached != null) {
+            return cached;
+        }
+        return singleFlight.execute(toCacheKey(cacheGroup, key), () -> loadWithLock(cacheGroup, key, clazz, loader, cacheable));
+    }
+
+    private <T> T loadWithLock(CacheGroup cacheGroup, String key, Class<T> clazz, Supplier<T> loader, Predicate<? super T> cacheable) {
+        // 앞선 로딩이 막 끝난 경우
+        T cached = get(cacheGroup, key, clazz);
+        if (cached != null) {
+            return cached;
+        }
+
+        String cacheKey = toCacheKey(cacheGroup, key);
+        // 직전 로딩 결과를 캐시하지 않은 키는 락 없이 로딩 (JVM 내 동시 로딩은 single-flight 로 합쳐짐)
+        String token = uncacheableKeys.getIfPresent(cacheKey) != null ? CacheService.LOCAL_LOCK_TOKEN : tryLock(cacheGroup, cacheKey);
+        if (token == null) {
+            // 다른 노드가 로딩 중 - 적재되거나 락이 해제될 때까지 대기, 시간 초과 시 락 없이 로딩
+            LoadWait<T> wait = waitForLoad(cacheGroup, key, clazz, cacheKey);
+            if (wait.cached() != null) {
+                return wait.cached();
+            }
+            token = wait.token();
+        }
+
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            T loaded = loader.get();
+            success = true;
+            if (loaded != null && cacheable.test(loaded)) {
+                store(cacheGroup, key, loaded);
+                uncacheableKeys.invalidate(cacheKey);
+            } else {
+                uncacheableKeys.put(cacheKey, Boolean.TRUE);
+            }
+            return loaded;
+        } finally {
+            cacheMetrics.recordLoad(cacheProperties.getType(), cacheGroup.name(), System.nanoTime() - start, success);
+            if (token != null && !CacheService.LOCAL_LOCK_TOKEN.equals(token)) {
+                unlock(cacheGroup, cacheKey, token);
+            }
+        }
+    }
+
+    private String tryLock(CacheGroup cacheGroup, String cacheKey) {
+        try {
+            return cacheService.tryLock(cacheKey, cacheProperties.getLock().getLeaseTime());
+        } catch (Exception e) {
+            // 락 저장소 장애 시 락 없이 로딩
+            log.error(" cache lock error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "lock");
+            return CacheService.LOCAL_LOCK_TOKEN;
+        }
+    }
+
+    private void unlock(CacheGroup cacheGroup, String cacheKey, String token) {
+        try {
+            cacheService.unlock(cacheKey, token);
+        } catch (Exception e) {
+            log.error(" cache unlock error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "unlock");
+        }
+    }
+
+    /**
+     * 다른 노드의 로딩 대기
+     * 캐시하지 않는 결과(미존재 등)는 적재되지 않으므로, 락이 해제되면 락을 획득하여 직접 로딩한다.
+     */
+    private <T> LoadWait<T> waitForLoad(CacheGroup cacheGroup, String key, Class<T> clazz, String cacheKey) {
+        long deadline = System.nanoTime() + cacheProperties.getLock().getWaitTime().toNanos();
+        long sleepMillis = 20;
+        while (System.nanoTime() < deadline) {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return new LoadWait<>(null, null);
+            }
+            T cached = get(cacheGroup, key, clazz);
+            if (cached != null) {
+                return new LoadWait<>(cached, null);
+            }
+            String token = tryLock(cacheGroup, cacheKey);
+            if (token != null) {
+                return new LoadWait<>(null, token);
+            }
+            sleepMillis = Math.min(sleepMillis * 2, 200);
+        }
+        return new LoadWait<>(null, null);
+    }
+
+    /**
+     * 로딩 대기 결과 (적재된 값, 또는 락 해제 후 획득한 락 token)
+     */
+    private record LoadWait<T>(T cached, String token) {
+    }
+
+    /**
+     * 적재한 값 저장 (버전이 등록된 캐시그룹은 putIfNewer)
+     */
+    private void store(CacheGroup cacheGroup, String key, Object value) {
+        ToLongFunction<Object> version = versions.get(cacheGroup);
+        if (version == null) {
+            put(cacheGroup, key, value);
+        } else {
+            putIfNewer(cacheGroup, key, value, version.applyAsLong(value));
+        }
+    }
+
+    /**
+     * 재적재 loader 반환값 (버전이 등록된 캐시그룹은 버전 포함)
+     */
+    private Object versioned(CacheGroup cacheGroup, Object value) {
+        ToLongFunction<Object> version = versions.get(cacheGroup);
+        return value == null || version == null ? value : new CacheService.Versioned(value, version.applyAsLong(value));
+    }
+
+    /**
+     * 커밋 후 등록된 loader 로 다시 조회하여 캐시 저장 (버전이 더 클 때만, 원본이 없으면 삭제)
+     * 커밋된 값만 캐시되므로 롤백된 변경이 캐시에 남지 않는다. 트랜잭션 밖에서는 바로 실행한다.
+     * <p>
+     * 완료 중인 트랜잭션(afterCommit)에 등록한 동기화는 실행되지 않으므로, 캐시 저장/삭제는 새 트랜잭션 안에서 수행한다.
+     * (노드간 무효화 발행 등 캐시 구현체가 커밋 후로 미루는 작업이 새 트랜잭션 커밋 시 실행됨)
+     */
+    public void refreshAfterCommit(CacheGroup cacheGroup, String key) {
+        Function<String, ?> loader = loaders.get(cacheGroup);
+        if (loader == null) {
+            evict(cacheGroup, key);
+            return;
+        }
+        Runnable refresh = () -> {
+            try {
+                // 커밋된 트랜잭션의 자원을 쓰지 않도록 새 트랜잭션에서 조회, 저장
+                newReadOnlyTransaction().executeWithoutResult(status -> {
+                    Object loaded = loader.apply(key);
+                    if (loaded == null) {
+                        evict(cacheGroup, key);
+                    } else {
+                        store(cacheGroup, key, loaded);
+                    }
+                });
+            } catch (Exception e) {
+                log.error(" cache refresh error : {}", e.getMessage());
+                recordError(cacheGroup.name(), "refresh");
+                // 조회 트랜잭션은 롤백되었으므로 트랜잭션 없는 범위에서 삭제 (DB 연결 미사용)
+                withoutTransaction().executeWithoutResult(status -> evict(cacheGroup, key));
+            }
+        };
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh.run();
+                }
+            });
+        } else {
+            refresh.run();
+        }
+    }
+
     public void evict(CacheGroup cacheGroup, String key) {
         try {
             cacheService.evict(cacheGroup.name() + DELIMITER + key);
         } catch (Exception e) {
             log.error(" cache evict error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "evict");
+        }
+    }
+
+    /*
+        다건 조회 - 캐시에 존재하는 키만 반환 (KEY 는 캐시그룹을 제외한 값)
+     */
+    public <T> Map<String, T> getAll(CacheGroup cacheGroup, Collection<String> keys, Class<T> clazz) {
+        Map<String, T> result = new HashMap<>();
+        try {
+            List<String> cacheKeys = keys.stream().map(key -> toCacheKey(cacheGroup, key)).toList();
+            String prefix = cacheGroup.name() + DELIMITER;
+            cacheService.getAll(cacheKeys, clazz)
+                    .forEach((cacheKey, value) -> result.put(cacheKey.substring(prefix.length()), value));
+        } catch (Exception e) {
+            log.error(" cache getAll error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "getAll");
+        }
+        return result;
+    }
+
+    public void putAll(CacheGroup cacheGroup, Map<String, ?> entries) {
+        try {
+            Map<String, Object> cacheEntries = new LinkedHashMap<>();
+            entries.forEach((key, value) -> cacheEntries.put(toCacheKey(cacheGroup, key), value));
+            cacheService.putAll(cacheEntries);
+        } catch (Exception e) {
+            log.error(" cache putAll error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "putAll");
+        }
+    }
+
+    /**
+     * 다건 putIfNewer (버전이 등록되지 않은 캐시그룹은 putAll)
+     */
+    public void putAllIfNewer(CacheGroup cacheGroup, Map<String, ?> entries) {
+        ToLongFunction<Object> version = versions.get(cacheGroup);
+        if (version == null) {
+            putAll(cacheGroup, entries);
+            return;
+        }
+        try {
+            Map<String, CacheService.Versioned> cacheEntries = new LinkedHashMap<>();
+            entries.forEach((key, value) ->
+                    cacheEntries.put(toCacheKey(cacheGroup, key), new CacheService.Versioned(value, version.applyAsLong(value))));
+            cacheService.putAllIfNewer(cacheEntries);
+        } catch (Exception e) {
+            log.error(" cache putAllIfNewer error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "putAllIfNewer");
+        }
+    }
+
+    public void evictAll(CacheGroup cacheGroup, Collection<String> keys) {
+        try {
+            cacheService.evictAll(keys.stream().map(key -> toCacheKey(cacheGroup, key)).toList());
+        } catch (Exception e) {
+            log.error(" cache evictAll error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "evictAll");
         }
     }
 
@@ -77,6 +681,7 @@ public class MyCacheService {
             cacheService.clearAll();
         } catch (Exception e) {
             log.error(" cache clearAll error : {}", e.getMessage());
+            recordError(CacheMetrics.GROUP_ALL, "clearAll");
         }
     }
 
@@ -86,6 +691,7 @@ public class MyCacheService {
             cacheService.clearByCacheGroup(cacheGroup.name());
         } catch (Exception e) {
             log.error(" cache clearCacheName error : {}", e.getMessage());
+            recordError(cacheGroup.name(), "clearByCacheGroup");
         }
     }
 
@@ -97,18 +703,96 @@ public class MyCacheService {
      *       Cache Name : code
      *       KEY: 부모의 코드값
      *       VALUE: Code 모델 (최하위 요소까지 포함)
+     *
+     * 전체 코드를 한 번의 쿼리로 조회하여 트리를 구성하고, 배치 단위로 병렬 저장한다.
+     *
+     * @param holder 적재 권한 보유 여부 (권한을 잃으면 남은 배치는 저장하지 않음)
+     * @return 저장 건수
      */
-    private void loadCodeCacheData() {
-        // 최상위 부모 조회
-        List<Code> parent = codeRepositoryPort.findByParentCodeId(null);
-        for (Code code : parent) {
-            if(this.get(CacheGroup.CODE, code.getCode(), Code.class) == null)
-            {
-                // 최하위 까지 조회
-                Code nodes = codeRepositoryPort.findAllLeafNodes(code.getId());
-                this.put(CacheGroup.CODE, code.getCode(), nodes);
-            }
+    private int loadCodeCacheData(BooleanSupplier holder) {
+        // 전체 트리 조회 (단일 스트리밍 쿼리)
+        List<Code> roots = readOnlyTransaction().execute(status -> codeRepositoryPort.findAllTrees());
+        if (roots == null || roots.isEmpty()) {
+            return 0;
+        }
+
+        // 같은 버전이 이미 적재된 키는 제외 (다건 조회, 스냅샷에서 복원된 이전 버전은 다시 저장)
+        Map<String, Code> cached = this.getAll(CacheGroup.CODE, roots.stream().map(Code::getCode).toList(), Code.class);
+        List<Code> missing = roots.stream()
+                .filter(root -> !cached.containsKey(root.getCode()) || cached.get(root.getCode()).treeVersion() < root.treeVersion())
+                .toList();
+
+        // 배치 단위 병렬 저장
+        CacheProperties.Warmup warmup = cacheProperties.getWarmup();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, warmup.getParallelism()));
+        try {
+            CompletableFuture<?>[] futures = Lists.partition(missing, Math.max(1, warmup.getBatchSize())).stream()
+                    .map(batch -> CompletableFuture.runAsync(() -> {
+                        if (!holder.getAsBoolean()) {
+                            log.warn("캐시 적재 권한을 잃어 저장 중단 [{}]", CacheGroup.CODE);
+                            return;
+                        }
+                        Map<String, Code> entries = new LinkedHashMap<>();
+                        batch.forEach(root -> entries.put(root.getCode(), root));
+                        // 다건 저장 (그 사이 수정되어 저장된 트리는 덮어쓰지 않음)
+                        this.putAllIfNewer(CacheGroup.CODE, entries);
+                    }, executor))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdown();
         }
+        return missing.size();
+    }
+
+    /**
+     * backend, 캐시그룹별 캐시 통계
+     */
+    public List<CacheStats> stats() {
+        return cacheMetrics.snapshot();
+    }
+
+    /**
+     * 직전 집계 주기의 hot key (redis 모드, 미사용 시 빈 목록)
+     */
+    public List<HotKeyDetector.HotKey> hotKeys() {
+        return cacheService instanceof HotKeyCacheService hotKeyCacheService ? hotKeyCacheService.hotKeys() : List.of();
+    }
+
+    /**
+     * 직전 코드 캐시 정합성 검증 결과 (미사용 또는 검증 전에는 null)
+     */
+    public CacheConsistencyVerifier.Report verifierReport() {
+        return codeVerifier == null ? null : codeVerifier.lastReport();
+    }
+
+    private TransactionTemplate readOnlyTransaction() {
+        TransactionTemplate readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+        return readOnlyTx;
+    }
+
+    private TransactionTemplate newReadOnlyTransaction() {
+        TransactionTemplate readOnlyTx = readOnlyTransaction();
+        readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return readOnlyTx;
+    }
+
+    /**
+     * 진행 중인 트랜잭션과 그 동기화를 일시 중단하고 트랜잭션 없이 실행 (범위 종료 시 등록된 동기화 실행)
+     */
+    private TransactionTemplate withoutTransaction() {
+        TransactionTemplate noTx = new TransactionTemplate(transactionManager);
+        noTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_NOT_SUPPORTED);
+        return noTx;
+    }
+
+    private void recordError(String cacheGroupName, String operation) {
+        cacheMetrics.recordError(cacheProperties.getType(), cacheGroupName, operation);
+    }
+
+    private String toCacheKey(CacheGroup cacheGroup, String key) {
+        return cacheGroup.name() + DELIMITER + key;
     }
 
 }
@@ -0,0 +1,42 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AsyncCacheServiceTest {
+
+    @Test
+    void testCompletedAdapter() {
+        AsyncCacheService asyncCacheService = AsyncCacheService.of(new CaffeineCacheService());
+
+        CompletableFuture<Void> put = asyncCacheService.putAsync("CODE:A", "valueA");
+        assertTrue(put.isDone()); // 메모리 캐시는 호출 스레드에서 완료
+
+        assertEquals("valueA", asyncCacheService.getAsync("CODE:A", String.class).join());
+        assertEquals(Map.of("CODE:A", "valueA"),
+                asyncCacheService.getAllAsync(List.of("CODE:A", "CODE:B"), String.class).join());
+
+        asyncCacheService.evictAsync("CODE:A").join();
+        assertNull(asyncCacheService.getAsync("CODE:A", String.class).join());
+    }
+
+    @Test
+    void testFailedFuture() {
+        CaffeineCacheService failing = new CaffeineCacheService() {
+            @Override
+            public <T> T get(String key, Class<T> type) {
+                throw new IllegalStateException("down");
+            }
+        };
+
+        CompletableFuture<String> future = AsyncCacheService.of(failing).getAsync("CODE:A", String.class);
+        assertTrue(future.isCompletedExceptionally());
+        assertThrows(CompletionException.class, future::join);
+    }
+}
@@ -0,0 +1,139 @@
+package skcc.arch.app.cache;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BatchingCacheServiceTest {
+
+    private static final int THREADS = 32;
+
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final CountingCacheService delegate = new CountingCacheService();
+
+    @Test
+    void testConcurrentGetsAreBatched() throws Exception {
+        BatchingCacheService cacheService = new BatchingCacheService(delegate, batching(Duration.ofMillis(50), 1_000), cacheMetrics);
+        for (int i = 0; i < THREADS; i++) {
+            delegate.put("CODE:" + i, "value" + i);
+        }
+
+        List<String> values = getConcurrently(cacheService, THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            assertEquals("value" + i, values.get(i));
+        }
+        assertTrue(delegate.getAllCalls.get() < THREADS / 2, "getAll 호출 : " + delegate.getAllCalls.get());
+        assertEquals(0, delegate.getCalls.get());
+        assertEquals(THREADS, (long) batchSizes().totalAmount());
+    }
+
+    @Test
+    void testDispatchWhenBatchIsFull() throws Exception {
+        // window 가 길어도 maxBatchSize 에 도달하면 즉시 조회
+        BatchingCacheService cacheService = new BatchingCacheService(delegate, batching(Duration.ofHours(1), 4), cacheMetrics);
+        delegate.put("CODE:1", "value1");
+
+        List<String> values = getConcurrently(cacheService, 4);
+
+        assertEquals("value1", values.get(1));
+        assertNull(values.get(0));
+        assertEquals(1, delegate.getAllCalls.get());
+        assertEquals(1, batchSizes().count());
+    }
+
+    @Test
+    void testRefreshGroupIsBatched() throws Exception {
+        // refresh-ahead 그룹도 일괄 조회 (재적재 판단은 delegate 의 getAll)
+        BatchingCacheService cacheService = new BatchingCacheService(delegate, batching(Duration.ofHours(1), 2), cacheMetrics);
+        cacheService.registerLoader("CODE", key -> "loaded");
+        delegate.put("CODE:1", "value1");
+
+        List<String> values = getConcurrently(cacheService, 2);
+
+        assertEquals("value1", values.get(1));
+        assertEquals(0, delegate.getCalls.get());
+        assertEquals(1, delegate.getAllCalls.get());
+    }
+
+    @Test
+    void testGetAsync() {
+        BatchingCacheService cacheService = new BatchingCacheService(delegate, batching(Duration.ofMillis(10), 1_000), cacheMetrics);
+        delegate.put("CODE:A", "valueA");
+
+        CompletableFuture<String> a = cacheService.getAsync("CODE:A", String.class);
+        CompletableFuture<String> b = cacheService.getAsync("CODE:B", String.class);
+
+        assertEquals("valueA", a.join());
+        assertNull(b.join());
+        assertEquals(1, delegate.getAllCalls.get());
+    }
+
+    private List<String> getConcurrently(BatchingCacheService cacheService, int threads) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<String>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                String key = "CODE:" + i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return cacheService.get(key, String.class);
+                }));
+            }
+            start.countDown();
+            List<String> values = new ArrayList<>();
+            for (Future<String> future : futures) {
+                values.add(future.get());
+            }
+            return values;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private CacheProperties.Batching batching(Duration window, int maxBatchSize) {
+        CacheProperties.Batching batching = new CacheProperties.Batching();
+        batching.setWindow(window);
+        batching.setMaxBatchSize(maxBatchSize);
+        return batching;
+    }
+
+    private DistributionSummary batchSizes() {
+        return cacheMetrics.getMeterRegistry().get(CacheMetrics.BATCH_SIZE).summary();
+    }
+
+    /**
+     * 단건, 다건 조회 횟수를 세는 로컬 캐시
+     */
+    private static class CountingCacheService extends CaffeineCacheService {
+
+        private final AtomicInteger getCalls = new AtomicInteger();
+        private final AtomicInteger getAllCalls = new AtomicInteger();
+
+        @Override
+        public <T> T get(String key, Class<T> type) {
+            getCalls.incrementAndGet();
+            return super.get(key, type);
+        }
+
+        @Override
+        public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+            getAllCalls.incrementAndGet();
+            return super.getAll(keys, type);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomKeyFilterTest {
+
+    @Test
+    void testAllowAllBeforeRebuild() {
+        BloomKeyFilter filter = new BloomKeyFilter(0.01);
+
+        assertFalse(filter.isReady());
+        assertTrue(filter.mightContain("UNKNOWN"));
+    }
+
+    @Test
+    void testRebuildAndPut() {
+        BloomKeyFilter filter = new BloomKeyFilter(0.01);
+        filter.rebuild(() -> List.of("A001", "A002"));
+
+        assertTrue(filter.mightContain("A001"));
+        assertTrue(filter.mightContain("A002"));
+        assertFalse(filter.mightContain("NOT_EXIST_CODE"));
+
+        filter.put("A003");
+        assertTrue(filter.mightContain("A003"));
+    }
+
+    @Test
+    void testPutDuringRebuild() {
+        BloomKeyFilter filter = new BloomKeyFilter(0.01);
+        filter.rebuild(() -> List.of("A001"));
+
+        // 키 조회 이후 추가된 키도 새 filter 에 반영
+        filter.rebuild(() -> {
+            filter.put("A002");
+            return List.of("A001");
+        });
+
+        assertTrue(filter.mightContain("A002"));
+    }
+}
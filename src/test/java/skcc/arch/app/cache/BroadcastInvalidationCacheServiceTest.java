@@ -0,0 +1,116 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import skcc.arch.app.message.MessageService;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastInvalidationCacheServiceTest {
+
+    private FakeMessageService messageService;
+    private CaffeineCacheService localA;
+    private CaffeineCacheService localB;
+    private BroadcastInvalidationCacheService nodeA;
+    private BroadcastInvalidationCacheService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        messageService = new FakeMessageService();
+        CacheProperties.Invalidation properties = new CacheProperties.Invalidation();
+        properties.setBatchInterval(Duration.ofHours(1)); // 테스트에서 직접 적용
+        localA = new CaffeineCacheService();
+        localB = new CaffeineCacheService();
+        nodeA = new BroadcastInvalidationCacheService(localA, messageService, properties, new CacheMetrics());
+        nodeB = new BroadcastInvalidationCacheService(localB, messageService, properties, new CacheMetrics());
+    }
+
+    @Test
+    void testPutInvalidatesOtherNodes() {
+        localA.put("CODE:A", "old");
+        localB.put("CODE:A", "old");
+
+        nodeA.put("CODE:A", "new");
+        assertEquals("old", nodeB.get("CODE:A", String.class)); // 적용 전
+        applyReceived();
+
+        assertEquals("new", nodeA.get("CODE:A", String.class)); // 자신이 발행한 메시지는 무시
+        assertNull(nodeB.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testBatchedInvalidations() {
+        for (int i = 0; i < 10; i++) {
+            localB.put("CODE:" + i, "v" + i);
+            localB.put("CODE_LOOKUP:" + i, "v" + i);
+        }
+
+        nodeA.evict("CODE:1");
+        nodeA.evict("CODE:1");
+        nodeA.evictAll(List.of("CODE_LOOKUP:1", "CODE_LOOKUP:2"));
+        nodeA.clearByCacheGroup("CODE");
+        applyReceived();
+
+        assertNull(nodeB.get("CODE:5", String.class));
+        assertNull(nodeB.get("CODE_LOOKUP:1", String.class));
+        assertNull(nodeB.get("CODE_LOOKUP:2", String.class));
+        assertEquals("v3", nodeB.get("CODE_LOOKUP:3", String.class));
+    }
+
+    @Test
+    void testPutAllIsNotBroadcast() {
+        localB.put("CODE:A", "valueB");
+
+        nodeA.putAll(Map.of("CODE:A", "valueA"));
+        applyReceived();
+
+        assertTrue(messageService.published.isEmpty());
+        assertEquals("valueB", nodeB.get("CODE:A", String.class));
+    }
+
+    private void applyReceived() {
+        nodeA.applyReceived();
+        nodeB.applyReceived();
+    }
+
+    /**
+     * 메모리 브로드캐스트 (발행 시 모든 구독자에게 동기 전달)
+     */
+    private static class FakeMessageService implements MessageService {
+
+        private final Map<String, List<MessageHandler>> subscribers = new ConcurrentHashMap<>();
+        private final List<String> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void publishMessage(String destination, String message) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void subscribeToMessages(String destination, MessageHandler handler) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public String pullMessage(String destination) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void broadcastMessage(String topic, String message) {
+            published.add(message);
+            subscribers.getOrDefault(topic, List.of()).forEach(handler -> handler.handleMessage(message));
+        }
+
+        @Override
+        public void subscribeToBroadcast(String topic, MessageHandler handler) {
+            subscribers.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(handler);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package skcc.arch.app.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import skcc.arch.biz.code.domain.Code;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Redis 캐시 값 코덱 비교 (기존 JSON vs Smile, LZ4 압축)
+ * 코드 트리(루트 1 - 자식 20 - 손자 20) 의 직렬화 크기와 인코딩/디코딩 시간을 측정한다.
+ */
+@Slf4j
+class CacheCodecBenchmarkTest {
+
+    private static final int CHILDREN = 20;
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 1_000;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void benchmarkCodecs() {
+        RedisSerializer<Object> jsonSerializer = (RedisSerializer<Object>) new CacheConfig()
+                .getRedisTemplate(new LettuceConnectionFactory()).getValueSerializer();
+        CacheValueCodec valueCodec = CacheValueCodec.defaults(jsonSerializer);
+        Code tree = codeTree();
+
+        Result json = measure("json (기존)", valueCodec, tree, JsonCacheCodec.NAME, 0);
+        Result jsonLz4 = measure("json + lz4", valueCodec, tree, JsonCacheCodec.NAME, 1);
+        Result smile = measure("smile", valueCodec, tree, SmileCacheCodec.NAME, 0);
+        Result smileLz4 = measure("smile + lz4", valueCodec, tree, SmileCacheCodec.NAME, 1);
+
+        // 기본 코덱 + 비압축은 기존 직렬화와 동일
+        assertEquals(jsonSerializer.serialize(tree).length, json.size());
+        assertTrue(smile.size() < json.size());
+        assertTrue(jsonLz4.size() < json.size());
+        assertTrue(smileLz4.size() < json.size());
+    }
+
+    private Result measure(String label, CacheValueCodec valueCodec, Code tree, String codec, long compressionThreshold) {
+        byte[] encoded = valueCodec.encode(tree, codec, compressionThreshold);
+        Code decoded = (Code) valueCodec.decode(encoded);
+        assertEquals(tree.getCode(), decoded.getCode());
+        assertEquals(CHILDREN, decoded.getChild().size());
+        assertEquals(tree.getChild().get(3).getChild().get(5).getCodeName(),
+                decoded.getChild().get(3).getChild().get(5).getCodeName());
+
+        for (int i = 0; i < WARMUP; i++) {
+            valueCodec.decode(valueCodec.encode(tree, codec, compressionThreshold));
+        }
+        long encodeNanos = 0;
+        long decodeNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            byte[] bytes = valueCodec.encode(tree, codec, compressionThreshold);
+            long encodedAt = System.nanoTime();
+            valueCodec.decode(bytes);
+            decodeNanos += System.nanoTime() - encodedAt;
+            encodeNanos += encodedAt - start;
+        }
+
+        Result result = new Result(encoded.length, encodeNanos / ITERATIONS / 1_000, decodeNanos / ITERATIONS / 1_000);
+        log.info("{} - size: {} bytes, encode: {} us, decode: {} us", label, result.size(), result.encodeMicros(), result.decodeMicros());
+        return result;
+    }
+
+    private Code codeTree() {
+        List<Code> children = new ArrayList<>();
+        for (int i = 0; i < CHILDREN; i++) {
+            List<Code> grandChildren = new ArrayList<>();
+            for (int j = 0; j < CHILDREN; j++) {
+                grandChildren.add(code(1000L + i * CHILDREN + j, "ROOT_" + i + "_" + j, 10L + i, j, new ArrayList<>()));
+            }
+            children.add(code(10L + i, "ROOT_" + i, 1L, i, grandChildren));
+        }
+        return code(1L, "ROOT", null, 0, children);
+    }
+
+    private Code code(Long id, String code, Long parentCodeId, int seq, List<Code> child) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return Code.builder()
+                .id(id)
+                .code(code)
+                .codeName(code + " 코드명")
+                .parentCodeId(parentCodeId)
+                .child(child)
+                .seq(seq)
+                .description(code + " 설명")
+                .delYn(false)
+                .createdDate(now)
+                .lastModifiedDate(now)
+                .build();
+    }
+
+    private record Result(int size, long encodeMicros, long decodeMicros) {
+    }
+}
@@ -0,0 +1,195 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheConsistencyVerifierTest {
+
+    private final CacheMetrics cacheMetrics = new CacheMetrics();
+    private final CaffeineCacheService cacheService =
+            new CaffeineCacheService(new CacheProperties()::policyOf, cacheMetrics, Runnable::run);
+    private final MapSource source = new MapSource();
+    private CacheConsistencyVerifier<String> verifier;
+
+    @AfterEach
+    void tearDown() {
+        if (verifier != null) {
+            verifier.close();
+        }
+    }
+
+    @Test
+    void testMatchingCacheIsNotRepaired() {
+        source.put("A", "valueA", 1);
+        cacheService.put("CODE:A", "valueA");
+        verifier = verifier(1.0, 100, 1_000);
+
+        CacheConsistencyVerifier.Report report = verifier.verify();
+
+        assertEquals(1, report.checked());
+        assertEquals(0, report.drifted());
+        assertEquals(1, count(CacheMetrics.RESULT_MATCH));
+    }
+
+    @Test
+    void testDriftIsRepaired() {
+        long modified = System.currentTimeMillis() - 60_000;
+        source.put("A", "new", modified);
+        source.put("B", "valueB", modified);
+        cacheService.put("CODE:A", "old");
+        cacheService.put("CODE:B", "valueB");
+        verifier = verifier(1.0, 100, 1_000);
+
+        CacheConsistencyVerifier.Report report = verifier.verify();
+
+        assertEquals(2, report.checked());
+        assertEquals(1, report.drifted());
+        assertEquals(1, report.repaired());
+        assertEquals(List.of("A"), report.driftKeys());
+        assertTrue(report.oldestStaleAge().compareTo(Duration.ofSeconds(59)) >= 0);
+        assertEquals("new", cacheService.get("CODE:A", String.class));
+        assertEquals(1, count(CacheMetrics.RESULT_DRIFT));
+        double staleAge = cacheMetrics.getMeterRegistry().get(CacheMetrics.VERIFY_STALE_AGE).gauge().value();
+        assertTrue(staleAge >= 59, "stale age : " + staleAge);
+
+        // 교정 후 다음 검증에서는 일치
+        assertEquals(0, verifier.verify().drifted());
+        assertEquals(0, cacheMetrics.getMeterRegistry().get(CacheMetrics.VERIFY_STALE_AGE).gauge().value());
+    }
+
+    @Test
+    void testDeletedKeyIsEvicted() {
+        source.keys.add("A");
+        cacheService.put("CODE:A", "deleted");
+        verifier = verifier(1.0, 100, 1_000);
+
+        assertEquals(1, verifier.verify().drifted());
+        assertNull(cacheService.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testOnlyCachedSampleIsLoaded() {
+        for (int i = 0; i < 100; i++) {
+            source.put("K" + i, "value" + i, 1);
+            if (i % 2 == 0) {
+                cacheService.put("CODE:K" + i, "value" + i);
+            }
+        }
+        verifier = verifier(0.2, 100, 1_000);
+
+        CacheConsistencyVerifier.Report report = verifier.verify();
+
+        // 후보 100개 중 20개 표본, 캐시된 키만 원본 조회
+        assertEquals(100, report.candidates());
+        assertEquals(report.checked(), source.loads.get());
+        assertTrue(report.checked() > 0 && report.checked() <= 20, "checked : " + report.checked());
+
+        verifier.close();
+        verifier = verifier(1.0, 5, 1_000);
+        assertTrue(verifier.verify().checked() <= 5);
+    }
+
+    @Test
+    void testDbQueriesAreRateLimited() {
+        for (int i = 0; i < 10; i++) {
+            source.put("K" + i, "value" + i, 1);
+            cacheService.put("CODE:K" + i, "value" + i);
+        }
+        verifier = verifier(1.0, 100, 10);
+
+        long started = System.nanoTime();
+        assertEquals(10, verifier.verify().checked());
+
+        // 후보 키 수, 표본 조회 2회 + 원본 조회 10회를 초당 10회로 제한
+        assertTrue(Duration.ofNanos(System.nanoTime() - started).toMillis() >= 800);
+    }
+
+    @Test
+    void testVerifierReadsAreNotCountedAsHits() {
+        source.put("A", "valueA", 1);
+        cacheService.put("CODE:A", "valueA");
+        verifier = verifier(1.0, 100, 1_000);
+
+        assertEquals(1, verifier.verify().checked());
+        assertEquals(0, gets());
+
+        cacheService.get("CODE:A", String.class); // 일반 조회는 집계
+        assertEquals(1, gets());
+    }
+
+    private double gets() {
+        return cacheMetrics.getMeterRegistry().find(CacheMetrics.GETS).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+
+    private CacheConsistencyVerifier<String> verifier(double sampleRate, int maxSamplesPerRun, double maxDbQueriesPerSecond) {
+        CacheProperties.Verifier properties = new CacheProperties.Verifier();
+        properties.setInterval(Duration.ofHours(1)); // 테스트에서 직접 실행
+        properties.setSampleRate(sampleRate);
+        properties.setMaxSamplesPerRun(maxSamplesPerRun);
+        properties.setMaxDbQueriesPerSecond(maxDbQueriesPerSecond);
+        return new CacheConsistencyVerifier<>(cacheService, "CODE", String.class, source, properties, cacheMetrics);
+    }
+
+    private double count(String result) {
+        return cacheMetrics.getMeterRegistry().get(CacheMetrics.VERIFY).tag(CacheMetrics.TAG_RESULT, result).counter().count();
+    }
+
+    private static class MapSource implements CacheConsistencyVerifier.Source<String> {
+
+        private final List<String> keys = new ArrayList<>();
+        private final Map<String, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Long> modifiedAts = new ConcurrentHashMap<>(); // 값별 수정 시각 (버전으로도 사용)
+        private final AtomicInteger loads = new AtomicInteger();
+
+        void put(String key, String value, long modifiedAt) {
+            keys.add(key);
+            values.put(key, value);
+            modifiedAts.put(value, modifiedAt);
+        }
+
+        @Override
+        public long count() {
+            return keys.size();
+        }
+
+        @Override
+        public List<String> sampleKeys(int limit) {
+            List<String> shuffled = new ArrayList<>(keys);
+            Collections.shuffle(shuffled);
+            return shuffled.subList(0, Math.min(limit, shuffled.size()));
+        }
+
+        @Override
+        public String load(String key) {
+            loads.incrementAndGet();
+            return values.get(key);
+        }
+
+        @Override
+        public long contentHash(String value) {
+            return value.hashCode();
+        }
+
+        @Override
+        public long version(String value) {
+            return modifiedAts.getOrDefault(value, 0L);
+        }
+
+        @Override
+        public long modifiedAt(String value) {
+            return modifiedAts.getOrDefault(value, 0L);
+        }
+    }
+}
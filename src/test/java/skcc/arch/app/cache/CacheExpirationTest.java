@@ -0,0 +1,78 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheExpirationTest {
+
+    @Test
+    void testJitterSpreadsTtl() {
+        Duration ttl = Duration.ofMinutes(10);
+        Set<Long> seconds = new HashSet<>();
+        for (int i = 0; i < 1_000; i++) {
+            Duration jittered = CacheExpiration.jitter(ttl, 0.1);
+            assertTrue(jittered.compareTo(ttl) <= 0);
+            assertTrue(jittered.compareTo(Duration.ofMinutes(9)) >= 0);
+            seconds.add(jittered.toSeconds());
+        }
+        assertTrue(seconds.size() > 30); // 같은 시각에 저장해도 만료 시각이 분산됨
+        assertEquals(ttl, CacheExpiration.jitter(ttl, 0));
+    }
+
+    @Test
+    void testRecomputeEarlyNearExpiry() {
+        long delta = TimeUnit.MILLISECONDS.toNanos(100);
+
+        // 남은 TTL 이 재계산 비용보다 훨씬 길면 조기 만료하지 않음
+        assertEquals(0, countEarly(TimeUnit.MINUTES.toNanos(5), delta, 1.0));
+        // 남은 TTL 이 짧을수록 조기 만료 확률 증가 (전체 요청이 아닌 일부만 재계산)
+        int far = countEarly(TimeUnit.MILLISECONDS.toNanos(300), delta, 1.0);
+        int near = countEarly(TimeUnit.MILLISECONDS.toNanos(20), delta, 1.0);
+        assertTrue(far > 0 && far < near);
+        assertTrue(near < 10_000);
+        // 재계산 비용을 모르거나 beta 0 이면 미사용
+        assertEquals(0, countEarly(1, 0, 1.0));
+        assertEquals(0, countEarly(1, delta, 0));
+    }
+
+    @Test
+    void testCaffeineEarlyExpiration() {
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        CacheProperties.GroupPolicy policy = new CacheProperties.GroupPolicy();
+        policy.setTtl(Duration.ofSeconds(1));
+        policy.setEarlyExpirationBeta(1.0);
+        CaffeineCacheService cacheService = new CaffeineCacheService(group -> policy, cacheMetrics, Runnable::run);
+        cacheService.put("CODE:A", "valueA");
+
+        // 재계산 비용 관측 전에는 항상 hit
+        for (int i = 0; i < 100; i++) {
+            assertEquals("valueA", cacheService.get("CODE:A", String.class));
+        }
+
+        // 재계산 비용이 남은 TTL 보다 훨씬 크면 만료 전에 미스로 처리
+        cacheMetrics.recordRecomputeCost("CODE", TimeUnit.SECONDS.toNanos(60));
+        int misses = 0;
+        for (int i = 0; i < 100; i++) {
+            if (cacheService.get("CODE:A", String.class) == null) {
+                misses++;
+            }
+        }
+        assertTrue(misses > 90);
+    }
+
+    private int countEarly(long remainingNanos, long deltaNanos, double beta) {
+        int count = 0;
+        for (int i = 0; i < 10_000; i++) {
+            if (CacheExpiration.shouldRecomputeEarly(remainingNanos, deltaNanos, beta)) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,92 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheServiceCacheManagerTest {
+
+    private CaffeineCacheService cacheService;
+    private CacheServiceCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new CaffeineCacheService();
+        cacheManager = new CacheServiceCacheManager(cacheService);
+    }
+
+    @Test
+    void testSameKeyAsCacheService() {
+        Cache cache = cacheManager.getCache("code");
+        cache.put("A", "valueA");
+
+        // MyCacheService 와 같은 키 ({캐시그룹명}:{key})
+        assertEquals("CODE", cache.getName());
+        assertSame(cache, cacheManager.getCache("CODE"));
+        assertEquals("valueA", cacheService.get("CODE:A", String.class));
+
+        cache.evict("A");
+        assertNull(cache.get("A"));
+    }
+
+    @Test
+    void testNullValueAndClear() {
+        Cache cache = cacheManager.getCache("CODE");
+        cache.put("NONE", null);
+
+        Cache.ValueWrapper cached = cache.get("NONE");
+        assertNotNull(cached);
+        assertNull(cached.get());
+
+        cache.clear();
+        assertNull(cache.get("NONE"));
+    }
+
+    @Test
+    void testSyncLoading() throws InterruptedException {
+        Cache cache = cacheManager.getCache("CODE");
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                cache.get("A", () -> {
+                    loads.incrementAndGet();
+                    Thread.sleep(50);
+                    return "loaded";
+                });
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(1, loads.get()); // 동시 호출은 한 번만 로딩
+        assertEquals("loaded", cache.get("A", String.class));
+    }
+
+    @Test
+    void testRetrieve() {
+        Cache cache = cacheManager.getCache("CODE");
+        assertNull(cache.retrieve("A").join());
+
+        assertEquals("loaded", cache.retrieve("A", () -> CompletableFuture.completedFuture("loaded")).join());
+        assertEquals("loaded", ((Cache.ValueWrapper) cache.retrieve("A").join()).get());
+    }
+}
@@ -0,0 +1,116 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import skcc.arch.biz.code.domain.Code;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private CacheProperties cacheProperties;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties = new CacheProperties();
+        cacheProperties.getSnapshot().setPath(tempDir.resolve("caffeine.snapshot"));
+        cacheProperties.getDefaults().setCodec(SmileCacheCodec.NAME);
+    }
+
+    @Test
+    void testSaveAndRestore() throws Exception {
+        CaffeineCacheService before = newCacheService();
+        before.put("CODE:ROOT", code("ROOT"));
+        before.put("CODE:SHORT", code("SHORT"), Duration.ofMillis(1));
+        before.put("OTHER:A", "value");
+        Thread.sleep(5);
+        assertEquals(2, newSnapshotService(before).save()); // 만료된 엔트리 제외
+
+        CaffeineCacheService after = newCacheService();
+        CacheSnapshotService snapshotService = newSnapshotService(after);
+        Map<String, Integer> restored = snapshotService.restore();
+
+        assertEquals(1, restored.get("CODE"));
+        assertTrue(snapshotService.isRestored("CODE"));
+        assertTrue(snapshotService.isRestored("OTHER"));
+        assertEquals(Set.of("CODE:ROOT"), snapshotService.restoredKeys("CODE"));
+        assertEquals("ROOT", after.get("CODE:ROOT", Code.class).getCode());
+        assertNull(after.get("CODE:SHORT", Code.class));
+        Duration remaining = after.entries("CODE").get(0).remainingTtl();
+        assertTrue(remaining.compareTo(Duration.ofMinutes(10)) <= 0 && remaining.compareTo(Duration.ofMinutes(9)) > 0);
+    }
+
+    @Test
+    void testPartiallyRestoredGroup() throws Exception {
+        CaffeineCacheService before = newCacheService();
+        before.put("CODE:ROOT", code("ROOT"));
+        before.put("CODE:SHORT", code("SHORT"), Duration.ofMillis(50));
+        assertEquals(2, newSnapshotService(before).save());
+        Thread.sleep(60); // 복원 전 만료
+
+        CacheSnapshotService snapshotService = newSnapshotService(newCacheService());
+        assertEquals(1, snapshotService.restore().get("CODE"));
+        assertFalse(snapshotService.isRestored("CODE")); // 일부만 복원 - 초기 적재 대상
+        assertTrue(snapshotService.restoredKeys("CODE").isEmpty());
+    }
+
+    @Test
+    void testCorruptedSnapshot() throws IOException {
+        CaffeineCacheService before = newCacheService();
+        before.put("CODE:ROOT", code("ROOT"));
+        newSnapshotService(before).save();
+
+        Path path = cacheProperties.getSnapshot().getPath();
+        byte[] bytes = Files.readAllBytes(path);
+        bytes[bytes.length / 2] ^= 0x7F;
+        Files.write(path, bytes);
+
+        CacheSnapshotService snapshotService = newSnapshotService(newCacheService());
+        assertTrue(snapshotService.restore().isEmpty());
+        assertFalse(snapshotService.isRestored("CODE"));
+    }
+
+    @Test
+    void testStaleSnapshot() throws Exception {
+        CaffeineCacheService before = newCacheService();
+        before.put("CODE:ROOT", code("ROOT"));
+        newSnapshotService(before).save();
+
+        cacheProperties.getSnapshot().setMaxAge(Duration.ZERO);
+        Thread.sleep(5);
+        assertTrue(newSnapshotService(newCacheService()).restore().isEmpty());
+    }
+
+    private CaffeineCacheService newCacheService() {
+        return new CaffeineCacheService(cacheProperties::policyOf, new CacheMetrics(), Runnable::run);
+    }
+
+    private CacheSnapshotService newSnapshotService(CaffeineCacheService cacheService) {
+        return new CacheSnapshotService(cacheService,
+                CacheValueCodec.defaults(new GenericJackson2JsonRedisSerializer()), cacheProperties);
+    }
+
+    private Code code(String code) {
+        return Code.builder()
+                .id(1L)
+                .code(code)
+                .codeName(code + " 코드명")
+                .child(new ArrayList<>())
+                .seq(0)
+                .delYn(false)
+                .build();
+    }
+}
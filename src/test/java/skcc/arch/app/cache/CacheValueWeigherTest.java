@@ -0,0 +1,95 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import skcc.arch.biz.code.domain.Code;
+import skcc.arch.biz.code.domain.CodeSizeEstimator;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CacheValueWeigherTest {
+
+    private final CacheValueWeigher weigher = new CacheValueWeigher().register(Code.class, CodeSizeEstimator::estimate);
+
+    @Test
+    void testGenericEstimate() {
+        assertTrue(weigher.estimate("a".repeat(1_000)) > weigher.estimate("a"));
+        assertTrue(weigher.estimate(List.of("a", "b", "c")) > weigher.estimate(List.of("a")));
+        assertTrue(weigher.estimate(Map.of("k", new byte[10_000])) > 10_000);
+        assertEquals(0, weigher.estimate(null));
+    }
+
+    @Test
+    void testCodeTreeEstimate() {
+        Code leaf = code(1L, "LEAF", new ArrayList<>());
+        Code tree = codeTree(50);
+
+        long treeSize = CodeSizeEstimator.estimate(tree);
+        assertTrue(treeSize > CodeSizeEstimator.estimate(leaf) * 50 * 50);
+        // 구조 기반 추정과 reflection 기반 추정이 크게 다르지 않음
+        long reflected = new CacheValueWeigher().estimate(tree);
+        assertTrue(treeSize > reflected / 2 && treeSize < reflected * 2, treeSize + " / " + reflected);
+    }
+
+    @Test
+    void testMaximumWeightEviction() throws InterruptedException {
+        CacheProperties.GroupPolicy policy = new CacheProperties.GroupPolicy();
+        policy.setMaximumWeight(DataSize.ofKilobytes(512));
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        CaffeineCacheService cacheService = new CaffeineCacheService(group -> policy, cacheMetrics, Runnable::run, null, weigher);
+
+        // 작은 값은 maximumSize(500) 와 무관하게 예산 내에서 보관
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            keys.add("CODE_LOOKUP:" + i);
+            cacheService.put("CODE_LOOKUP:" + i, "v" + i);
+        }
+        assertEquals(1_000, cacheService.getAll(keys, String.class).size());
+
+        cacheService.put("CODE:BIG", codeTree(20));
+        cacheService.put("CODE:SMALL", code(1L, "SMALL", new ArrayList<>()));
+        long weightedSize = cacheService.weightedSize("CODE");
+        assertTrue(weightedSize > DataSize.ofKilobytes(64).toBytes() && weightedSize <= DataSize.ofKilobytes(512).toBytes());
+        assertNotNull(cacheService.get("CODE:BIG", Code.class));
+
+        // 예산보다 큰 트리는 보관되지 않음 (제거는 Caffeine 정리 작업에서 비동기로 수행)
+        cacheService.put("CODE:HUGE", codeTree(60));
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (cacheService.get("CODE:HUGE", Code.class) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(cacheService.get("CODE:HUGE", Code.class));
+        assertTrue(cacheService.weightedSize("CODE") <= DataSize.ofKilobytes(512).toBytes());
+        assertTrue(cacheMetrics.snapshot().stream().anyMatch(stats -> "CODE".equals(stats.getGroup()) && stats.getWeightedSize() != null));
+    }
+
+    private Code codeTree(int children) {
+        List<Code> child = new ArrayList<>();
+        for (int i = 0; i < children; i++) {
+            List<Code> grandChild = new ArrayList<>();
+            for (int j = 0; j < children; j++) {
+                grandChild.add(code(1000L + i * children + j, "ROOT_" + i + "_" + j, new ArrayList<>()));
+            }
+            child.add(code(10L + i, "ROOT_" + i, grandChild));
+        }
+        return code(1L, "ROOT", child);
+    }
+
+    private Code code(Long id, String code, List<Code> child) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 0, 0);
+        return Code.builder()
+                .id(id)
+                .code(code)
+                .codeName(code + " 코드명")
+                .child(child)
+                .description(code + " 설명")
+                .createdDate(now)
+                .lastModifiedDate(now)
+                .build();
+    }
+}
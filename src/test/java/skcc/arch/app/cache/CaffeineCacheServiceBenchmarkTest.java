@@ -0,0 +1,84 @@
+package skcc.arch.app.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * clearByCacheGroup 성능 비교 (기존 전체 키 스캔 vs 캐시그룹별 인스턴스)
+ * 큰 캐시에서 작은 그룹 하나를 반복적으로 비우는 상황을 측정한다. (기본 test 에서 제외, ./gradlew benchmark 로 실행)
+ */
+@Slf4j
+@Tag("benchmark")
+class CaffeineCacheServiceBenchmarkTest {
+
+    private static final int TOTAL_ENTRIES = 100_000;
+    private static final int GROUP_ENTRIES = 100;
+    private static final int ITERATIONS = 50;
+
+    @Test
+    void benchmarkClearByCacheGroup() {
+        // 기존 방식
+        Cache<String, Object> legacyCache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .maximumSize(TOTAL_ENTRIES * 2)
+                .build();
+        fillOtherGroups(legacyCache::put);
+        long legacyNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            fillTargetGroup(legacyCache::put);
+            long start = System.nanoTime();
+            legacyClearByCacheGroup(legacyCache, "CODE");
+            legacyNanos += System.nanoTime() - start;
+        }
+        assertNull(legacyCache.getIfPresent("CODE:0"));
+
+        // 캐시그룹별 인스턴스
+        CaffeineCacheService cacheService = new CaffeineCacheService(TOTAL_ENTRIES * 2, Duration.ofMinutes(10));
+        fillOtherGroups(cacheService::put);
+        long groupNanos = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            fillTargetGroup(cacheService::put);
+            long start = System.nanoTime();
+            cacheService.clearByCacheGroup("CODE");
+            groupNanos += System.nanoTime() - start;
+        }
+        assertNull(cacheService.get("CODE:0", Object.class));
+
+        log.info("clearByCacheGroup 평균 (전체 {}건 중 {}건) - legacy: {} us, per-group: {} us",
+                TOTAL_ENTRIES, GROUP_ENTRIES,
+                legacyNanos / ITERATIONS / 1_000, groupNanos / ITERATIONS / 1_000);
+    }
+
+    // 변경 전 CaffeineCacheService.clearByCacheGroup 로직
+    private void legacyClearByCacheGroup(Cache<String, Object> cache, String cacheGroupName) {
+        cache.getAllPresent(cache.asMap().keySet()).keySet().forEach(key -> {
+            if (key.startsWith(cacheGroupName)) {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    private void fillOtherGroups(Putter putter) {
+        for (int i = 0; i < TOTAL_ENTRIES; i++) {
+            putter.put("OTHER" + (i % 10) + ":" + i, i);
+        }
+    }
+
+    private void fillTargetGroup(Putter putter) {
+        for (int i = 0; i < GROUP_ENTRIES; i++) {
+            putter.put("CODE:" + i, i);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Putter {
+        void put(String key, Object value);
+    }
+}
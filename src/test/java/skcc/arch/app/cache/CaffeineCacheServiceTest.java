@@ -0,0 +1,194 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CaffeineCacheServiceTest {
+
+    private CaffeineCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new CaffeineCacheService();
+    }
+
+    @Test
+    void testPutAndGet() {
+        cacheService.put("CODE:A", "valueA");
+
+        assertEquals("valueA", cacheService.get("CODE:A", String.class));
+        assertNull(cacheService.get("CODE:B", String.class));
+    }
+
+    @Test
+    void testEvict() {
+        cacheService.put("CODE:A", "valueA");
+
+        cacheService.evict("CODE:A");
+
+        assertNull(cacheService.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testClearByCacheGroup() {
+        cacheService.put("CODE:A", "valueA");
+        cacheService.put("CODE:B", "valueB");
+        cacheService.put("CODE2:A", "otherGroup");
+
+        cacheService.clearByCacheGroup("CODE");
+
+        assertNull(cacheService.get("CODE:A", String.class));
+        assertNull(cacheService.get("CODE:B", String.class));
+        assertEquals("otherGroup", cacheService.get("CODE2:A", String.class));
+    }
+
+    @Test
+    void testClearByCacheGroupAfterReput() {
+        cacheService.put("CODE:A", "valueA");
+        cacheService.evict("CODE:A");
+        cacheService.put("CODE:A", "valueA2");
+
+        cacheService.clearByCacheGroup("CODE");
+
+        assertNull(cacheService.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testClearAll() {
+        cacheService.put("CODE:A", "valueA");
+        cacheService.put("CODE2:A", "valueB");
+
+        cacheService.clearAll();
+
+        assertNull(cacheService.get("CODE:A", String.class));
+        assertNull(cacheService.get("CODE2:A", String.class));
+    }
+
+    @Test
+    void testBulkOperations() {
+        cacheService.putAll(Map.of("CODE:A", "valueA", "CODE:B", "valueB"));
+
+        Map<String, String> result = cacheService.getAll(List.of("CODE:A", "CODE:B", "CODE:C"), String.class);
+        assertEquals(2, result.size());
+        assertEquals("valueA", result.get("CODE:A"));
+
+        cacheService.evictAll(List.of("CODE:A"));
+        assertNull(cacheService.get("CODE:A", String.class));
+
+        cacheService.clearByCacheGroup("CODE");
+        assertNull(cacheService.get("CODE:B", String.class));
+    }
+
+    @Test
+    void testMetrics() {
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        CaffeineCacheService service = new CaffeineCacheService(group -> new CacheProperties.GroupPolicy(), cacheMetrics, Runnable::run);
+
+        service.put("CODE:A", "valueA");
+        service.get("CODE:A", String.class);
+        service.get("CODE:B", String.class);
+        service.evict("CODE:A");
+
+        CacheStats stats = cacheMetrics.snapshot().stream()
+                .filter(s -> s.getGroup().equals("CODE"))
+                .findFirst()
+                .orElseThrow();
+        assertEquals(CaffeineCacheService.BACKEND, stats.getBackend());
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(1, stats.getPuts());
+        assertEquals(1L, stats.getEvictions().get(CacheMetrics.CAUSE_EXPLICIT));
+        assertEquals(0L, stats.getSize());
+        assertEquals(0.5, stats.getHitRatio());
+    }
+
+    @Test
+    void testSizeGaugeRegisteredOnce() {
+        CacheMetrics cacheMetrics = new CacheMetrics();
+        CaffeineCacheService service = new CaffeineCacheService(group -> new CacheProperties.GroupPolicy(), cacheMetrics, Runnable::run);
+
+        service.put("CODE:A", "valueA");
+        service.registerLoader("CODE", key -> "reloaded");
+        service.put("CODE:B", "valueB");
+
+        assertEquals(1, cacheMetrics.getMeterRegistry().find(CacheMetrics.SIZE).tag(CacheMetrics.TAG_GROUP, "CODE").gauges().size());
+        assertEquals(2.0, cacheMetrics.getMeterRegistry().get(CacheMetrics.SIZE).tag(CacheMetrics.TAG_GROUP, "CODE").gauge().value());
+    }
+
+    @Test
+    void testRegisterLoaderKeepsConcurrentWrites() throws InterruptedException {
+        CacheProperties.GroupPolicy policy = new CacheProperties.GroupPolicy();
+        policy.setRefreshAfterWrite(Duration.ofMinutes(1));
+        policy.setMaximumSize(10_000);
+        CaffeineCacheService service = new CaffeineCacheService(group -> policy, new CacheMetrics(), Runnable::run);
+        service.put("CODE:A", "old");
+
+        // loader 등록 중 저장, 삭제가 유실되거나 이전 값으로 되돌아가지 않음
+        Thread writer = new Thread(() -> {
+            for (int i = 0; i < 1_000; i++) {
+                service.put("CODE:B" + i, "value" + i);
+                service.evict("CODE:A");
+            }
+        });
+        writer.start();
+        for (int i = 0; i < 100; i++) {
+            service.registerLoader("CODE", key -> "reloaded");
+        }
+        writer.join();
+
+        assertNull(service.get("CODE:A", String.class));
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals("value" + i, service.get("CODE:B" + i, String.class));
+        }
+    }
+
+    @Test
+    void testPutIfNewer() {
+        assertTrue(cacheService.putIfNewer("CODE:A", "v2", 2));
+        assertFalse(cacheService.putIfNewer("CODE:A", "v1", 1)); // 이전 버전은 저장하지 않음
+        assertFalse(cacheService.putIfNewer("CODE:A", "v2-dup", 2));
+        assertEquals("v2", cacheService.get("CODE:A", String.class));
+        assertEquals(Map.of("CODE:A", "v2"), cacheService.getAll(List.of("CODE:A"), String.class));
+
+        assertTrue(cacheService.putIfNewer("CODE:A", "v3", 3));
+        assertEquals("v3", cacheService.get("CODE:A", String.class));
+
+        // put 으로 저장한 값(버전 없음)은 항상 덮어씀
+        cacheService.put("CODE:A", "plain");
+        assertTrue(cacheService.putIfNewer("CODE:A", "v1", 1));
+    }
+
+    @Test
+    void testPutAllIfNewer() {
+        cacheService.putIfNewer("CODE:A", "a2", 2);
+        cacheService.putAllIfNewer(Map.of(
+                "CODE:A", new CacheService.Versioned("a1", 1),
+                "CODE:B", new CacheService.Versioned("b1", 1)));
+
+        assertEquals("a2", cacheService.get("CODE:A", String.class)); // 더 새 버전 유지
+        assertEquals("b1", cacheService.get("CODE:B", String.class));
+    }
+
+    @Test
+    void testPutIfNewerConcurrently() throws InterruptedException {
+        int writers = 16;
+        Thread[] threads = new Thread[writers];
+        for (int i = 0; i < writers; i++) {
+            int version = i;
+            threads[i] = new Thread(() -> cacheService.putIfNewer("CODE:A", "v" + version, version));
+        }
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals("v" + (writers - 1), cacheService.get("CODE:A", String.class));
+    }
+}
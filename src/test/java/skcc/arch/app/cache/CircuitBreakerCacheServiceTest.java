@@ -0,0 +1,86 @@
+package skcc.arch.app.cache;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CircuitBreakerCacheServiceTest {
+
+    private final AtomicBoolean down = new AtomicBoolean();
+    private final AtomicInteger remoteCalls = new AtomicInteger();
+    private CaffeineCacheService remote;
+    private CircuitBreakerCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        // 장애 상황을 흉내내는 원격 캐시
+        remote = new CaffeineCacheService() {
+            @Override
+            public <T> T get(String key, Class<T> type) {
+                remoteCalls.incrementAndGet();
+                if (down.get()) {
+                    throw new IllegalStateException("redis down");
+                }
+                return super.get(key, type);
+            }
+
+            @Override
+            public void put(String key, Object value) {
+                remoteCalls.incrementAndGet();
+                if (down.get()) {
+                    throw new IllegalStateException("redis down");
+                }
+                super.put(key, value);
+            }
+        };
+
+        CacheProperties.CircuitBreaker properties = new CacheProperties.CircuitBreaker();
+        properties.setSlidingWindowSize(2);
+        properties.setMinimumNumberOfCalls(2);
+        properties.setWaitDurationInOpenState(Duration.ofMillis(50));
+        properties.setPermittedNumberOfCallsInHalfOpenState(1);
+        cacheService = new CircuitBreakerCacheService(remote, new CaffeineCacheService(), properties, new CacheMetrics(), "redis");
+    }
+
+    @Test
+    void testOpenAndFallback() {
+        down.set(true);
+        assertNull(cacheService.get("CODE:A", String.class)); // 실패 시 예외 대신 fallback
+        assertNull(cacheService.get("CODE:A", String.class));
+        assertEquals(CircuitBreaker.State.OPEN, cacheService.getState());
+
+        // open 동안 원격 호출 없이 fallback 사용
+        int calls = remoteCalls.get();
+        cacheService.put("CODE:A", "local");
+        assertEquals("local", cacheService.get("CODE:A", String.class));
+        assertEquals(calls, remoteCalls.get());
+        assertEquals(CacheService.LOCAL_LOCK_TOKEN, cacheService.tryLock("CODE:A", Duration.ofSeconds(1)));
+    }
+
+    @Test
+    void testRecoverEvictsKeysChangedWhileOpen() throws InterruptedException {
+        remote.put("CODE:A", "old");
+        down.set(true);
+        cacheService.get("CODE:B", String.class);
+        cacheService.get("CODE:B", String.class);
+        cacheService.put("CODE:A", "new"); // open 동안 변경
+
+        down.set(false);
+        Thread.sleep(100); // half-open 대기
+        cacheService.get("CODE:B", String.class); // 확인 호출 성공 -> closed
+        assertEquals(CircuitBreaker.State.CLOSED, cacheService.getState());
+
+        // 복구 시 open 동안 변경된 키를 원격 캐시에서 삭제 (이전 값 조회 방지)
+        long deadline = System.currentTimeMillis() + 2_000;
+        while (remote.get("CODE:A", String.class) != null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNull(cacheService.get("CODE:A", String.class));
+    }
+}
@@ -0,0 +1,52 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HotKeyCacheServiceTest {
+
+    private final AtomicReference<Runnable> duringGet = new AtomicReference<>(); // 원격 조회 중 끼어들 작업
+    private HotKeyCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.HotKey properties = new CacheProperties.HotKey();
+        properties.setSampleRate(1.0);
+        properties.setThreshold(1); // 첫 조회부터 hot key
+        CaffeineCacheService remote = new CaffeineCacheService() {
+            @Override
+            public <T> T get(String key, Class<T> type) {
+                T value = super.get(key, type);
+                Runnable action = duringGet.getAndSet(null);
+                if (action != null) {
+                    action.run();
+                }
+                return value;
+            }
+        };
+        cacheService = new HotKeyCacheService(remote, properties, new CacheMetrics());
+    }
+
+    @Test
+    void testReplicaServesHotKey() {
+        cacheService.put("CODE:A", "v1");
+        assertEquals("v1", cacheService.get("CODE:A", String.class));
+
+        cacheService.put("CODE:A", "v2"); // 이 노드의 변경은 복제본에서 즉시 제거
+        assertEquals("v2", cacheService.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testWriteDuringRemoteReadIsNotShadowedByReplica() {
+        cacheService.put("CODE:A", "v1");
+        // 원격 조회가 v1 을 읽은 직후 v2 저장
+        duringGet.set(() -> cacheService.put("CODE:A", "v2"));
+
+        assertEquals("v1", cacheService.get("CODE:A", String.class));
+        assertEquals("v2", cacheService.get("CODE:A", String.class)); // v1 이 복제되지 않음
+    }
+}
@@ -0,0 +1,74 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HotKeyDetectorTest {
+
+    @Test
+    void testDetectHotKeys() {
+        HotKeyDetector detector = new HotKeyDetector(1024, 1.0, 100, 2);
+
+        for (int i = 0; i < 1_000; i++) {
+            detector.record("CODE:HOT1");
+            if (i % 2 == 0) {
+                detector.record("CODE:HOT2");
+            }
+            detector.record("CODE:COLD" + i); // 한 번씩만 조회
+        }
+        assertTrue(detector.isHot("CODE:HOT1"));
+        assertFalse(detector.isHot("CODE:COLD1"));
+
+        detector.rotate();
+        List<HotKeyDetector.HotKey> hotKeys = detector.hotKeys();
+        assertEquals(List.of("CODE:HOT1", "CODE:HOT2"), hotKeys.stream().map(HotKeyDetector.HotKey::key).toList());
+        assertTrue(hotKeys.get(0).estimatedCount() >= 1_000); // 추정치는 실제보다 크거나 같음
+        assertTrue(hotKeys.get(0).share() > 0.3 && hotKeys.get(0).share() < 0.5);
+    }
+
+    @Test
+    void testSteadyRateBelowThresholdIsNotHot() {
+        HotKeyDetector detector = new HotKeyDetector(1024, 1.0, 100, 2);
+
+        // window 마다 기준의 60% 로 조회 (누적되면 기준을 넘음)
+        for (int window = 0; window < 10; window++) {
+            for (int i = 0; i < 60; i++) {
+                detector.record("CODE:WARM");
+                detector.record("CODE:HOT");
+                detector.record("CODE:HOT");
+            }
+            assertFalse(detector.isHot("CODE:WARM"));
+            detector.rotate();
+        }
+
+        List<HotKeyDetector.HotKey> hotKeys = detector.hotKeys();
+        assertEquals(List.of("CODE:HOT"), hotKeys.stream().map(HotKeyDetector.HotKey::key).toList());
+        assertTrue(hotKeys.get(0).estimatedCount() < 150, "window 당 조회 수 : " + hotKeys.get(0).estimatedCount());
+        assertTrue(hotKeys.get(0).share() <= 1.0);
+    }
+
+    @Test
+    void testHotKeyReplica() {
+        CaffeineCacheService remote = new CaffeineCacheService();
+        CacheProperties.HotKey properties = new CacheProperties.HotKey();
+        properties.setSampleRate(1.0);
+        properties.setThreshold(5);
+        HotKeyCacheService cacheService = new HotKeyCacheService(remote, properties, new CacheMetrics());
+
+        cacheService.put("CODE:A", "v1");
+        for (int i = 0; i < 10; i++) {
+            assertEquals("v1", cacheService.get("CODE:A", String.class));
+        }
+
+        // 원격 캐시만 변경되면 복제본 TTL 동안 복제본 값 반환
+        remote.put("CODE:A", "v2");
+        assertEquals("v1", cacheService.get("CODE:A", String.class));
+
+        // 이 노드의 변경은 복제본에서 즉시 제거
+        cacheService.put("CODE:A", "v3");
+        assertEquals("v3", cacheService.get("CODE:A", String.class));
+    }
+}
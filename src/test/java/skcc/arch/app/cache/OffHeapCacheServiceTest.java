@@ -0,0 +1,134 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.util.unit.DataSize;
+import skcc.arch.biz.code.domain.Code;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class OffHeapCacheServiceTest {
+
+    private static final Executor DIRECT = Runnable::run;
+
+    private CacheProperties.GroupPolicy policy;
+    private OffHeapCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        policy = new CacheProperties.GroupPolicy();
+        policy.setTtl(Duration.ofMinutes(10));
+        policy.setMaximumSize(2);
+        policy.setCodec(SmileCacheCodec.NAME);
+        policy.setOffHeapMaximumSize(DataSize.ofKilobytes(64));
+        cacheService = new OffHeapCacheService(group -> policy,
+                CacheValueCodec.defaults(new GenericJackson2JsonRedisSerializer()), new CacheMetrics());
+    }
+
+    @Test
+    void testPutAndGet() {
+        Code code = code("ROOT");
+        cacheService.put("CODE:ROOT", code);
+
+        Code cached = cacheService.get("CODE:ROOT", Code.class);
+        assertEquals("ROOT", cached.getCode());
+        assertNotSame(code, cached); // 조회 시 역직렬화
+        assertTrue(cacheService.weightedSize("CODE") > 0);
+    }
+
+    @Test
+    void testEvictAndClear() {
+        cacheService.putAll(Map.of("CODE:A", code("A"), "CODE:B", code("B"), "OTHER:C", code("C")));
+
+        cacheService.evict("CODE:A");
+        assertNull(cacheService.get("CODE:A", Code.class));
+
+        cacheService.clearByCacheGroup("CODE");
+        assertNull(cacheService.get("CODE:B", Code.class));
+        assertNotNull(cacheService.get("OTHER:C", Code.class));
+    }
+
+    @Test
+    void testMemoryBudget() {
+        policy.setOffHeapMaximumSize(DataSize.ofKilobytes(4));
+        for (int i = 0; i < 100; i++) {
+            cacheService.put("CODE:" + i, code("CODE_" + i));
+        }
+        assertTrue(cacheService.weightedSize("CODE") <= DataSize.ofKilobytes(4).toBytes());
+    }
+
+    @Test
+    void testSecondLevel() {
+        CaffeineCacheService caffeineCacheService = new CaffeineCacheService(group -> policy, new CacheMetrics(), DIRECT, cacheService);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            keys.add("CODE:" + i);
+            caffeineCacheService.put("CODE:" + i, code("CODE_" + i));
+        }
+
+        // 1차 캐시(최대 2개)에서 제거된 값도 2차 캐시에서 조회
+        Map<String, Code> cached = caffeineCacheService.getAll(keys, Code.class);
+        assertEquals(10, cached.size());
+
+        caffeineCacheService.evictAll(keys);
+        assertTrue(caffeineCacheService.getAll(keys, Code.class).isEmpty());
+    }
+
+    @Test
+    void testSecondLevelKeepsRemainingTtlAndVersion() throws InterruptedException {
+        CacheProperties.GroupPolicy firstLevel = new CacheProperties.GroupPolicy();
+        firstLevel.setMaximumSize(0); // 저장 즉시 2차 캐시로 이동
+        CaffeineCacheService caffeineCacheService = new CaffeineCacheService(group -> firstLevel, new CacheMetrics(), DIRECT, cacheService);
+        caffeineCacheService.put("CODE:A", code("A"), Duration.ofSeconds(30));
+        assertTrue(caffeineCacheService.putIfNewer("CODE:B", code("B"), 5));
+        awaitSecondLevel("CODE:A");
+        awaitSecondLevel("CODE:B");
+
+        // 2차 캐시에 있는 값보다 이전 버전은 저장하지 않음
+        assertFalse(caffeineCacheService.putIfNewer("CODE:B", code("B-old"), 4));
+        assertEquals("B", caffeineCacheService.get("CODE:B", Code.class).getCode());
+
+        // 남은 TTL(30초) 유지 (10분 TTL 로 다시 시작하지 않음)
+        OffHeapCacheService.Demoted demoted = cacheService.take("CODE:A");
+        assertTrue(demoted.remainingTtl().compareTo(Duration.ofSeconds(30)) <= 0);
+    }
+
+    @Test
+    void testTakeRemovesFromSecondLevel() {
+        cacheService.putDemoted("CODE:A", new OffHeapCacheService.Demoted(code("A"), 3, 1L, Duration.ofSeconds(5)));
+
+        OffHeapCacheService.Demoted taken = cacheService.take("CODE:A");
+        assertEquals("A", ((Code) taken.value()).getCode());
+        assertEquals(3, taken.version());
+        assertEquals(1L, taken.writtenAt());
+        assertTrue(taken.remainingTtl().compareTo(Duration.ofSeconds(5)) <= 0);
+        assertNull(cacheService.take("CODE:A"));
+        assertNull(cacheService.get("CODE:A", Code.class));
+    }
+
+    private void awaitSecondLevel(String key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000; // 1차 캐시 제거는 비동기
+        while (cacheService.get(key, Code.class) == null && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertNotNull(cacheService.get(key, Code.class));
+    }
+
+    private Code code(String code) {
+        return Code.builder()
+                .id(1L)
+                .code(code)
+                .codeName(code + " 코드명")
+                .child(new ArrayList<>())
+                .seq(0)
+                .delYn(false)
+                .build();
+    }
+}
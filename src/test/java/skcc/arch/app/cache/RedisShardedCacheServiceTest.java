@@ -0,0 +1,171 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Redis 2대(Testcontainers)를 샤드로 사용하는 RedisCacheService, ShardedCacheService 검증 (Docker 가 없으면 생략)
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RedisShardedCacheServiceTest {
+
+    private static final DockerImageName REDIS_IMAGE = DockerImageName.parse("redis:7-alpine");
+
+    @Container
+    private static final GenericContainer<?> REDIS_0 = new GenericContainer<>(REDIS_IMAGE).withExposedPorts(6379);
+    @Container
+    private static final GenericContainer<?> REDIS_1 = new GenericContainer<>(REDIS_IMAGE).withExposedPorts(6379);
+
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private final List<LettuceConnectionFactory> connectionFactories = new ArrayList<>();
+    private final Map<String, RedisCacheService> shards = new HashMap<>();
+    private ShardedCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        CacheProperties.GroupPolicy code = new CacheProperties.GroupPolicy();
+        code.setRefreshAfterWrite(Duration.ofMillis(50));
+        code.setEarlyExpirationBeta(0);
+        code.setTtlJitter(0);
+        cacheProperties.getGroups().put("CODE", code);
+
+        cacheService = new ShardedCacheService(160, Executors.newFixedThreadPool(2));
+        addShard("redis-0", REDIS_0);
+        addShard("redis-1", REDIS_1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shards.values().forEach(RedisCacheService::close);
+        connectionFactories.forEach(connectionFactory -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.serverCommands().flushAll();
+            }
+            connectionFactory.destroy();
+        });
+    }
+
+    @Test
+    void testBulkOperationsAcrossRedisShards() {
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put("CODE_LOOKUP:" + i, "value" + i);
+        }
+        cacheService.putAll(entries);
+
+        assertEquals(entries, cacheService.getAll(entries.keySet(), String.class));
+        shards.values().forEach(shard -> assertFalse(shard.getAll(entries.keySet(), String.class).isEmpty()));
+        String owner = cacheService.shardOf("CODE_LOOKUP:1");
+        assertEquals("value1", shards.get(owner).get("CODE_LOOKUP:1", String.class));
+
+        cacheService.evictAll(List.of("CODE_LOOKUP:1", "CODE_LOOKUP:2"));
+        assertEquals(98, cacheService.getAll(entries.keySet(), String.class).size());
+    }
+
+    @Test
+    void testClearByCacheGroupBumpsGenerationOnEveryShard() {
+        for (int i = 0; i < 20; i++) {
+            cacheService.put("CODE:" + i, "code" + i);
+        }
+        cacheService.put("CODE_LOOKUP:1", "lookup");
+
+        cacheService.clearByCacheGroup("CODE");
+
+        for (int i = 0; i < 20; i++) {
+            assertNull(cacheService.get("CODE:" + i, String.class));
+        }
+        assertEquals("lookup", cacheService.get("CODE_LOOKUP:1", String.class));
+        connectionFactories.forEach(connectionFactory -> assertEquals("1",
+                stringRedisTemplate(connectionFactory).opsForValue().get(RedisCacheService.GROUP_GENERATION_KEY_PREFIX + "CODE")));
+
+        // 새 세대에 저장
+        cacheService.put("CODE:1", "next");
+        assertEquals("next", cacheService.get("CODE:1", String.class));
+    }
+
+    @Test
+    void testPutIfNewer() {
+        assertTrue(cacheService.putIfNewer("CODE:A", "v5", 5));
+        assertFalse(cacheService.putIfNewer("CODE:A", "v4", 4));
+        assertFalse(cacheService.putIfNewer("CODE:A", "v5-again", 5));
+        assertEquals("v5", cacheService.get("CODE:A", String.class));
+
+        assertTrue(cacheService.putIfNewer("CODE:A", "v6", 6));
+        assertEquals("v6", cacheService.get("CODE:A", String.class));
+
+        // put 으로 저장한 값(버전 없음)은 같은 버전으로도 덮어씀
+        cacheService.put("CODE:A", "plain");
+        assertTrue(cacheService.putIfNewer("CODE:A", "v6-reloaded", 6));
+        assertEquals("v6-reloaded", cacheService.get("CODE:A", String.class));
+
+        // 그룹 삭제 후에는 새 세대이므로 이전 버전 키와 무관
+        cacheService.clearByCacheGroup("CODE");
+        assertTrue(cacheService.putIfNewer("CODE:A", "v1", 1));
+    }
+
+    @Test
+    void testGetAllRefreshesStaleKeys() throws Exception {
+        AtomicInteger loads = new AtomicInteger();
+        cacheService.registerLoader("CODE", key -> "reloaded" + loads.incrementAndGet());
+        cacheService.put("CODE:A", "stale");
+        cacheService.put("CODE:B", "stale");
+        Thread.sleep(100); // refresh-after-write 경과
+
+        Map<String, String> values = cacheService.getAll(List.of("CODE:A", "CODE:B"), String.class);
+
+        assertEquals(Map.of("CODE:A", "stale", "CODE:B", "stale"), values); // 기존 값 반환
+        assertEquals(2, loads.get()); // 키마다 재적재 (재적재 스레드풀은 호출 스레드)
+        assertTrue(cacheService.get("CODE:A", String.class).startsWith("reloaded"));
+        assertTrue(cacheService.peekAll(List.of("CODE:B"), String.class).get("CODE:B").startsWith("reloaded"));
+    }
+
+    @Test
+    void testWarmupCoordinator() {
+        LettuceConnectionFactory connectionFactory = connectionFactories.get(0);
+        RedisCacheWarmupCoordinator nodeA = new RedisCacheWarmupCoordinator(stringRedisTemplate(connectionFactory), cacheProperties);
+        RedisCacheWarmupCoordinator nodeB = new RedisCacheWarmupCoordinator(stringRedisTemplate(connectionFactory), cacheProperties);
+
+        assertEquals(10, nodeA.warmup("CODE", isHolder -> isHolder.getAsBoolean() ? 10 : 0));
+        assertEquals(0, nodeB.warmup("CODE", isHolder -> {
+            throw new AssertionError("다른 노드가 적재 완료");
+        }));
+
+        // 캐시 세대가 바뀌면 다시 적재
+        shards.get("redis-0").clearByCacheGroup("CODE");
+        assertEquals(7, nodeB.warmup("CODE", isHolder -> 7));
+    }
+
+    private void addShard(String name, GenericContainer<?> redis) {
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactories.add(connectionFactory);
+        RedisCacheService shard = new RedisCacheService(new CacheConfig().getRedisTemplate(connectionFactory), cacheProperties,
+                new CacheMetrics(), Runnable::run);
+        shards.put(name, shard);
+        cacheService.addShard(name, shard);
+    }
+
+    private static StringRedisTemplate stringRedisTemplate(LettuceConnectionFactory connectionFactory) {
+        return new StringRedisTemplate(connectionFactory);
+    }
+}
@@ -0,0 +1,198 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 로컬 캐시를 Redis 노드 대신 샤드로 사용
+ */
+class ShardedCacheServiceTest {
+
+    private static final int KEYS = 10_000;
+    private static final int SHARDS = 4;
+
+    private ShardedCacheService cacheService;
+    private final Map<String, CaffeineCacheService> shards = new LinkedHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        cacheService = new ShardedCacheService(160, Executors.newFixedThreadPool(SHARDS));
+        for (int i = 0; i < SHARDS; i++) {
+            addShard("redis-" + i);
+        }
+    }
+
+    @Test
+    void testKeysAreSpreadAcrossShards() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String key : keys()) {
+            counts.merge(cacheService.shardOf(key), 1, Integer::sum);
+        }
+
+        assertEquals(SHARDS, counts.size());
+        counts.values().forEach(count -> assertTrue(count > KEYS / SHARDS * 0.7 && count < KEYS / SHARDS * 1.3, counts.toString()));
+    }
+
+    @Test
+    void testPutAndGetRoutedToOwningShard() {
+        cacheService.put("CODE:A", "valueA");
+
+        assertEquals("valueA", cacheService.get("CODE:A", String.class));
+        assertEquals("valueA", shards.get(cacheService.shardOf("CODE:A")).get("CODE:A", String.class));
+        long holders = shards.values().stream().filter(shard -> shard.get("CODE:A", String.class) != null).count();
+        assertEquals(1, holders);
+    }
+
+    @Test
+    void testBulkOperationsAcrossShards() {
+        Map<String, String> entries = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            entries.put("CODE:" + i, "value" + i);
+        }
+        cacheService.putAll(entries);
+
+        assertEquals(entries, cacheService.getAll(entries.keySet(), String.class));
+        shards.values().forEach(shard -> assertFalse(shard.getAll(entries.keySet(), String.class).isEmpty()));
+
+        cacheService.evictAll(List.of("CODE:1", "CODE:2"));
+        assertEquals(98, cacheService.getAll(entries.keySet(), String.class).size());
+
+        cacheService.put("CODE_LOOKUP:1", "lookup");
+        cacheService.clearByCacheGroup("CODE");
+        assertTrue(cacheService.getAll(entries.keySet(), String.class).isEmpty());
+        assertEquals("lookup", cacheService.get("CODE_LOOKUP:1", String.class));
+    }
+
+    @Test
+    void testAddShardRemapsMinimalKeys() {
+        Map<String, String> before = owners();
+
+        addShard("redis-" + SHARDS);
+        Map<String, String> after = owners();
+
+        long moved = before.keySet().stream().filter(key -> !before.get(key).equals(after.get(key))).count();
+        // 이상적인 이동 비율은 1/(N+1) = 20%
+        assertTrue(moved > KEYS * 0.1 && moved < KEYS * 0.3, "moved : " + moved);
+        // 옮겨진 키는 모두 새 샤드로 이동
+        before.keySet().stream()
+                .filter(key -> !before.get(key).equals(after.get(key)))
+                .forEach(key -> assertEquals("redis-" + SHARDS, after.get(key)));
+    }
+
+    @Test
+    void testRemoveShardRemapsOnlyItsKeys() {
+        AtomicBoolean closed = new AtomicBoolean();
+        CaffeineCacheService extra = new CaffeineCacheService();
+        cacheService.addShard("redis-extra", extra, () -> closed.set(true));
+        Map<String, String> before = owners();
+
+        cacheService.removeShard("redis-extra");
+        Map<String, String> after = owners();
+
+        assertTrue(closed.get());
+        before.forEach((key, owner) -> {
+            if (!owner.equals("redis-extra")) {
+                assertEquals(owner, after.get(key)); // 다른 샤드의 키는 그대로
+            }
+        });
+        assertFalse(after.containsValue("redis-extra"));
+    }
+
+    @Test
+    void testLoaderRegisteredOnAddedShard() {
+        cacheService.registerLoader("CODE", key -> "loaded");
+        CountingLoaderShard added = new CountingLoaderShard();
+        cacheService.addShard("redis-new", added);
+
+        assertTrue(added.registered.contains("CODE"));
+    }
+
+    @Test
+    void testFanOutRetriesFailedShardOnce() {
+        FailingShard flaky = new FailingShard(1); // 한 번만 실패
+        cacheService.addShard("redis-flaky", flaky);
+        shards.values().forEach(shard -> shard.put("CODE:A", "value"));
+        flaky.put("CODE:A", "value");
+
+        cacheService.clearAll();
+
+        assertEquals(2, flaky.clearCalls.get());
+        assertNull(flaky.get("CODE:A", String.class));
+        shards.values().forEach(shard -> assertNull(shard.get("CODE:A", String.class)));
+    }
+
+    @Test
+    void testFanOutReportsShardsFailingAfterRetry() {
+        FailingShard broken = new FailingShard(Integer.MAX_VALUE);
+        cacheService.addShard("redis-broken", broken);
+        shards.values().forEach(shard -> shard.put("CODE:A", "value"));
+
+        ShardedCacheService.PartialFailureException e =
+                assertThrows(ShardedCacheService.PartialFailureException.class, () -> cacheService.clearAll());
+
+        assertEquals(Set.of("redis-broken"), e.getFailedShards());
+        assertEquals(2, broken.clearCalls.get());
+        shards.values().forEach(shard -> assertNull(shard.get("CODE:A", String.class))); // 나머지 샤드는 반영
+    }
+
+    private void addShard(String name) {
+        CaffeineCacheService shard = new CaffeineCacheService();
+        shards.put(name, shard);
+        cacheService.addShard(name, shard);
+    }
+
+    private Map<String, String> owners() {
+        Map<String, String> owners = new HashMap<>();
+        keys().forEach(key -> owners.put(key, cacheService.shardOf(key)));
+        return owners;
+    }
+
+    private List<String> keys() {
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < KEYS; i++) {
+            keys.add("CODE:ROOT_" + i);
+        }
+        return keys;
+    }
+
+    private static class FailingShard extends CaffeineCacheService {
+
+        private final int failures;
+        private final AtomicInteger clearCalls = new AtomicInteger();
+
+        private FailingShard(int failures) {
+            this.failures = failures;
+        }
+
+        @Override
+        public void clearAll() {
+            if (clearCalls.incrementAndGet() <= failures) {
+                throw new IllegalStateException("shard down");
+            }
+            super.clearAll();
+        }
+    }
+
+    private static class CountingLoaderShard extends CaffeineCacheService {
+
+        private final List<String> registered = new ArrayList<>();
+
+        @Override
+        public void registerLoader(String cacheGroupName, java.util.function.Function<String, Object> loader) {
+            registered.add(cacheGroupName);
+            super.registerLoader(cacheGroupName, loader);
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SingleFlightTest {
+
+    private final SingleFlight singleFlight = new SingleFlight();
+
+    @Test
+    void testConcurrentLoadsAreCoalesced() throws Exception {
+        int threads = 8;
+        AtomicInteger loadCount = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> singleFlight.execute("CODE:A", () -> {
+                loadCount.incrementAndGet();
+                await(release);
+                return "loaded";
+            })));
+        }
+        // 모든 호출이 합류할 시간을 준 뒤 로딩 완료
+        Thread.sleep(200);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loadCount.get());
+        executor.shutdown();
+    }
+
+    @Test
+    void testExceptionIsPropagatedAndNotCached() {
+        assertThrows(IllegalStateException.class, () -> singleFlight.execute("CODE:A", () -> {
+            throw new IllegalStateException("load failed");
+        }));
+
+        assertEquals("retry", singleFlight.execute("CODE:A", () -> "retry"));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
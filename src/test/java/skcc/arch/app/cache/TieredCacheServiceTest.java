@@ -0,0 +1,148 @@
+package skcc.arch.app.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 메모리 원격 캐시를 공유하는 두 노드 (무효화 메시지는 onMessage 로 동기 전달)
+ */
+class TieredCacheServiceTest {
+
+    private static final String CHANNEL = "my-cache:invalidation";
+
+    private final AtomicReference<Runnable> duringRemoteRead = new AtomicReference<>(); // 원격 조회 중 끼어들 작업
+    private final FakePubSubTemplate pubSub = new FakePubSubTemplate();
+    private final List<String> published = pubSub.published;
+    private CaffeineCacheService localA;
+    private CaffeineCacheService localB;
+    private TieredCacheService nodeA;
+    private TieredCacheService nodeB;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheService remote = new CaffeineCacheService() {
+            @Override
+            public <T> T get(String key, Class<T> type) {
+                T value = super.get(key, type);
+                runDuringRemoteRead();
+                return value;
+            }
+
+            @Override
+            public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+                Map<String, T> values = super.getAll(keys, type);
+                runDuringRemoteRead();
+                return values;
+            }
+        };
+        localA = new CaffeineCacheService();
+        localB = new CaffeineCacheService();
+        nodeA = new TieredCacheService(localA, remote, pubSub, CHANNEL);
+        nodeB = new TieredCacheService(localB, remote, pubSub, CHANNEL);
+        pubSub.subscribers.add(nodeA);
+        pubSub.subscribers.add(nodeB);
+    }
+
+    @Test
+    void testPutInvalidatesOtherNode() {
+        nodeA.put("CODE:A", "v1");
+        assertEquals("v1", nodeB.get("CODE:A", String.class));
+        assertEquals("v1", localB.get("CODE:A", String.class)); // 원격 값을 로컬에 적재
+
+        nodeA.put("CODE:A", "v2");
+
+        assertNull(localB.get("CODE:A", String.class));
+        assertEquals("v2", nodeB.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testOwnMessageIsIgnored() {
+        nodeA.put("CODE:A", "v1");
+
+        assertEquals(1, published.size());
+        assertEquals("v1", localA.get("CODE:A", String.class)); // 자신이 발행한 무효화로 로컬 값을 지우지 않음
+    }
+
+    @Test
+    void testInvalidationDuringRemoteGetIsNotCached() {
+        nodeA.put("CODE:A", "v1");
+        // nodeB 가 원격에서 v1 을 읽은 직후 nodeA 가 v2 저장
+        duringRemoteRead.set(() -> nodeA.put("CODE:A", "v2"));
+
+        assertEquals("v1", nodeB.get("CODE:A", String.class));
+
+        assertNull(localB.get("CODE:A", String.class)); // v1 을 로컬에 적재하지 않음
+        assertEquals("v2", nodeB.get("CODE:A", String.class));
+    }
+
+    @Test
+    void testInvalidationDuringRemoteGetAllIsNotCached() {
+        nodeA.putAll(Map.of("CODE:A", "v1", "CODE:B", "v1"));
+        duringRemoteRead.set(() -> nodeA.evict("CODE:B"));
+
+        assertEquals(Map.of("CODE:A", "v1", "CODE:B", "v1"), nodeB.getAll(List.of("CODE:A", "CODE:B"), String.class));
+
+        assertTrue(localB.getAll(List.of("CODE:A", "CODE:B"), String.class).isEmpty());
+        assertEquals(Map.of("CODE:A", "v1"), nodeB.getAll(List.of("CODE:A", "CODE:B"), String.class));
+    }
+
+    @Test
+    void testInvalidationDuringRemoteGetAsyncIsNotCached() {
+        nodeA.put("CODE:A", "v1");
+        duringRemoteRead.set(() -> nodeA.put("CODE:A", "v2"));
+
+        assertEquals("v1", nodeB.getAsync("CODE:A", String.class).join());
+
+        assertNull(localB.get("CODE:A", String.class));
+        assertEquals("v2", nodeB.getAsync("CODE:A", String.class).join());
+    }
+
+    @Test
+    void testPutAllIfNewerEvictsLocalEntries() {
+        nodeA.put("CODE:A", "v1");
+        assertEquals("v1", nodeB.get("CODE:A", String.class));
+
+        nodeA.putAllIfNewer(Map.of("CODE:A", new CacheService.Versioned("v2", 2)));
+
+        assertNull(localA.get("CODE:A", String.class)); // 원격에 저장된 값만 다음 조회 때 적재
+        assertNull(localB.get("CODE:A", String.class));
+        assertEquals("v2", nodeA.get("CODE:A", String.class));
+        assertEquals("v2", nodeB.get("CODE:A", String.class));
+    }
+
+    private void runDuringRemoteRead() {
+        Runnable action = duringRemoteRead.getAndSet(null);
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    /**
+     * 발행한 메시지를 구독 노드의 onMessage 로 바로 전달 (Redis 연결 없음)
+     */
+    private static class FakePubSubTemplate extends StringRedisTemplate {
+
+        private final List<TieredCacheService> subscribers = new CopyOnWriteArrayList<>();
+        private final List<String> published = new CopyOnWriteArrayList<>();
+
+        @Override
+        public Long convertAndSend(String channel, Object message) {
+            published.add((String) message);
+            DefaultMessage received = new DefaultMessage(channel.getBytes(StandardCharsets.UTF_8),
+                    ((String) message).getBytes(StandardCharsets.UTF_8));
+            subscribers.forEach(subscriber -> subscriber.onMessage(received, null));
+            return (long) subscribers.size();
+        }
+    }
+}
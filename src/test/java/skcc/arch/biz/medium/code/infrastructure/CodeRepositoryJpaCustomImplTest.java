@@ -14,11 +14,14 @@ import skcc.arch.biz.code.domain.Code;
 import skcc.arch.biz.code.infrastructure.jpa.CodeConditionBuilder;
 import skcc.arch.biz.code.infrastructure.jpa.CodeEntity;
 import skcc.arch.biz.code.infrastructure.jpa.CodeRepositoryJpa;
+import skcc.arch.biz.code.infrastructure.jpa.CodeRepositoryJpaCustomImpl;
 import skcc.arch.biz.code.infrastructure.jpa.CodeSearchCondition;
 import skcc.arch.biz.common.infrastructure.jpa.JpaConfig;
 
 import java.util.List;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import static skcc.arch.biz.code.infrastructure.jpa.QCodeEntity.codeEntity;
 
 @ExtendWith(SpringExtension.class)
@@ -139,4 +142,32 @@ class CodeRepositoryJpaCustomImplTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    void 전체_트리_단일_조회() throws Exception {
+        //given
+        CodeRepositoryJpaCustomImpl repository = new CodeRepositoryJpaCustomImpl(repositoryJpa, queryFactory);
+
+        //when
+        long start = System.currentTimeMillis();
+        List<Code> trees = repository.findAllTrees();
+        log.info("Time : {}", System.currentTimeMillis() - start);
+
+        //then - 루트별 트리가 기존 지연 로딩 방식(findAllLeafNodes)과 같다
+        List<Code> roots = repository.findByParentCodeId(null);
+        assertThat(trees).hasSameSizeAs(roots);
+        entityManager.clear();
+        for (Code tree : trees) {
+            assertSameTree(tree, repository.findAllLeafNodes(tree.getId()));
+        }
+    }
+
+    private void assertSameTree(Code actual, Code expected) {
+        assertThat(actual.getCode()).isEqualTo(expected.getCode());
+        assertThat(actual.getParentCodeId()).isEqualTo(expected.getParentCodeId());
+        assertThat(actual.getChild()).hasSameSizeAs(expected.getChild());
+        for (int i = 0; i < actual.getChild().size(); i++) {
+            assertSameTree(actual.getChild().get(i), expected.getChild().get(i));
+        }
+    }
+
+}
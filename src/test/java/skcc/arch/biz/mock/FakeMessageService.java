@@ -0,0 +1,50 @@
+package skcc.arch.biz.mock;
+
+import skcc.arch.app.message.MessageService;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * 메모리 브로드캐스트 (발행 시 모든 구독자에게 동기 전달)
+ */
+public class FakeMessageService implements MessageService {
+
+    private final Map<String, List<MessageHandler>> subscribers = new ConcurrentHashMap<>();
+    private final List<String> broadcasts = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publishMessage(String destination, String message) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void subscribeToMessages(String destination, MessageHandler handler) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public String pullMessage(String destination) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void broadcastMessage(String topic, String message) {
+        broadcasts.add(message);
+        subscribers.getOrDefault(topic, List.of()).forEach(handler -> handler.handleMessage(message));
+    }
+
+    @Override
+    public void subscribeToBroadcast(String topic, MessageHandler handler) {
+        subscribers.computeIfAbsent(topic, k -> new CopyOnWriteArrayList<>()).add(handler);
+    }
+
+    /**
+     * 발행된 브로드캐스트 메시지
+     */
+    public List<String> getBroadcasts() {
+        return broadcasts;
+    }
+}
@@ -0,0 +1,52 @@
+package skcc.arch.biz.mock;
+
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+/**
+ * 자원 없이 전파(REQUIRES_NEW, NOT_SUPPORTED), 동기화만 수행하는 트랜잭션 매니저
+ */
+public class FakeTransactionManager extends AbstractPlatformTransactionManager {
+
+    private final ThreadLocal<Boolean> active = ThreadLocal.withInitial(() -> false);
+
+    @Override
+    protected Object doGetTransaction() {
+        return new Object();
+    }
+
+    @Override
+    protected boolean isExistingTransaction(Object transaction) {
+        return active.get();
+    }
+
+    @Override
+    protected void doBegin(Object transaction, TransactionDefinition definition) {
+        active.set(true);
+    }
+
+    @Override
+    protected Object doSuspend(Object transaction) {
+        active.set(false);
+        return Boolean.TRUE;
+    }
+
+    @Override
+    protected void doResume(Object transaction, Object suspendedResources) {
+        active.set(true);
+    }
+
+    @Override
+    protected void doCommit(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doRollback(DefaultTransactionStatus status) {
+    }
+
+    @Override
+    protected void doCleanupAfterCompletion(Object transaction) {
+        active.set(false);
+    }
+}
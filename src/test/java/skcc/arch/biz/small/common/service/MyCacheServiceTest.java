@@ -0,0 +1,219 @@
+package skcc.arch.biz.small.common.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.transaction.support.TransactionTemplate;
+import skcc.arch.app.cache.BroadcastInvalidationCacheService;
+import skcc.arch.app.cache.CacheMetrics;
+import skcc.arch.app.cache.CacheProperties;
+import skcc.arch.app.cache.CacheService;
+import skcc.arch.app.cache.CacheSnapshotService;
+import skcc.arch.app.cache.CacheWarmupCoordinator;
+import skcc.arch.app.cache.CacheWarmupHealthIndicator;
+import skcc.arch.app.cache.CaffeineCacheService;
+import skcc.arch.app.message.MessageService;
+import skcc.arch.biz.code.service.port.CodeRepositoryPort;
+import skcc.arch.biz.common.constants.CacheGroup;
+import skcc.arch.biz.common.service.MyCacheService;
+import skcc.arch.biz.mock.FakeMessageService;
+import skcc.arch.biz.mock.FakeTransactionManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class MyCacheServiceTest {
+
+    private final FakeTransactionManager transactionManager = new FakeTransactionManager();
+    private final FakeMessageService messageService = new FakeMessageService();
+    private final CacheProperties cacheProperties = new CacheProperties();
+    private final StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+    private MyCacheService myCacheService;
+
+    @BeforeEach
+    void setUp() {
+        cacheProperties.getBloomFilter().setEnabled(false);
+        cacheProperties.getInvalidation().setBatchInterval(Duration.ofHours(1)); // 발행만 확인
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (myCacheService != null) {
+            myCacheService.destroy();
+        }
+    }
+
+    @Test
+    void testRefreshAfterCommitPublishesInvalidation() {
+        myCacheService = newMyCacheService(broadcasting(new CaffeineCacheService()));
+        myCacheService.registerLoader(CacheGroup.CODE_LOOKUP, key -> "loaded-" + key);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            myCacheService.refreshAfterCommit(CacheGroup.CODE_LOOKUP, "A");
+            assertTrue(messageService.getBroadcasts().isEmpty()); // 커밋 전 미발행
+        });
+
+        assertEquals("loaded-A", myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+        // 완료 중인 트랜잭션(afterCommit)의 저장도 다른 노드에 발행
+        assertEquals(1, messageService.getBroadcasts().size());
+        assertTrue(messageService.getBroadcasts().get(0).endsWith("CODE_LOOKUP:A"));
+    }
+
+    @Test
+    void testFailedRefreshAfterCommitPublishesInvalidation() {
+        myCacheService = newMyCacheService(broadcasting(new CaffeineCacheService()));
+        myCacheService.registerLoader(CacheGroup.CODE_LOOKUP, key -> {
+            throw new IllegalStateException("db down");
+        });
+        myCacheService.put(CacheGroup.CODE_LOOKUP, "A", "old");
+        messageService.getBroadcasts().clear();
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                myCacheService.refreshAfterCommit(CacheGroup.CODE_LOOKUP, "A"));
+
+        assertNull(myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+        assertEquals(1, messageService.getBroadcasts().size());
+    }
+
+    @Test
+    void testRefreshIsSkippedOnRollback() {
+        myCacheService = newMyCacheService(broadcasting(new CaffeineCacheService()));
+        myCacheService.registerLoader(CacheGroup.CODE_LOOKUP, key -> "loaded-" + key);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            myCacheService.refreshAfterCommit(CacheGroup.CODE_LOOKUP, "A");
+            status.setRollbackOnly();
+        });
+
+        assertNull(myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+        assertTrue(messageService.getBroadcasts().isEmpty());
+    }
+
+    @Test
+    void testWaiterUsesValueCachedByLockHolder() {
+        LockingCacheService cacheService = new LockingCacheService();
+        myCacheService = newMyCacheService(cacheService);
+        String token = cacheService.tryLock("CODE_LOOKUP:A", Duration.ofSeconds(5)); // 다른 노드가 로딩 중
+        AtomicInteger loads = new AtomicInteger();
+
+        runLater(() -> {
+            cacheService.put("CODE_LOOKUP:A", "fromHolder");
+            cacheService.unlock("CODE_LOOKUP:A", token);
+        });
+        String value = myCacheService.getOrLoad(CacheGroup.CODE_LOOKUP, "A", String.class, () -> "loaded" + loads.incrementAndGet());
+
+        assertEquals("fromHolder", value);
+        assertEquals(0, loads.get());
+    }
+
+    @Test
+    void testWaiterLoadsAfterHolderReleasesWithoutCaching() {
+        LockingCacheService cacheService = new LockingCacheService();
+        myCacheService = newMyCacheService(cacheService);
+        String token = cacheService.tryLock("CODE_LOOKUP:A", Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+
+        runLater(() -> cacheService.unlock("CODE_LOOKUP:A", token)); // 캐시하지 않는 결과 (적재 없이 해제)
+        String value = myCacheService.getOrLoad(CacheGroup.CODE_LOOKUP, "A", String.class, () -> "loaded" + loads.incrementAndGet());
+
+        assertEquals("loaded1", value);
+        assertEquals(1, loads.get());
+        assertEquals("loaded1", myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+        assertTrue(cacheService.locks.isEmpty()); // 대기 중 획득한 락 해제
+    }
+
+    @Test
+    void testUncacheableKeyIsLoadedWithoutLock() {
+        LockingCacheService cacheService = new LockingCacheService();
+        myCacheService = newMyCacheService(cacheService);
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("loaded1", myCacheService.getOrLoad(CacheGroup.CODE_LOOKUP, "A", String.class,
+                () -> "loaded" + loads.incrementAndGet(), value -> false));
+        assertEquals(1, cacheService.tryLockCalls.get());
+        assertTrue(cacheService.locks.isEmpty());
+
+        // 다른 노드가 락을 보유해도 기다리지 않고 로딩 (기다려도 적재되지 않음)
+        cacheService.tryLock("CODE_LOOKUP:A", Duration.ofSeconds(5));
+        long start = System.nanoTime();
+        assertEquals("loaded2", myCacheService.getOrLoad(CacheGroup.CODE_LOOKUP, "A", String.class,
+                () -> "loaded" + loads.incrementAndGet(), value -> false));
+
+        assertEquals(2, cacheService.tryLockCalls.get()); // 다른 노드의 획득만
+        assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(1)) < 0);
+        assertNull(myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+    }
+
+    @Test
+    void testLockErrorFallsBackToLoadWithoutLock() {
+        LockingCacheService cacheService = new LockingCacheService();
+        cacheService.lockError = new IllegalStateException("redis down");
+        myCacheService = newMyCacheService(cacheService);
+
+        String value = myCacheService.getOrLoad(CacheGroup.CODE_LOOKUP, "A", String.class, () -> "loaded");
+
+        assertEquals("loaded", value);
+        assertEquals("loaded", myCacheService.get(CacheGroup.CODE_LOOKUP, "A", String.class));
+        assertEquals(0, cacheService.unlockCalls.get()); // 락 없이 로딩했으므로 해제하지 않음
+    }
+
+    private static void runLater(Runnable action) {
+        Thread thread = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            action.run();
+        });
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private CacheService broadcasting(CacheService local) {
+        return new BroadcastInvalidationCacheService(local, messageService, cacheProperties.getInvalidation(), new CacheMetrics());
+    }
+
+    private MyCacheService newMyCacheService(CacheService cacheService) {
+        MyCacheService service = new MyCacheService(cacheService, mock(CodeRepositoryPort.class), cacheProperties,
+                transactionManager, new CacheMetrics(), new CacheWarmupHealthIndicator(), CacheWarmupCoordinator.LOCAL,
+                beanFactory.getBeanProvider(CacheSnapshotService.class), beanFactory.getBeanProvider(MessageService.class));
+        service.init();
+        return service;
+    }
+
+    /**
+     * 노드간 락을 흉내내는 로컬 캐시 (토큰 비교 후 해제)
+     */
+    private static class LockingCacheService extends CaffeineCacheService {
+
+        private final Map<String, String> locks = new ConcurrentHashMap<>();
+        private final AtomicInteger tryLockCalls = new AtomicInteger();
+        private final AtomicInteger unlockCalls = new AtomicInteger();
+        private volatile RuntimeException lockError;
+
+        @Override
+        public String tryLock(String key, Duration leaseTime) {
+            tryLockCalls.incrementAndGet();
+            if (lockError != null) {
+                throw lockError;
+            }
+            String token = UUID.randomUUID().toString();
+            return locks.putIfAbsent(key, token) == null ? token : null;
+        }
+
+        @Override
+        public void unlock(String key, String token) {
+            unlockCalls.incrementAndGet();
+            locks.remove(key, token);
+        }
+    }
+}